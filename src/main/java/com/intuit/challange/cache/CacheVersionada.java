@@ -0,0 +1,96 @@
+package com.intuit.challange.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.intuit.challange.dto.ClienteResponse;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+/**
+ * CaffeineCache de clientes por id que nunca deja una versión (@Version) encima de una más nueva.
+ * <p>
+ * Con cache-aside, una lectura que tomó la versión N puede guardar después de que una escritura
+ * confirmó N+1. Por eso las escrituras guardan su resultado (@CachePut) y {@link #put} compara
+ * versiones: la lectura atrasada no reemplaza a la escritura. Una baja ({@link #evict}) deja una
+ * marca que tampoco se reemplaza; los ids salen de una secuencia, así ninguna lectura anterior
+ * a la baja vuelve a guardar al cliente. La marca vence con el resto de la caché.
+ * <p>
+ * {@code adaptar} convierte lo que llega por @CachePut (un ClienteResponse) en el valor guardado.
+ */
+public class CacheVersionada extends CaffeineCache {
+
+    private static final Object BAJA = new Object();
+
+    private final UnaryOperator<Object> adaptar;
+
+    public CacheVersionada(String nombre, Cache<Object, Object> cache, UnaryOperator<Object> adaptar) {
+        super(nombre, cache, false);
+        this.adaptar = adaptar;
+    }
+
+    /** Guarda {@code valor} salvo que haya una versión más nueva o una baja; devuelve lo que quedó guardado. */
+    public Object guardar(Object key, Object valor) {
+        Object guardado = getNativeCache().asMap().merge(key, valor, CacheVersionada::masReciente);
+        return guardado == BAJA ? null : guardado;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object valor = super.lookup(key);
+        return valor == BAJA ? null : valor;
+    }
+
+    // La carga corre fuera del mapa: el cómputo de Caffeine no queda tomado durante la consulta
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object guardado = lookup(key);
+        if (guardado != null) {
+            return (T) guardado;
+        }
+        T valor;
+        try {
+            valor = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, valor);
+        return valor;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value != null) {
+            guardar(key, adaptar.apply(value));
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object anterior = getNativeCache().asMap().putIfAbsent(key, adaptar.apply(value));
+        return anterior == null ? null : toValueWrapper(anterior == BAJA ? null : anterior);
+    }
+
+    @Override
+    public void evict(Object key) {
+        getNativeCache().put(key, BAJA);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        Object anterior = getNativeCache().asMap().put(key, BAJA);
+        return anterior != null && anterior != BAJA;
+    }
+
+    private static Object masReciente(Object actual, Object nuevo) {
+        if (actual == BAJA || version(nuevo) < version(actual)) {
+            return actual;
+        }
+        return nuevo;
+    }
+
+    private static long version(Object valor) {
+        return valor instanceof ClienteJson json ? json.getVersion() : ClienteEtag.version((ClienteResponse) valor);
+    }
+}
@@ -0,0 +1,68 @@
+package com.intuit.challange.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Una sola carga en curso por clave: quien llega mientras otro está cargando la misma clave
+ * espera ese resultado (o esa excepción) en lugar de repetir la consulta. La carga corre fuera
+ * del mapa (no es un computeIfAbsent), así una consulta lenta no bloquea otras claves.
+ * Al terminar la clave se libera: no es una caché, el próximo llamado vuelve a cargar.
+ */
+public final class CargaCompartida<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> enCurso = new ConcurrentHashMap<>();
+    private final LongAdder compartidas = new LongAdder();
+
+    public V cargar(K clave, Supplier<V> carga) {
+        CompletableFuture<V> propia = new CompletableFuture<>();
+        CompletableFuture<V> actual = enCurso.putIfAbsent(clave, propia);
+        if (actual != null) {
+            compartidas.increment();
+            return esperar(actual);
+        }
+
+        try {
+            V valor = carga.get();
+            propia.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error ex) {
+            propia.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            enCurso.remove(clave, propia);
+        }
+    }
+
+    /** Los llamados siguientes no se suman a la carga en curso (p. ej. después de una escritura). */
+    public void olvidar(K clave) {
+        enCurso.remove(clave);
+    }
+
+    /** Como {@link #olvidar} para todas las claves en curso. */
+    public void olvidarTodas() {
+        enCurso.clear();
+    }
+
+    /** Llamados que recibieron el resultado de otro en lugar de cargar. */
+    public long compartidas() {
+        return compartidas.sum();
+    }
+
+    private static <V> V esperar(CompletableFuture<V> carga) {
+        try {
+            return carga.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.intuit.challange.cache;
+
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.PagedResponse;
+import com.intuit.challange.exception.PrecondicionFallidaException;
+import org.springframework.http.ETag;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ETags fuertes de clientes y páginas.
+ * <ul>
+ *   <li>Cliente: {@code "<id>-<version>"}, con la columna version (@Version) de la entidad.</li>
+ *   <li>Página: la fecha de modificación más nueva de sus filas más un hash de los ids, las versiones
+ *       y la metadata, así una baja o un cambio de orden también cambian el ETag.</li>
+ * </ul>
+ */
+public final class ClienteEtag {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private ClienteEtag() {
+    }
+
+    public static long version(ClienteResponse cliente) {
+        return cliente.getVersion() != null ? cliente.getVersion() : 0L;
+    }
+
+    public static String de(Long id, long version) {
+        return id + "-" + version;
+    }
+
+    public static String de(ClienteResponse cliente) {
+        return de(cliente.getId(), version(cliente));
+    }
+
+    public static String dePagina(PagedResponse<ClienteResponse> pagina) {
+        long maxima = 0L;
+        long hash = Objects.hash(pagina.getPage(), pagina.getNextCursor());
+        for (ClienteResponse cliente : pagina.getContent()) {
+            if (cliente.getFechaModificacion() != null) {
+                maxima = Math.max(maxima, ChronoUnit.MICROS.between(EPOCH, cliente.getFechaModificacion()));
+            }
+            hash = 31 * (31 * hash + Objects.hashCode(cliente.getId())) + version(cliente);
+        }
+        return Long.toHexString(maxima) + "-" + Long.toHexString(hash);
+    }
+
+    /** Comparación débil de If-None-Match (RFC 9110 13.1.2), con soporte de "*" y listas. */
+    public static boolean coincide(String ifNoneMatch, String etag) {
+        ETag actual = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidato -> candidato.isWildcard() || candidato.compare(actual, false));
+    }
+
+    /**
+     * Versión que exige un If-Match para el cliente {@code id}; null con "*" (alcanza con que exista).
+     * Se acepta un solo ETag fuerte de ese cliente: cualquier otro valor no puede coincidir.
+     */
+    public static Long versionEsperada(String ifMatch, Long id) {
+        List<ETag> etags = ETag.parse(ifMatch);
+        if (etags.size() == 1 && etags.get(0).isWildcard()) {
+            return null;
+        }
+        String prefijo = id + "-";
+        if (etags.size() != 1 || etags.get(0).weak() || !etags.get(0).tag().startsWith(prefijo)) {
+            throw new PrecondicionFallidaException("If-Match debe ser un único ETag fuerte de este cliente");
+        }
+        try {
+            return Long.parseLong(etags.get(0).tag().substring(prefijo.length()));
+        } catch (NumberFormatException e) {
+            throw new PrecondicionFallidaException("If-Match debe ser un único ETag fuerte de este cliente");
+        }
+    }
+}
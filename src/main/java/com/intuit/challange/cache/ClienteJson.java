@@ -0,0 +1,49 @@
+package com.intuit.challange.cache;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * JSON final de un ClienteResponse guardado fuera del heap (ByteBuffer directo).
+ * {@code version} es la del cliente al momento de serializarlo.
+ */
+@Getter
+public final class ClienteJson {
+
+    private final Long id;
+    private final long version;
+    private final ByteBuffer bytes;
+
+    private ClienteJson(Long id, long version, ByteBuffer bytes) {
+        this.id = id;
+        this.version = version;
+        this.bytes = bytes;
+    }
+
+    public static ClienteJson de(Long id, long version, byte[] json) {
+        ByteBuffer directo = ByteBuffer.allocateDirect(json.length);
+        directo.put(json).flip();
+        return new ClienteJson(id, version, directo.asReadOnlyBuffer());
+    }
+
+    public int longitud() {
+        return bytes.capacity();
+    }
+
+    /**
+     * Escribe el JSON por un canal: si el stream ya es un {@link WritableByteChannel} recibe el
+     * buffer directo tal cual; si no, se copia por tramos sin armar un byte[] del tamaño completo.
+     */
+    public void escribir(OutputStream out) throws IOException {
+        ByteBuffer datos = bytes.duplicate();
+        WritableByteChannel canal = out instanceof WritableByteChannel propio ? propio : Channels.newChannel(out);
+        while (datos.hasRemaining()) {
+            canal.write(datos);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.intuit.challange.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intuit.challange.config.CacheConfig;
+import com.intuit.challange.dto.ClienteResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Caché de GET /api/clientes/{id} con el JSON ya serializado fuera del heap: un acierto
+ * no toca la base ni Jackson y el controller escribe los bytes tal cual.
+ * <p>
+ * La clave es el id y cada entrada guarda la versión del cliente (@Version) para el ETag.
+ * Es una {@link CacheVersionada} registrada en el CacheManager como {@link CacheConfig#CLIENTES_JSON}:
+ * las escrituras de ClienteServiceImpl guardan el JSON nuevo con el mismo @CachePut que la caché de
+ * objetos, y ni una lectura atrasada ni una anterior a la baja lo pisan. El tamaño se limita en bytes.
+ */
+@Component
+@Profile("!reactive")
+public class ClienteJsonCache implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final CacheVersionada cache;
+
+    public ClienteJsonCache(
+            ObjectMapper objectMapper,
+            @Value("${app.cache.json.capacidad-bytes:67108864}") long capacidadBytes,
+            @Value("${app.cache.json.expiracion:10m}") Duration expiracion) {
+
+        this.objectMapper = objectMapper;
+        // Las bajas no pesan: solo ocupan lugar hasta que vencen
+        Cache<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumWeight(capacidadBytes)
+                .weigher((Object id, Object valor) -> valor instanceof ClienteJson json ? json.longitud() : 0)
+                .expireAfterWrite(expiracion)
+                .recordStats()
+                .build();
+        this.cache = new CacheVersionada(CacheConfig.CLIENTES_JSON, caffeine, this::json);
+    }
+
+    /**
+     * Devuelve el JSON guardado o lo arma con {@code cargar}. La carga (la consulta y Jackson)
+     * corre fuera de la caché: no toma el lock del cómputo de Caffeine, así no fija el carrier de
+     * un virtual thread ni demora a un @CacheEvict u otros ids mientras espera a la base. Si
+     * mientras tanto una escritura guardó una versión más nueva (o dio de baja al cliente), el
+     * resultado no se guarda y el siguiente GET ve lo de la escritura.
+     */
+    public ClienteJson obtener(Long id, Function<Long, ClienteResponse> cargar) {
+        ClienteJson guardado = buscar(id);
+        if (guardado != null) {
+            return guardado;
+        }
+        ClienteJson cargado = json(cargar.apply(id));
+        return cache.guardar(id, cargado) instanceof ClienteJson actual ? actual : cargado;
+    }
+
+    /** Entrada guardada, sin cargarla si falta. */
+    public ClienteJson buscar(Long id) {
+        return (ClienteJson) cache.get(id, ClienteJson.class);
+    }
+
+    /** La caché de Spring (CLIENTES_JSON) sobre la que operan @CachePut y @CacheEvict. */
+    public CacheVersionada cache() {
+        return cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.offheap.bytes", cache.getNativeCache(),
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .tag("cache", CacheConfig.CLIENTES_JSON)
+                .description("Bytes de JSON guardados fuera del heap")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    // @CachePut entrega el ClienteResponse de la escritura
+    private ClienteJson json(Object valor) {
+        if (valor instanceof ClienteJson json) {
+            return json;
+        }
+        ClienteResponse response = (ClienteResponse) valor;
+        return ClienteJson.de(response.getId(), ClienteEtag.version(response), serializar(response));
+    }
+
+    private byte[] serializar(ClienteResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el cliente " + response.getId(), e);
+        }
+    }
+}
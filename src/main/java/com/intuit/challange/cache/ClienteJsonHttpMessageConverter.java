@@ -0,0 +1,49 @@
+package com.intuit.challange.cache;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Escribe un {@link ClienteJson} como application/json copiando sus bytes, sin Jackson.
+ * Spring Boot agrega los HttpMessageConverter declarados como bean antes que los propios.
+ */
+@Component
+@Profile("!reactive")
+public class ClienteJsonHttpMessageConverter extends AbstractHttpMessageConverter<ClienteJson> {
+
+    public ClienteJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ClienteJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ClienteJson readInternal(Class<? extends ClienteJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ClienteJson solo se escribe", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ClienteJson json, MediaType contentType) {
+        return (long) json.longitud();
+    }
+
+    @Override
+    protected void writeInternal(ClienteJson json, HttpOutputMessage outputMessage) throws IOException {
+        json.escribir(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,68 @@
+package com.intuit.challange.cache;
+
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.PagedResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Lecturas iguales y simultáneas de ClienteController comparten una sola llamada al servicio
+ * ({@link CargaCompartida}): buscarPorId por id y buscarPorNombre por nombre, cursor y página.
+ * Se aplica antes que la transacción y, por id, fuera de la caché de JSON (ClienteJsonCache carga
+ * fuera del cómputo de Caffeine), así los que esperan no toman conexión del pool.
+ * Protege a la base cuando vence la caché o después de un deploy, con muchos pidiendo lo mismo.
+ */
+@Component
+@Profile("!reactive")
+public class LecturasCompartidas implements MeterBinder {
+
+    static final String METRICA_COMPARTIDAS = "clientes.lecturas.compartidas";
+
+    private final CargaCompartida<Long, ClienteResponse> porId = new CargaCompartida<>();
+    private final CargaCompartida<Busqueda, PagedResponse<ClienteResponse>> busquedas = new CargaCompartida<>();
+
+    public ClienteResponse buscarPorId(Long id, Supplier<ClienteResponse> carga) {
+        return porId.cargar(id, carga);
+    }
+
+    public PagedResponse<ClienteResponse> buscarPorNombre(
+            String nombre, String after, Pageable pageable, Supplier<PagedResponse<ClienteResponse>> carga) {
+
+        return busquedas.cargar(new Busqueda(nombre.trim(), after, pageable), carga);
+    }
+
+    /*
+     * Después de una escritura, los requests siguientes no reciben una lectura que empezó antes:
+     * la del id y cualquier búsqueda en curso, que puede incluir (o no) al cliente escrito.
+     */
+    public void olvidar(Long id) {
+        porId.olvidar(id);
+        busquedas.olvidarTodas();
+    }
+
+    // Un alta no cambia ninguna lectura por id en curso, pero sí puede cambiar una búsqueda
+    public void olvidarBusquedas() {
+        busquedas.olvidarTodas();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRICA_COMPARTIDAS, porId, CargaCompartida::compartidas)
+                .description("Lecturas resueltas con la consulta en curso de otro request")
+                .tag("operacion", "buscarPorId")
+                .register(registry);
+        FunctionCounter.builder(METRICA_COMPARTIDAS, busquedas, CargaCompartida::compartidas)
+                .description("Lecturas resueltas con la consulta en curso de otro request")
+                .tag("operacion", "buscarPorNombre")
+                .register(registry);
+    }
+
+    private record Busqueda(String nombre, String after, Pageable pageable) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.intuit.challange.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intuit.challange.cache.CacheVersionada;
+import com.intuit.challange.cache.ClienteJsonCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * La caché se aplica antes que la transacción: un acierto devuelve el
+ * ClienteResponse sin abrir transacción ni pedir conexión al pool, y los
+ * @CachePut / @CacheEvict de las escrituras corren después del commit.
+ * Tamaño, TTL y estadísticas de {@link #CLIENTES} se configuran en spring.cache.caffeine.spec.
+ * <p>
+ * Las dos cachés son {@link CacheVersionada}: una lectura atrasada no pisa la versión que
+ * guardó una escritura. {@link #CLIENTES_JSON} es la caché de JSON serializado de
+ * {@link ClienteJsonCache}; se registra en el mismo CacheManager para que las escrituras
+ * la actualicen con el mismo @CachePut / @CacheEvict.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String CLIENTES = "clientes";
+    public static final String CLIENTES_JSON = "clientesJson";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${spring.cache.caffeine.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec,
+            ObjectProvider<ClienteJsonCache> jsonCache) {
+
+        List<Cache> caches = new ArrayList<>();
+        caches.add(new CacheVersionada(CLIENTES, Caffeine.from(spec).build(), UnaryOperator.identity()));
+        jsonCache.ifAvailable(json -> caches.add(json.cache()));
+
+        SimpleCacheManager manager = new SimpleCacheManager();
+        manager.setCaches(caches);
+        return manager;
+    }
+}
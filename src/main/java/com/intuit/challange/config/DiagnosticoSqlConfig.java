@@ -0,0 +1,41 @@
+package com.intuit.challange.config;
+
+import com.intuit.challange.diagnostico.ConsultaSqlListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource con datasource-proxy para medir cada sentencia JDBC
+ * (Hibernate y JdbcTemplate; el COPY de importación usa la API de copia del driver y no se mide).
+ * Con {@code app.sql.diagnostico.habilitado=false} el DataSource queda sin envolver.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "app.sql.diagnostico.habilitado", havingValue = "true", matchIfMissing = true)
+public class DiagnosticoSqlConfig {
+
+    // static: los BeanPostProcessor se registran antes que el resto de la configuración
+    @Bean
+    public static BeanPostProcessor diagnosticoSqlDataSourcePostProcessor(ObjectProvider<ConsultaSqlListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
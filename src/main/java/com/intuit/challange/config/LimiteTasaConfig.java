@@ -0,0 +1,27 @@
+package com.intuit.challange.config;
+
+import com.intuit.challange.limite.LimitadorTasa;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Aplica {@link LimitadorTasa} a los endpoints de ClienteController. Actuator y Swagger quedan
+ * afuera. Con {@code app.limite.habilitado=false} no hay limitador y nada se registra.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "app.limite.habilitado", havingValue = "true")
+@RequiredArgsConstructor
+public class LimiteTasaConfig implements WebMvcConfigurer {
+
+    private final LimitadorTasa limitador;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(limitador).addPathPatterns("/api/clientes", "/api/clientes/**");
+    }
+}
@@ -0,0 +1,45 @@
+package com.intuit.challange.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * http.server.requests con el tag {@code handler} (p. ej. "ClienteController.listar"):
+ * GET /api/clientes con y sin 'after' comparten uri, pero el histograma se puede
+ * filtrar por el método del controller que atendió el request.
+ * <p>
+ * Los histogramas de repositorio (spring.data.repository.invocations), Hikari y
+ * Caffeine los registra Spring Boot; se configuran en management.metrics.
+ */
+@Configuration
+@Profile("!reactive")
+public class MetricsConfig {
+
+    static final String TAG_HANDLER = "handler";
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod metodo) {
+            return KeyValue.of(TAG_HANDLER, metodo.getBeanType().getSimpleName() + "." + metodo.getMethod().getName());
+        }
+        return KeyValue.of(TAG_HANDLER, "none");
+    }
+}
@@ -0,0 +1,89 @@
+package com.intuit.challange.config;
+
+import com.intuit.challange.replica.BalanceadorReplicas;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Réplicas de lectura: con {@code app.datasource.replicas.urls} (JDBC, separadas por coma) las
+ * transacciones readOnly leen de las réplicas y el resto va a la primaria (spring.datasource).
+ * <p>
+ * El DataSource es un LazyConnectionDataSourceProxy: la conexión real se pide en la primera
+ * sentencia, cuando la transacción ya marcó la conexión como de solo lectura, y en ese caso
+ * sale de {@link BalanceadorReplicas}. Sin la propiedad queda el DataSource autoconfigurado.
+ * Los pools de las réplicas toman la misma configuración {@code spring.datasource.hikari} que la primaria.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression(ReplicasConfig.CON_REPLICAS)
+public class ReplicasConfig {
+
+    public static final String CON_REPLICAS = "!'${app.datasource.replicas.urls:}'.isBlank()";
+
+    // Una réplica caída no debe demorar la lectura: se pasa a la siguiente
+    private static final long TIMEOUT_CONEXION_REPLICA_MS = 2000;
+
+    @Bean(destroyMethod = "close")
+    public BalanceadorReplicas balanceadorReplicas(
+            DataSourceProperties propiedades,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls}") String urls,
+            @Value("${app.datasource.replicas.username:${spring.datasource.username}}") String username,
+            @Value("${app.datasource.replicas.password:${spring.datasource.password}}") String password,
+            @Value("${app.datasource.replicas.chequeo:5s}") Duration chequeo) {
+
+        HikariDataSource primaria = propiedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primaria));
+        primaria.setPoolName(BalanceadorReplicas.PRIMARIA);
+        primaria.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        List<String> jdbcUrls = Stream.of(urls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(jdbcUrls.get(i));
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setDriverClassName(propiedades.getDriverClassName());
+            config.setReadOnly(true);
+            config.setConnectionTimeout(TIMEOUT_CONEXION_REPLICA_MS);
+            // Arranca aunque la réplica esté caída: el chequeo la habilita cuando responda
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        return new BalanceadorReplicas(primaria, replicas, chequeo);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(BalanceadorReplicas balanceador) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(balanceador.primaria());
+        dataSource.setReadOnlyDataSource(balanceador.lectura());
+        return dataSource;
+    }
+}
@@ -1,7 +1,18 @@
 package com.intuit.challange.controller;
 
+import com.intuit.challange.cache.ClienteEtag;
+import com.intuit.challange.cache.ClienteJson;
+import com.intuit.challange.cache.ClienteJsonCache;
+import com.intuit.challange.cache.LecturasCompartidas;
 import com.intuit.challange.dto.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.challange.exception.PrecondicionRequeridaException;
 import com.intuit.challange.exception.TestException;
+import com.intuit.challange.export.ClienteExportWriter;
+import com.intuit.challange.export.FormatoExportacion;
+import com.intuit.challange.importacion.ClienteImportReader;
+import com.intuit.challange.importacion.FormatoImportacion;
 import com.intuit.challange.service.abstraction.ClienteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,19 +23,37 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/clientes")
 @RequiredArgsConstructor
 @Tag(name = "Clientes", description = "API para la gestión integral de clientes")
 public class ClienteController {
 
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final ClienteService service;
+    private final ObjectMapper objectMapper;
+    private final ClienteJsonCache jsonCache;
+    private final LecturasCompartidas lecturas;
+
+    @Value("${app.clientes.if-match-obligatorio:false}")
+    private boolean ifMatchObligatorio;
 
     @PostMapping
     @Operation(summary = "Registrar un nuevo cliente",
@@ -35,59 +64,219 @@ public class ClienteController {
     @ApiResponse(responseCode = "409", description = "Conflicto de integridad",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     public ResponseEntity<ClienteResponse> crear(@Valid @RequestBody ClienteRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(service.crear(request));
+        ClienteResponse creado = service.crear(request);
+        lecturas.olvidarBusquedas();
+        return ResponseEntity.status(HttpStatus.CREATED).body(creado);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Registrar clientes en lote",
+            description = """
+                    Crea hasta 1000 clientes en una sola transacción.
+                    Cada cliente se valida por separado: los inválidos o duplicados se informan
+                    en 'resultados' (mismo orden del request) y no impiden el alta del resto.""")
+    @ApiResponse(responseCode = "200", description = "Lote procesado; ver el estado de cada cliente")
+    @ApiResponse(responseCode = "400", description = "Lote vacío o demasiado grande",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Conflicto de integridad con un alta concurrente",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    public ResponseEntity<ClienteLoteResponse> crearLote(@Valid @RequestBody ClienteLoteRequest request) {
+        ClienteLoteResponse lote = service.crearLote(request.getClientes());
+        lecturas.olvidarBusquedas();
+        return ResponseEntity.ok(lote);
     }
 
     @GetMapping
     @Operation(summary = "Listar clientes con paginación",
-            description = "Obtiene una lista paginada de todos los clientes.")
+            description = """
+                    Obtiene una lista paginada de todos los clientes.
+                    Si se envía 'after' (el 'nextCursor' de la respuesta anterior) se pagina por cursor:
+                    el orden lo define el cursor y 'page' / 'sort' se ignoran.""")
     @ApiResponse(responseCode = "200", description = "Lista paginada obtenida correctamente",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = PagedResponse.class)))
+    @ApiResponse(responseCode = "304", description = "La página no cambió desde el ETag enviado")
+    @ApiResponse(responseCode = "400", description = "Cursor inválido",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Error interno del servidor",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     public ResponseEntity<PagedResponse<ClienteResponse>> listar(
+            @Parameter(description = "Cursor opaco devuelto en 'nextCursor'")
+            @RequestParam(required = false) String after,
             @ParameterObject @PageableDefault(page = 0, size = 10, sort = "id") Pageable pageable) {
-        return ResponseEntity.ok(service.listar(pageable));
+
+        if (StringUtils.hasText(after)) {
+            return conEtag(service.listarDesdeCursor(after, pageable));
+        }
+        return conEtag(service.listar(pageable));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar todos los clientes",
+            description = """
+                    Devuelve todos los clientes ordenados por id, en NDJSON (un objeto por línea) o CSV.
+                    Las filas se escriben a medida que se leen de la base, sin paginar ni contar.""")
+    @ApiResponse(responseCode = "200", description = "Exportación en curso",
+            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")})
+    @ApiResponse(responseCode = "400", description = "Formato inválido",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Formato de salida", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacion formato) {
+
+        // Se ejecuta fuera del hilo del request; la transacción la abre el servicio
+        StreamingResponseBody body = out -> {
+            try (ClienteExportWriter writer = formato.writer(out, objectMapper)) {
+                service.exportar(writer);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(formato.getNombreArchivo()).build().toString())
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    @Operation(summary = "Importar clientes desde un archivo",
+            description = """
+                    Recibe un CSV con encabezado o NDJSON (un cliente por línea) con los campos del alta.
+                    Cada fila se valida mientras se lee el cuerpo; las válidas se cargan con COPY y se
+                    fusionan en una sola sentencia. Los CUIT / email duplicados se informan como rechazos
+                    sin abortar la importación.""")
+    @ApiResponse(responseCode = "200", description = "Importación finalizada; ver importados y rechazos")
+    @ApiResponse(responseCode = "400", description = "Formato o encabezado inválido",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    public ResponseEntity<ClienteImportResponse> importar(
+            @Parameter(description = "Formato del cuerpo", example = "CSV")
+            @RequestParam(defaultValue = "NDJSON") FormatoImportacion formato,
+            InputStream body) throws IOException {
+
+        ClienteImportResponse importacion;
+        try (ClienteImportReader reader = formato.reader(body, objectMapper)) {
+            importacion = service.importar(reader);
+        }
+        lecturas.olvidarBusquedas();
+        return ResponseEntity.ok(importacion);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Obtener cliente por ID",
-            description = "Busca un cliente específico. Si no existe, devuelve un error 404.")
-    @ApiResponse(responseCode = "200", description = "Cliente encontrado")
+            description = """
+                    Busca un cliente específico. Si no existe, devuelve un error 404.
+                    La respuesta trae un ETag; con If-None-Match igual devuelve 304 sin cuerpo.""")
+    @ApiResponse(responseCode = "200", description = "Cliente encontrado",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ClienteResponse.class)))
+    @ApiResponse(responseCode = "304", description = "El cliente no cambió desde el ETag enviado")
     @ApiResponse(responseCode = "404", description = "ID no encontrado",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
-    public ResponseEntity<ClienteResponse> buscarPorId(
-            @Parameter(description = "ID numérico del cliente", example = "1") @PathVariable Long id) {
-        return ResponseEntity.ok(service.buscarPorId(id));
+    public ResponseEntity<ClienteJson> buscarPorId(
+            @Parameter(description = "ID numérico del cliente", example = "1") @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            // La versión sale del JSON guardado o de una consulta que no carga la entidad
+            ClienteJson guardado = jsonCache.buscar(id);
+            String etag = ClienteEtag.de(id, guardado != null ? guardado.getVersion() : service.version(id));
+            if (ClienteEtag.coincide(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
+        // Un acierto escribe el JSON guardado sin pasar por el servicio ni por Jackson;
+        // en un fallo, los requests simultáneos por el mismo id comparten una sola consulta
+        ClienteJson json = jsonCache.obtener(id, clave -> lecturas.buscarPorId(clave, () -> service.buscarPorId(clave)));
+        return ResponseEntity.ok().eTag(ClienteEtag.de(id, json.getVersion())).body(json);
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Actualizar un cliente existente",
-            description = "Actualiza los datos del cliente validando unicidad de CUIT y Email.")
+            description = """
+                    Actualiza los datos del cliente validando unicidad de CUIT y Email.
+                    Con If-Match (el ETag de GET /{id}) solo se aplica si el cliente no cambió desde esa lectura.""")
     @ApiResponse(responseCode = "200", description = "Cliente actualizado correctamente")
     @ApiResponse(responseCode = "400", description = "Error en los datos enviados",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "No se encontró el cliente",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Otra operación modificó el cliente al mismo tiempo",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "412", description = "If-Match no coincide con la versión actual",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "428", description = "Falta If-Match (si app.clientes.if-match-obligatorio)",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     public ResponseEntity<ClienteResponse> actualizar(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ClienteRequest request) {
-        return ResponseEntity.ok(service.actualizar(id, request));
+        return actualizado(id, service.actualizar(id, request, versionEsperada(id, ifMatch)));
     }
 
     @PatchMapping("/{id}/email")
     @Operation(summary = "Actualizar email del cliente",
-            description = "Modifica únicamente el email del cliente.")
+            description = "Modifica únicamente el email del cliente. Acepta If-Match igual que PUT.")
     @ApiResponse(responseCode = "200", description = "Email actualizado correctamente")
     @ApiResponse(responseCode = "400", description = "Email duplicado o inválido",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Cliente no encontrado",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Otra operación modificó el cliente al mismo tiempo",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "412", description = "If-Match no coincide con la versión actual",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "428", description = "Falta If-Match (si app.clientes.if-match-obligatorio)",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     public ResponseEntity<ClienteResponse> actualizarEmail(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EmailUpdateRequest request) {
-        return ResponseEntity.ok(service.actualizarEmail(id, request.nuevoEmail()));
+        return actualizado(id, service.actualizarEmail(id, request.nuevoEmail(), versionEsperada(id, ifMatch)));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON)
+    @Operation(summary = "Actualizar parcialmente un cliente (JSON Merge Patch)",
+            description = """
+                    Aplica un JSON Merge Patch (RFC 7396): solo cambian las propiedades enviadas y el UPDATE
+                    escribe únicamente las columnas modificadas. Sin cambios no hay UPDATE ni versión nueva.
+                    La unicidad se consulta solo si cambia el CUIT o el email. Acepta If-Match igual que PUT.""")
+    @ApiResponse(responseCode = "200", description = "Cliente actualizado (o sin cambios)")
+    @ApiResponse(responseCode = "400", description = "El cliente resultante es inválido o tiene CUIT / email duplicado",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Cliente no encontrado",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Otra operación modificó el cliente al mismo tiempo",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "412", description = "If-Match no coincide con la versión actual",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    @ApiResponse(responseCode = "428", description = "Falta If-Match (si app.clientes.if-match-obligatorio)",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    public ResponseEntity<ClienteResponse> actualizarParcial(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        return actualizado(id, service.actualizarParcial(id, patch, versionEsperada(id, ifMatch)));
+    }
+
+    private Long versionEsperada(Long id, String ifMatch) {
+        if (ifMatch == null) {
+            if (ifMatchObligatorio) {
+                throw new PrecondicionRequeridaException("Se requiere el header If-Match con el ETag del cliente");
+            }
+            return null;
+        }
+        return ClienteEtag.versionEsperada(ifMatch, id);
+    }
+
+    private static ResponseEntity<ClienteResponse> conEtag(ClienteResponse cliente) {
+        return ResponseEntity.ok().eTag(ClienteEtag.de(cliente)).body(cliente);
+    }
+
+    // Una lectura por id o una búsqueda que empezó antes de esta escritura no se comparte con las siguientes
+    private ResponseEntity<ClienteResponse> actualizado(Long id, ClienteResponse cliente) {
+        lecturas.olvidar(id);
+        return conEtag(cliente);
     }
 
     @DeleteMapping("/{id}")
@@ -97,23 +286,39 @@ public class ClienteController {
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     public ResponseEntity<Void> eliminar(@PathVariable Long id) {
         service.eliminar(id);
+        lecturas.olvidar(id);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/buscar")
     @Operation(summary = "Buscar clientes por nombre con paginación",
-            description = "Obtiene una lista paginada de clientes filtrados por nombre.")
+            description = """
+                    Obtiene una lista paginada de clientes filtrados por nombre.
+                    Si se envía 'after' (el 'nextCursor' de la respuesta anterior) se pagina por cursor.""")
     @ApiResponse(responseCode = "200", description = "Lista paginada obtenida correctamente",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = PagedResponse.class)))
+    @ApiResponse(responseCode = "304", description = "La página no cambió desde el ETag enviado")
+    @ApiResponse(responseCode = "400", description = "Cursor inválido",
+            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Error interno del servidor",
             content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     public ResponseEntity<PagedResponse<ClienteResponse>> buscarPorNombre(
             @RequestParam String nombre,
+            @Parameter(description = "Cursor opaco devuelto en 'nextCursor'")
+            @RequestParam(required = false) String after,
             @ParameterObject
             @PageableDefault(page = 0, size = 10, sort = "id") Pageable pageable) {
 
-        return ResponseEntity.ok(service.buscarPorNombre(nombre, pageable));
+        // Búsquedas iguales y simultáneas comparten una sola consulta
+        return conEtag(lecturas.buscarPorNombre(nombre, after, pageable, () -> StringUtils.hasText(after)
+                ? service.buscarPorNombreDesdeCursor(nombre, after, pageable)
+                : service.buscarPorNombre(nombre, pageable)));
+    }
+
+    // Con el ETag en la respuesta, Spring contesta 304 a un If-None-Match igual sin serializar la página
+    private static ResponseEntity<PagedResponse<ClienteResponse>> conEtag(PagedResponse<ClienteResponse> pagina) {
+        return ResponseEntity.ok().eTag(ClienteEtag.dePagina(pagina)).body(pagina);
     }
 
     @Operation(hidden = true)
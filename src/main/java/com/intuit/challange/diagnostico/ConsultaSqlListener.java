@@ -0,0 +1,72 @@
+package com.intuit.challange.diagnostico;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mide cada sentencia JDBC: las que superan {@code app.sql.lento.umbral-ms} se registran
+ * y se pide su plan; los SELECT se cuentan por request para detectar N+1.
+ */
+@Component
+@Profile("!reactive")
+public class ConsultaSqlListener implements QueryExecutionListener {
+
+    private final RegistroDiagnosticoSql registro;
+    private final ExplicadorConsultas explicador;
+    private final long umbralMs;
+
+    public ConsultaSqlListener(
+            RegistroDiagnosticoSql registro,
+            ExplicadorConsultas explicador,
+            @Value("${app.sql.lento.umbral-ms:200}") long umbralMs) {
+
+        this.registro = registro;
+        this.explicador = explicador;
+        this.umbralMs = umbralMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo info, List<QueryInfo> consultas) {
+        // Solo interesa la duración, que se conoce al terminar
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo info, List<QueryInfo> consultas) {
+        // Los EXPLAIN propios pasan por el mismo DataSource
+        if (consultas.isEmpty() || ExplicadorConsultas.esExplain(consultas.get(0).getQuery())) {
+            return;
+        }
+
+        for (QueryInfo consulta : consultas) {
+            if (contarPorRequest(consulta.getQuery())) {
+                ConsultasPorRequest.registrar(consulta.getQuery());
+            }
+        }
+
+        if (info.getElapsedTime() < umbralMs) {
+            return;
+        }
+        for (QueryInfo consulta : consultas) {
+            registro.registrarLenta(consulta.getQuery(), info.getElapsedTime(), info.isBatch());
+            explicador.explicar(consulta.getQuery(), primerosParametros(consulta));
+        }
+    }
+
+    // El optimizador pooled lee la secuencia cada 50 ids: en un lote se repite sin ser N+1
+    private static boolean contarPorRequest(String sql) {
+        return ExplicadorConsultas.empiezaCon(sql, "select") && !sql.contains("nextval(");
+    }
+
+    // En un lote basta con el plan de la primera fila
+    private static List<ParameterSetOperation> primerosParametros(QueryInfo consulta) {
+        List<List<ParameterSetOperation>> parametros = consulta.getParametersList();
+        return parametros.isEmpty() ? List.of() : parametros.get(0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.intuit.challange.diagnostico;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cuenta las ejecuciones de cada SELECT en el hilo del request en curso.
+ * Fuera de un request (tareas de arranque, exportación asíncrona) no registra nada.
+ */
+final class ConsultasPorRequest {
+
+    private static final ThreadLocal<Map<String, Integer>> CONSULTAS = new ThreadLocal<>();
+
+    private ConsultasPorRequest() {
+    }
+
+    static void iniciar() {
+        CONSULTAS.set(new HashMap<>());
+    }
+
+    static void registrar(String sql) {
+        Map<String, Integer> consultas = CONSULTAS.get();
+        if (consultas != null) {
+            consultas.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static Map<String, Integer> finalizar() {
+        Map<String, Integer> consultas = CONSULTAS.get();
+        CONSULTAS.remove();
+        return consultas == null ? Map.of() : consultas;
+    }
+}
@@ -0,0 +1,95 @@
+package com.intuit.challange.diagnostico;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /actuator/sqllento: sentencias lentas con su plan, sospechas de N+1 y estadísticas
+ * de Hibernate (las 10 consultas HQL / nativas con peor tiempo máximo).
+ * DELETE /actuator/sqllento reinicia todo.
+ */
+@Component
+@Profile("!reactive")
+@Endpoint(id = "sqllento")
+@RequiredArgsConstructor
+public class DiagnosticoSqlEndpoint {
+
+    private static final int TOP_CONSULTAS = 10;
+
+    private final RegistroDiagnosticoSql registro;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.sql.lento.umbral-ms:200}")
+    private long umbralMs;
+
+    @ReadOperation
+    public Map<String, Object> diagnostico() {
+        Map<String, Object> diagnostico = new LinkedHashMap<>();
+        diagnostico.put("umbralMs", umbralMs);
+        diagnostico.put("consultasLentas", registro.consultasLentas());
+        diagnostico.put("nMasUno", registro.sospechasNMasUno());
+        diagnostico.put("hibernate", hibernate(estadisticas()));
+        return diagnostico;
+    }
+
+    @DeleteOperation
+    public void limpiar() {
+        registro.limpiar();
+        estadisticas().clear();
+    }
+
+    private Statistics estadisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static Map<String, Object> hibernate(Statistics stats) {
+        Map<String, Object> hibernate = new LinkedHashMap<>();
+        hibernate.put("habilitadas", stats.isStatisticsEnabled());
+        if (!stats.isStatisticsEnabled()) {
+            return hibernate;
+        }
+
+        hibernate.put("sentenciasPreparadas", stats.getPrepareStatementCount());
+        hibernate.put("consultas", stats.getQueryExecutionCount());
+        hibernate.put("consultaMaxMs", stats.getQueryExecutionMaxTime());
+        hibernate.put("consultaMaxSql", stats.getQueryExecutionMaxTimeQueryString());
+        hibernate.put("entidadesCargadas", stats.getEntityLoadCount());
+        hibernate.put("entidadesBuscadas", stats.getEntityFetchCount());
+        hibernate.put("coleccionesBuscadas", stats.getCollectionFetchCount());
+        hibernate.put("flushes", stats.getFlushCount());
+        hibernate.put("transacciones", stats.getTransactionCount());
+
+        List<Map<String, Object>> peores = Arrays.stream(stats.getQueries())
+                .map(sql -> resumen(sql, stats.getQueryStatistics(sql)))
+                .sorted(Comparator.comparingLong((Map<String, Object> q) -> (Long) q.get("maxMs")).reversed())
+                .limit(TOP_CONSULTAS)
+                .toList();
+        hibernate.put("peoresConsultas", peores);
+        return hibernate;
+    }
+
+    private static Map<String, Object> resumen(String sql, QueryStatistics stats) {
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        resumen.put("consulta", sql);
+        resumen.put("ejecuciones", stats.getExecutionCount());
+        resumen.put("promedioMs", stats.getExecutionAvgTime());
+        resumen.put("maxMs", stats.getExecutionMaxTime());
+        resumen.put("filas", stats.getExecutionRowCount());
+        return resumen;
+    }
+}
@@ -0,0 +1,55 @@
+package com.intuit.challange.diagnostico;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Detecta N+1: un mismo SELECT ejecutado {@code app.sql.n-mas-uno.umbral} veces o más
+ * dentro de un request se registra como sospecha para ese endpoint.
+ */
+@Component
+@Profile("!reactive")
+public class DiagnosticoSqlFilter extends OncePerRequestFilter {
+
+    private final RegistroDiagnosticoSql registro;
+    private final int umbral;
+
+    public DiagnosticoSqlFilter(
+            RegistroDiagnosticoSql registro,
+            @Value("${app.sql.n-mas-uno.umbral:10}") int umbral) {
+
+        this.registro = registro;
+        this.umbral = umbral;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        ConsultasPorRequest.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ConsultasPorRequest.finalizar().forEach((sql, ejecuciones) -> {
+                if (ejecuciones >= umbral) {
+                    registro.registrarNMasUno(endpoint(request), sql, ejecuciones);
+                }
+            });
+        }
+    }
+
+    // Con el patrón del mapping (/api/clientes/{id}) las sospechas se agrupan por endpoint
+    private static String endpoint(HttpServletRequest request) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (patron != null ? patron : request.getRequestURI());
+    }
+}
@@ -0,0 +1,140 @@
+package com.intuit.challange.diagnostico;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intuit.challange.replica.LecturaPropia;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captura el plan de ejecución de una sentencia lenta, con los mismos parámetros.
+ * <p>
+ * Corre en un hilo propio con cola acotada (si se llena, el plan se descarta) y
+ * como mucho una vez por sentencia cada {@code app.sql.explain.intervalo}; se recuerdan
+ * hasta {@code app.sql.explain.sentencias} sentencias distintas.
+ * Los SELECT van con EXPLAIN (ANALYZE, BUFFERS), que vuelve a ejecutarlos; el resto
+ * con EXPLAIN simple. Siempre dentro de una transacción de solo lectura que se revierte,
+ * contra la primaria aunque haya réplicas, así todos los planes salen de la misma base.
+ */
+@Component
+@Profile("!reactive")
+public class ExplicadorConsultas implements DisposableBean {
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final RegistroDiagnosticoSql registro;
+    private final boolean habilitado;
+
+    private final Cache<String, Boolean> explicadas;
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(20),
+            r -> {
+                Thread hilo = new Thread(r, "sql-explain");
+                hilo.setDaemon(true);
+                return hilo;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    // ObjectProvider: el DataSource envuelto depende (vía listener) de este bean
+    public ExplicadorConsultas(
+            ObjectProvider<DataSource> dataSource,
+            RegistroDiagnosticoSql registro,
+            @Value("${app.sql.explain.habilitado:true}") boolean habilitado,
+            @Value("${app.sql.explain.intervalo:10m}") Duration intervalo,
+            @Value("${app.sql.explain.sentencias:1000}") long sentencias) {
+
+        this.dataSource = dataSource;
+        this.registro = registro;
+        this.habilitado = habilitado;
+        // La entrada vence con el intervalo: mientras exista, la sentencia no se vuelve a explicar
+        this.explicadas = Caffeine.newBuilder()
+                .expireAfterWrite(intervalo)
+                .maximumSize(sentencias)
+                .build();
+    }
+
+    public void explicar(String sql, List<ParameterSetOperation> parametros) {
+        if (!habilitado || prefijo(sql) == null) {
+            return;
+        }
+
+        if (explicadas.asMap().putIfAbsent(sql, Boolean.TRUE) != null) {
+            return;
+        }
+
+        executor.execute(() -> registro.registrarPlan(sql, capturar(sql, parametros)));
+    }
+
+    String capturar(String sql, List<ParameterSetOperation> parametros) {
+        // La conexión es de solo lectura: sin esto el proxy de réplicas la pediría a una réplica
+        return LecturaPropia.enPrimaria(() -> capturarEnPrimaria(sql, parametros));
+    }
+
+    private String capturarEnPrimaria(String sql, List<ParameterSetOperation> parametros) {
+        try (Connection conexion = dataSource.getObject().getConnection()) {
+            conexion.setReadOnly(true);
+            conexion.setAutoCommit(false);
+            try (PreparedStatement ps = conexion.prepareStatement(prefijo(sql) + sql)) {
+                for (ParameterSetOperation parametro : parametros) {
+                    if (!ParameterSetOperation.isRegisterOutParameterOperation(parametro)) {
+                        parametro.getMethod().invoke(ps, parametro.getArgs());
+                    }
+                }
+
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            } finally {
+                conexion.rollback();
+            }
+        } catch (SQLException | ReflectiveOperationException | RuntimeException ex) {
+            return "No se pudo obtener el plan: " + ex.getMessage();
+        }
+    }
+
+    static boolean esExplain(String sql) {
+        return empiezaCon(sql, "explain");
+    }
+
+    // null: sentencias sin plan (DDL, COPY, llamadas a procedimientos)
+    private static String prefijo(String sql) {
+        if (empiezaCon(sql, "select") || empiezaCon(sql, "with")) {
+            return "EXPLAIN (ANALYZE, BUFFERS) ";
+        }
+        if (empiezaCon(sql, "insert") || empiezaCon(sql, "update") || empiezaCon(sql, "delete")) {
+            return "EXPLAIN ";
+        }
+        return null;
+    }
+
+    static boolean empiezaCon(String sql, String palabra) {
+        String limpio = sql.stripLeading();
+        return limpio.regionMatches(true, 0, palabra, 0, palabra.length())
+                && (limpio.length() == palabra.length()
+                || !Character.isLetterOrDigit(limpio.charAt(palabra.length())));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,142 @@
+package com.intuit.challange.diagnostico;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hallazgos del diagnóstico SQL: sentencias lentas (con su último plan) y sospechas de N+1.
+ * <p>
+ * Se agrupan por texto SQL, así el tamaño depende de la cantidad de sentencias distintas
+ * y no del tráfico; al llegar a la capacidad, las sentencias nuevas solo van al log.
+ * Todo hallazgo se escribe en el logger SQL_LENTO (logs/sql-lento.log).
+ */
+@Component
+@Profile("!reactive")
+public class RegistroDiagnosticoSql {
+
+    private static final Logger SQL_LENTO = LoggerFactory.getLogger("SQL_LENTO");
+
+    private final int capacidad;
+    private final Map<String, ConsultaLenta> lentas = new ConcurrentHashMap<>();
+    private final Map<String, SospechaNMasUno> sospechas = new ConcurrentHashMap<>();
+
+    public RegistroDiagnosticoSql(@Value("${app.sql.registro.capacidad:200}") int capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    public void registrarLenta(String sql, long duracionMs, boolean lote) {
+        SQL_LENTO.warn("{} ms{} - {}", duracionMs, lote ? " (lote)" : "", sql);
+
+        ConsultaLenta consulta = lentas.get(sql);
+        if (consulta == null && lentas.size() < capacidad) {
+            consulta = lentas.computeIfAbsent(sql, ConsultaLenta::new);
+        }
+        if (consulta != null) {
+            consulta.registrar(duracionMs);
+        }
+    }
+
+    public void registrarPlan(String sql, String plan) {
+        SQL_LENTO.warn("Plan de: {}\n{}", sql, plan);
+
+        ConsultaLenta consulta = lentas.get(sql);
+        if (consulta != null) {
+            consulta.plan(plan);
+        }
+    }
+
+    public void registrarNMasUno(String endpoint, String sql, int ejecuciones) {
+        SQL_LENTO.warn("Posible N+1 en {}: {} ejecuciones de {}", endpoint, ejecuciones, sql);
+
+        String clave = endpoint + '\n' + sql;
+        SospechaNMasUno sospecha = sospechas.get(clave);
+        if (sospecha == null && sospechas.size() < capacidad) {
+            sospecha = sospechas.computeIfAbsent(clave, k -> new SospechaNMasUno(endpoint, sql));
+        }
+        if (sospecha != null) {
+            sospecha.registrar(ejecuciones);
+        }
+    }
+
+    /** Ordenadas por peor duración. */
+    public List<ConsultaLenta> consultasLentas() {
+        return lentas.values().stream()
+                .sorted(Comparator.comparingLong(ConsultaLenta::getMaxMs).reversed())
+                .toList();
+    }
+
+    /** Ordenadas por cantidad de requests afectados. */
+    public List<SospechaNMasUno> sospechasNMasUno() {
+        return sospechas.values().stream()
+                .sorted(Comparator.comparingLong(SospechaNMasUno::getRequests).reversed())
+                .toList();
+    }
+
+    public void limpiar() {
+        lentas.clear();
+        sospechas.clear();
+    }
+
+    @Getter
+    public static class ConsultaLenta {
+        private final String sql;
+        private long ejecuciones;
+        private long totalMs;
+        private long maxMs;
+        private long ultimaMs;
+        private Instant ultimaVez;
+        private String plan;
+        private Instant planCapturado;
+
+        ConsultaLenta(String sql) {
+            this.sql = sql;
+        }
+
+        synchronized void registrar(long duracionMs) {
+            ejecuciones++;
+            totalMs += duracionMs;
+            maxMs = Math.max(maxMs, duracionMs);
+            ultimaMs = duracionMs;
+            ultimaVez = Instant.now();
+        }
+
+        synchronized void plan(String plan) {
+            this.plan = plan;
+            this.planCapturado = Instant.now();
+        }
+
+        public synchronized long getPromedioMs() {
+            return ejecuciones == 0 ? 0 : totalMs / ejecuciones;
+        }
+    }
+
+    @Getter
+    public static class SospechaNMasUno {
+        private final String endpoint;
+        private final String sql;
+        private long requests;
+        private int maxEjecuciones;
+        private Instant ultimaVez;
+
+        SospechaNMasUno(String endpoint, String sql) {
+            this.endpoint = endpoint;
+            this.sql = sql;
+        }
+
+        synchronized void registrar(int ejecuciones) {
+            requests++;
+            maxEjecuciones = Math.max(maxEjecuciones, ejecuciones);
+            ultimaVez = Instant.now();
+        }
+    }
+}
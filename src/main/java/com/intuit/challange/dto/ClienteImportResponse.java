@@ -0,0 +1,51 @@
+package com.intuit.challange.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado de la importación masiva")
+public class ClienteImportResponse {
+
+    @Schema(description = "Filas leídas del archivo", example = "1000000")
+    private long total;
+
+    @Schema(description = "Clientes insertados", example = "999990")
+    private long importados;
+
+    @Schema(description = "Filas rechazadas por validación o por CUIT / email duplicado", example = "10")
+    private long rechazados;
+
+    @Schema(description = "Detalle de los rechazos (como máximo los primeros 1000)")
+    private List<Rechazo> rechazos;
+
+    @Schema(description = "true si hubo más rechazos que los detallados", example = "false")
+    private boolean rechazosTruncados;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Rechazo {
+
+        @Schema(description = "Línea del archivo donde empieza la fila", example = "42")
+        private long linea;
+
+        @Schema(description = "Motivo del rechazo", example = "Ya existe un cliente con ese CUIT")
+        private String mensaje;
+
+        @Schema(description = "Errores de validación por campo",
+                example = "{\"email\": \"El email debe tener un formato válido\"}")
+        private Map<String, String> validationErrors;
+    }
+}
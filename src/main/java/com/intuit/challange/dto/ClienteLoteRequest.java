@@ -0,0 +1,25 @@
+package com.intuit.challange.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "DTO para el alta masiva de clientes")
+public class ClienteLoteRequest {
+
+    public static final int MAX_CLIENTES = 1000;
+
+    // Sin @Valid en los elementos: cada cliente se valida por separado y se informa en su resultado
+    @NotEmpty(message = "El lote no puede estar vacío")
+    @Size(max = MAX_CLIENTES, message = "El lote no puede superar los " + MAX_CLIENTES + " clientes")
+    @Schema(description = "Clientes a registrar (máximo 1000 por lote)")
+    private List<ClienteRequest> clientes;
+}
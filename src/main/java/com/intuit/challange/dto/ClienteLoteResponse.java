@@ -0,0 +1,56 @@
+package com.intuit.challange.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado del alta masiva, con el detalle de cada cliente enviado")
+public class ClienteLoteResponse {
+
+    @Schema(description = "Cantidad de clientes recibidos", example = "3")
+    private int total;
+
+    @Schema(description = "Cantidad de clientes creados", example = "2")
+    private int creados;
+
+    @Schema(description = "Cantidad de clientes rechazados", example = "1")
+    private int rechazados;
+
+    @Schema(description = "Resultado por cliente, en el mismo orden del request")
+    private List<Resultado> resultados;
+
+    public enum Estado { CREADO, RECHAZADO }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Resultado {
+
+        @Schema(description = "Posición del cliente en el lote (desde 0)", example = "0")
+        private int indice;
+
+        @Schema(description = "Estado del cliente", example = "CREADO")
+        private Estado estado;
+
+        @Schema(description = "ID asignado. Solo si fue creado", example = "51")
+        private Long id;
+
+        @Schema(description = "Motivo del rechazo", example = "Ya existe un cliente con ese CUIT")
+        private String mensaje;
+
+        @Schema(description = "Errores de validación por campo",
+                example = "{\"email\": \"El email es obligatorio\"}")
+        private Map<String, String> validationErrors;
+    }
+}
@@ -68,4 +68,10 @@ public class ClienteResponse {
             pattern = "dd/MM/yyyy HH:mm:ss"
     )
     private LocalDateTime fechaModificacion;
+
+    @Schema(
+            description = "Versión del registro; el ETag de GET /{id} y el If-Match de PUT / PATCH la usan",
+            example = "3"
+    )
+    private Long version;
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.intuit.challange.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,10 +13,17 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedResponse <T> {
     private List <T> content;
+
+    @Schema(description = "Metadatos de paginación por offset. Se omite en el modo cursor")
     private PageMetadata page;
 
+    @Schema(description = "Cursor opaco para pedir la página siguiente con 'after'. Se omite en la última página",
+            example = "aWR8QVNDfHwxMA")
+    private String nextCursor;
+
     @Data
     @Builder
     @AllArgsConstructor
@@ -3,15 +3,18 @@ package com.intuit.challange.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+// El UPDATE lleva solo las columnas modificadas (merge patch, PUT con pocos cambios)
 @Entity
+@DynamicUpdate
 @Table (name = "clientes",
         uniqueConstraints = {
-                @UniqueConstraint (columnNames = "cuit"),
-                @UniqueConstraint(columnNames = "email")
+                @UniqueConstraint (name = Cliente.UK_CUIT, columnNames = "cuit"),
+                @UniqueConstraint(name = Cliente.UK_EMAIL, columnNames = "email")
         })
 @Getter
 @Setter
@@ -20,8 +23,13 @@ import java.time.LocalDateTime;
 @Builder(toBuilder = true)
 public class Cliente {
 
+    public static final String UK_CUIT = "uk_clientes_cuit";
+    public static final String UK_EMAIL = "uk_clientes_email";
+
+    // Secuencia con incremento 50 (no IDENTITY) para que Hibernate pueda agrupar los INSERT en batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_seq")
+    @SequenceGenerator(name = "clientes_seq", sequenceName = "clientes_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -37,7 +45,7 @@ public class Cliente {
     private String razonSocial;
 
     @NotBlank
-    @Column(nullable = false, unique = true, length = 20)
+    @Column(nullable = false, length = 20)
     private String cuit;
 
     @NotNull
@@ -49,7 +57,7 @@ public class Cliente {
     private String telefonoCelular;
 
     @NotBlank
-    @Column(nullable = false, unique = true, length = 150)
+    @Column(nullable = false, length = 150)
     private String email;
 
     @Column(name = "fecha_creacion", updatable = false)
@@ -58,6 +66,12 @@ public class Cliente {
     @Column(name = "fecha_modificacion")
     private LocalDateTime fechaModificacion;
 
+    // Control optimista: cada UPDATE incrementa la versión y falla si otro la cambió antes.
+    // El default permite agregar la columna a una tabla con datos
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     public void onCreate () {
         this.fechaCreacion = LocalDateTime.now();
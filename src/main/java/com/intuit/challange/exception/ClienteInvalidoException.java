@@ -0,0 +1,17 @@
+package com.intuit.challange.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/** El cliente resultante de un merge patch no cumple las validaciones de ClienteRequest (400). */
+@Getter
+public class ClienteInvalidoException extends RuntimeException {
+
+    private final Map<String, String> errores;
+
+    public ClienteInvalidoException ( String message, Map<String, String> errores ) {
+        super(message);
+        this.errores = errores;
+    }
+}
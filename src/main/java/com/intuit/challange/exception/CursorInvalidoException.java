@@ -0,0 +1,7 @@
+package com.intuit.challange.exception;
+
+public class CursorInvalidoException extends RuntimeException {
+    public CursorInvalidoException ( String message ) {
+        super(message);
+    }
+}
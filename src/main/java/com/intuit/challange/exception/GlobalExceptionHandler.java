@@ -1,9 +1,14 @@
 package com.intuit.challange.exception;
 
 import com.intuit.challange.dto.ApiErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -16,8 +21,15 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@Profile("!reactive")
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    // Resultados 404 / 409 / 412 / 429 por status y excepción: /actuator/prometheus los expone como clientes_errores_total
+    static final String METRICA_ERRORES = "clientes.errores";
+
+    private final MeterRegistry meterRegistry;
+
     /* ===============================
        VALIDACIONES DTO
        =============================== */
@@ -47,6 +59,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    // Merge patch: las mismas validaciones, aplicadas al cliente ya combinado
+    @ExceptionHandler(ClienteInvalidoException.class)
+    public ResponseEntity<ApiErrorResponse> handleClienteInvalido(
+            ClienteInvalidoException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = new ApiErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                LocalDateTime.now(),
+                ex.getErrores()
+        );
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     /* ===============================
        ERROR ENUM / PARAM
        =============================== */
@@ -83,6 +113,8 @@ public class GlobalExceptionHandler {
             HttpServletRequest request
     ) {
 
+        contar(HttpStatus.CONFLICT, ex);
+
         String mensaje = "Error de integridad en base de datos";
 
         if (ex.getMostSpecificCause().getMessage().contains("cuit")) {
@@ -146,11 +178,46 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(CursorInvalidoException.class)
+    public ResponseEntity<ApiErrorResponse> handleCursorInvalido(
+            CursorInvalidoException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = new ApiErrorResponse(
+                400,
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                LocalDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(ImportacionInvalidaException.class)
+    public ResponseEntity<ApiErrorResponse> handleImportacionInvalida(
+            ImportacionInvalidaException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = new ApiErrorResponse(
+                400,
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                LocalDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(ClienteNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(
             ClienteNotFoundException ex,
             HttpServletRequest request
     ) {
+        contar(HttpStatus.NOT_FOUND, ex);
 
         ApiErrorResponse response = new ApiErrorResponse(
                 404,
@@ -164,5 +231,92 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(404).body(response);
     }
 
+    /* ===============================
+       CONCURRENCIA OPTIMISTA
+       =============================== */
+    @ExceptionHandler(PrecondicionFallidaException.class)
+    public ResponseEntity<ApiErrorResponse> handlePrecondicionFallida(
+            PrecondicionFallidaException ex,
+            HttpServletRequest request
+    ) {
+        contar(HttpStatus.PRECONDITION_FAILED, ex);
+
+        ApiErrorResponse response = new ApiErrorResponse(
+                412,
+                HttpStatus.PRECONDITION_FAILED.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                LocalDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    @ExceptionHandler(PrecondicionRequeridaException.class)
+    public ResponseEntity<ApiErrorResponse> handlePrecondicionRequerida(
+            PrecondicionRequeridaException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = new ApiErrorResponse(
+                428,
+                HttpStatus.PRECONDITION_REQUIRED.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                LocalDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(response);
+    }
 
+    // Dos escrituras leyeron la misma versión: la segunda en hacer UPDATE pierde
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleConflictoDeVersion(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        contar(HttpStatus.CONFLICT, ex);
+
+        ApiErrorResponse response = new ApiErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                "El cliente fue modificado por otra operación",
+                request.getRequestURI(),
+                LocalDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /* ===============================
+       LÍMITE DE SOLICITUDES
+       =============================== */
+    @ExceptionHandler(LimiteExcedidoException.class)
+    public ResponseEntity<ApiErrorResponse> handleLimiteExcedido(
+            LimiteExcedidoException ex,
+            HttpServletRequest request
+    ) {
+        contar(HttpStatus.TOO_MANY_REQUESTS, ex);
+
+        ApiErrorResponse response = new ApiErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                LocalDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getReintentarEnSegundos()))
+                .body(response);
+    }
+
+    private void contar(HttpStatus status, Exception ex) {
+        meterRegistry.counter(METRICA_ERRORES,
+                "status", String.valueOf(status.value()),
+                "excepcion", ex.getClass().getSimpleName()).increment();
+    }
 }
@@ -0,0 +1,7 @@
+package com.intuit.challange.exception;
+
+public class ImportacionInvalidaException extends RuntimeException {
+    public ImportacionInvalidaException ( String message ) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.intuit.challange.exception;
+
+import lombok.Getter;
+
+/** El llamador agotó su límite de solicitudes para el endpoint (429). */
+@Getter
+public class LimiteExcedidoException extends RuntimeException {
+
+    private final long reintentarEnSegundos;
+
+    public LimiteExcedidoException ( String message, long reintentarEnSegundos ) {
+        super(message);
+        this.reintentarEnSegundos = reintentarEnSegundos;
+    }
+}
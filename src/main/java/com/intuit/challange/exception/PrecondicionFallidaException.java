@@ -0,0 +1,8 @@
+package com.intuit.challange.exception;
+
+/** If-Match no coincide con la versión actual del cliente (412). */
+public class PrecondicionFallidaException extends RuntimeException {
+    public PrecondicionFallidaException ( String message ) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.intuit.challange.exception;
+
+/** Falta If-Match y app.clientes.if-match-obligatorio lo exige (428). */
+public class PrecondicionRequeridaException extends RuntimeException {
+    public PrecondicionRequeridaException ( String message ) {
+        super(message);
+    }
+}
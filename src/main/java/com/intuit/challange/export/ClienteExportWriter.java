@@ -0,0 +1,15 @@
+package com.intuit.challange.export;
+
+import com.intuit.challange.dto.ClienteResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Escribe clientes de a uno sobre la respuesta de la exportación.
+ * No acumula filas: la memoria no depende del tamaño de la tabla.
+ */
+public interface ClienteExportWriter extends Closeable {
+
+    void escribir(ClienteResponse cliente) throws IOException;
+}
@@ -0,0 +1,72 @@
+package com.intuit.challange.export;
+
+import com.intuit.challange.dto.ClienteResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * CSV (RFC 4180) con encabezado. Las fechas usan el mismo formato que la respuesta JSON
+ * y las columnas siguen el orden de ClienteResponse, con la version al final como en el NDJSON.
+ */
+class CsvClienteExportWriter implements ClienteExportWriter {
+
+    private static final String ENCABEZADO =
+            "id,nombre,apellido,razonSocial,cuit,fechaNacimiento,telefonoCelular,email,fechaCreacion,fechaModificacion,version";
+
+    private static final DateTimeFormatter FECHA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter FECHA_HORA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private final Writer writer;
+
+    CsvClienteExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(ENCABEZADO);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void escribir(ClienteResponse c) throws IOException {
+        writer.write(c.getId() == null ? "" : c.getId().toString());
+        campo(c.getNombre());
+        campo(c.getApellido());
+        campo(c.getRazonSocial());
+        campo(c.getCuit());
+        campo(formatear(FECHA, c.getFechaNacimiento()));
+        campo(c.getTelefonoCelular());
+        campo(c.getEmail());
+        campo(formatear(FECHA_HORA, c.getFechaCreacion()));
+        campo(formatear(FECHA_HORA, c.getFechaModificacion()));
+        campo(c.getVersion() == null ? null : c.getVersion().toString());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void campo(String valor) throws IOException {
+        writer.write(',');
+        if (valor == null) {
+            return;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String formatear(DateTimeFormatter formato, TemporalAccessor fecha) {
+        return fecha == null ? null : formato.format(fecha);
+    }
+}
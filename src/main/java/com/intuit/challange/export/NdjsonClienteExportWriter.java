@@ -0,0 +1,39 @@
+package com.intuit.challange.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intuit.challange.dto.ClienteResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Un objeto JSON por línea. Usa un único generador sobre la respuesta, sin
+ * indentación (la del resto de la API rompería el formato) y sin flush por fila.
+ */
+class NdjsonClienteExportWriter implements ClienteExportWriter {
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+
+    NdjsonClienteExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.writer = objectMapper.writerFor(ClienteResponse.class)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        this.generator = writer.createGenerator(out);
+    }
+
+    @Override
+    public void escribir(ClienteResponse cliente) throws IOException {
+        writer.writeValue(generator, cliente);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
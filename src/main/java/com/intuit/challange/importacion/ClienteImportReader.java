@@ -0,0 +1,13 @@
+package com.intuit.challange.importacion;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Lee el cuerpo de la importación de a una fila, sin cargarlo entero en memoria.
+ */
+public interface ClienteImportReader extends Closeable {
+
+    /** La fila siguiente, o null al terminar el archivo. */
+    FilaImportacion siguiente() throws IOException;
+}
@@ -0,0 +1,154 @@
+package com.intuit.challange.importacion;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.exception.ImportacionInvalidaException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV (RFC 4180) con encabezado. Las columnas se ubican por nombre, en cualquier
+ * orden, y se ignoran las que no son de ClienteRequest (ej. el id de la exportación).
+ * Las fechas van en formato ISO (yyyy-MM-dd), igual que en el alta, o dd/MM/yyyy como en la exportación.
+ */
+class CsvClienteImportReader implements ClienteImportReader {
+
+    private static final String[] COLUMNAS =
+            {"nombre", "apellido", "razonSocial", "cuit", "fechaNacimiento", "telefonoCelular", "email"};
+
+    private final BufferedReader reader;
+    private final int[] posiciones = new int[COLUMNAS.length];
+    private long linea;
+
+    CsvClienteImportReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+
+        List<String> encabezado = leerRegistro();
+        if (encabezado == null) {
+            throw new ImportacionInvalidaException("El archivo CSV está vacío");
+        }
+        // Un BOM de Excel quedaría pegado al nombre de la primera columna
+        encabezado.set(0, encabezado.get(0).replace("\uFEFF", ""));
+
+        for (int i = 0; i < COLUMNAS.length; i++) {
+            posiciones[i] = encabezado.indexOf(COLUMNAS[i]);
+            if (posiciones[i] < 0 && !"telefonoCelular".equals(COLUMNAS[i])) {
+                throw new ImportacionInvalidaException(
+                        "Falta la columna '" + COLUMNAS[i] + "' en el encabezado del CSV");
+            }
+        }
+    }
+
+    @Override
+    public FilaImportacion siguiente() throws IOException {
+        List<String> campos;
+        long inicio;
+        do {
+            inicio = linea + 1;
+            campos = leerRegistro();
+            if (campos == null) {
+                return null;
+            }
+        } while (campos.size() == 1 && campos.get(0).isEmpty());
+
+        LocalDate fechaNacimiento;
+        try {
+            String fecha = campo(campos, 4);
+            fechaNacimiento = fecha == null ? null : FechaImportacion.parsear(fecha);
+        } catch (DateTimeParseException ex) {
+            return FilaImportacion.invalida(inicio, "fechaNacimiento", FechaImportacion.MENSAJE);
+        }
+
+        return FilaImportacion.valida(inicio, ClienteRequest.builder()
+                .nombre(campo(campos, 0))
+                .apellido(campo(campos, 1))
+                .razonSocial(campo(campos, 2))
+                .cuit(campo(campos, 3))
+                .fechaNacimiento(fechaNacimiento)
+                .telefonoCelular(campo(campos, 5))
+                .email(campo(campos, 6))
+                .build());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String campo(List<String> campos, int columna) {
+        int posicion = posiciones[columna];
+        if (posicion < 0 || posicion >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(posicion);
+        return valor.isEmpty() ? null : valor;
+    }
+
+    /* Un registro puede ocupar varias líneas si tiene un campo entre comillas con saltos de línea. */
+    private List<String> leerRegistro() throws IOException {
+        String texto = reader.readLine();
+        if (texto == null) {
+            return null;
+        }
+        linea++;
+
+        List<String> campos = new ArrayList<>(COLUMNAS.length + 3);
+        if (texto.indexOf('"') < 0) {
+            int desde = 0;
+            int coma;
+            while ((coma = texto.indexOf(',', desde)) >= 0) {
+                campos.add(texto.substring(desde, coma));
+                desde = coma + 1;
+            }
+            campos.add(texto.substring(desde));
+            return campos;
+        }
+
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+        int i = 0;
+        while (true) {
+            if (i == texto.length()) {
+                if (!entreComillas) {
+                    break;
+                }
+                String siguiente = reader.readLine();
+                if (siguiente == null) {
+                    throw new ImportacionInvalidaException("Comillas sin cerrar en la línea " + linea + " del CSV");
+                }
+                linea++;
+                actual.append('\n');
+                texto = siguiente;
+                i = 0;
+                continue;
+            }
+            char c = texto.charAt(i++);
+            if (entreComillas) {
+                if (c == '"' && i < texto.length() && texto.charAt(i) == '"') {
+                    actual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        campos.add(actual.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,56 @@
+package com.intuit.challange.importacion;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+/**
+ * fechaNacimiento de la importación: ISO (yyyy-MM-dd), igual que en el alta, o dd/MM/yyyy,
+ * que es como la escriben la exportación y ClienteResponse. Así un archivo exportado se
+ * puede volver a importar sin retocarlo.
+ */
+final class FechaImportacion {
+
+    static final String MENSAJE = "La fecha de nacimiento debe tener el formato yyyy-MM-dd o dd/MM/yyyy";
+
+    private static final DateTimeFormatter EXPORTACION =
+            DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private FechaImportacion() {
+    }
+
+    static LocalDate parsear(String texto) {
+        return texto.indexOf('/') >= 0 ? LocalDate.parse(texto, EXPORTACION) : LocalDate.parse(texto);
+    }
+
+    /** Mismos formatos para las líneas NDJSON; una fecha inválida deja la línea como inválida. */
+    static final class Deserializador extends StdScalarDeserializer<LocalDate> {
+
+        Deserializador() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+                return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, parser);
+            }
+            String texto = parser.getText();
+            if (texto.isBlank()) {
+                return null;
+            }
+            try {
+                return parsear(texto.trim());
+            } catch (DateTimeParseException ex) {
+                throw ctxt.weirdStringException(texto, LocalDate.class, MENSAJE);
+            }
+        }
+    }
+}
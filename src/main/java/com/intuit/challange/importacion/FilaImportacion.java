@@ -0,0 +1,24 @@
+package com.intuit.challange.importacion;
+
+import com.intuit.challange.dto.ClienteRequest;
+
+import java.util.Map;
+
+/**
+ * Una fila leída del archivo. Si no se pudo interpretar (JSON o fecha inválidos),
+ * {@code request} es null y {@code errores} indica el motivo.
+ */
+public record FilaImportacion(long linea, ClienteRequest request, Map<String, String> errores) {
+
+    public static FilaImportacion valida(long linea, ClienteRequest request) {
+        return new FilaImportacion(linea, request, null);
+    }
+
+    public static FilaImportacion invalida(long linea, String campo, String mensaje) {
+        return new FilaImportacion(linea, null, Map.of(campo, mensaje));
+    }
+
+    public boolean legible() {
+        return errores == null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.intuit.challange.importacion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public enum FormatoImportacion {
+
+    NDJSON,
+    CSV;
+
+    public ClienteImportReader reader(InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonClienteImportReader(in, objectMapper);
+            case CSV -> new CsvClienteImportReader(in);
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.intuit.challange.importacion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.intuit.challange.dto.ClienteRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Un ClienteRequest en JSON por línea. Una línea mal formada se informa
+ * como fila inválida y la lectura sigue con la próxima. Acepta las líneas de la
+ * exportación: se ignoran id, version y auditoría, y la fecha puede venir como dd/MM/yyyy.
+ */
+class NdjsonClienteImportReader implements ClienteImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long linea;
+
+    NdjsonClienteImportReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.objectReader = objectMapper.copy()
+                .registerModule(new SimpleModule().addDeserializer(LocalDate.class, new FechaImportacion.Deserializador()))
+                .readerFor(ClienteRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public FilaImportacion siguiente() throws IOException {
+        String texto;
+        while ((texto = reader.readLine()) != null) {
+            linea++;
+            if (texto.isBlank()) {
+                continue;
+            }
+            try {
+                return FilaImportacion.valida(linea, objectReader.readValue(texto));
+            } catch (JsonProcessingException ex) {
+                return FilaImportacion.invalida(linea, "json", "La línea no es un cliente JSON válido: " + ex.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.intuit.challange.limite;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cubeta de tokens sin locks: {@code rafaga} tokens de capacidad que se reponen a
+ * {@code porSegundo}. En lugar de guardar tokens y último acceso (dos valores que
+ * habría que actualizar juntos) guarda un solo instante, el momento en que la cubeta
+ * vuelve a estar llena (GCRA), así tomar un token es un compareAndSet sobre un long.
+ * Los instantes son de {@link System#nanoTime()}.
+ */
+final class CubetaTokens {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final AtomicLong llena;
+
+    CubetaTokens(double porSegundo, int rafaga, long ahora) {
+        this.intervaloNanos = Math.max(1, Math.round(1_000_000_000d / porSegundo));
+        this.toleranciaNanos = (Math.max(1, rafaga) - 1) * intervaloNanos;
+        this.llena = new AtomicLong(ahora);
+    }
+
+    /** 0 si tomó un token; si no, los nanosegundos que faltan para que haya uno. */
+    long tomar(long ahora) {
+        while (true) {
+            long actual = llena.get();
+            long desde = actual - ahora > 0 ? actual : ahora;
+            long espera = desde - toleranciaNanos - ahora;
+            if (espera > 0) {
+                return espera;
+            }
+            if (llena.compareAndSet(actual, desde + intervaloNanos)) {
+                return 0;
+            }
+        }
+    }
+}
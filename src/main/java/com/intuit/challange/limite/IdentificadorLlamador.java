@@ -0,0 +1,45 @@
+package com.intuit.challange.limite;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Quién hace el request, para el límite de solicitudes.
+ * <p>
+ * El header {@value #HEADER_API_KEY} cuenta solo si la clave está en {@code app.llamadores.api-keys}
+ * (separadas por coma). Sin header, o con una clave desconocida, el llamador es la dirección remota:
+ * inventar claves no abre cubetas nuevas ni desaloja las de otros llamadores.
+ */
+@Component
+@Profile("!reactive")
+public class IdentificadorLlamador {
+
+    public static final String HEADER_API_KEY = "X-API-Key";
+
+    // Prefijos distintos: una clave no puede coincidir con una dirección
+    private static final String PREFIJO_API_KEY = "key:";
+    private static final String PREFIJO_DIRECCION = "ip:";
+
+    private final Set<String> apiKeys;
+
+    public IdentificadorLlamador(@Value("${app.llamadores.api-keys:}") String apiKeys) {
+        this.apiKeys = Stream.of(apiKeys.split(","))
+                .map(String::trim)
+                .filter(clave -> !clave.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String de(HttpServletRequest request) {
+        String apiKey = request.getHeader(HEADER_API_KEY);
+        if (apiKey != null && apiKeys.contains(apiKey.trim())) {
+            return PREFIJO_API_KEY + apiKey.trim();
+        }
+        return PREFIJO_DIRECCION + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,121 @@
+package com.intuit.challange.limite;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intuit.challange.exception.LimiteExcedidoException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Límite de requests por llamador y por endpoint (LimiteTasaConfig lo registra para /api/clientes/**).
+ * <p>
+ * El llamador lo da {@link IdentificadorLlamador}: una API key conocida o la dirección remota. Cada endpoint
+ * es un método del controller y toma {@code app.limite.endpoints.<método>.por-segundo / rafaga},
+ * con {@code app.limite.por-segundo / rafaga} por defecto; {@code por-segundo} en 0 lo deja sin límite.
+ * Las cubetas ({@link CubetaTokens}) viven en un Caffeine acotado a {@code app.limite.llamadores}
+ * que desaloja las inactivas; una cubeta desalojada vuelve llena. Al agotarse se lanza
+ * {@link LimiteExcedidoException} y GlobalExceptionHandler responde 429 con Retry-After.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "app.limite.habilitado", havingValue = "true")
+public class LimitadorTasa implements HandlerInterceptor, MeterBinder {
+
+    static final String METRICA_CUBETAS = "limite.cubetas";
+
+    private static final String PREFIJO = "app.limite.";
+    private static final Limite SIN_LIMITE = new Limite(null, 0, 0);
+
+    private final Environment environment;
+    private final IdentificadorLlamador identificador;
+    private final LongSupplier reloj;
+    private final Map<Method, Limite> limites = new ConcurrentHashMap<>();
+    private final Cache<Clave, CubetaTokens> cubetas;
+
+    @Autowired
+    public LimitadorTasa(
+            Environment environment,
+            IdentificadorLlamador identificador,
+            @Value("${app.limite.llamadores:100000}") long llamadores,
+            @Value("${app.limite.inactividad:10m}") Duration inactividad) {
+
+        this(environment, identificador, llamadores, inactividad, System::nanoTime);
+    }
+
+    LimitadorTasa(Environment environment, IdentificadorLlamador identificador,
+                  long llamadores, Duration inactividad, LongSupplier reloj) {
+        this.environment = environment;
+        this.identificador = identificador;
+        this.reloj = reloj;
+        this.cubetas = Caffeine.newBuilder()
+                .maximumSize(llamadores)
+                .expireAfterAccess(inactividad)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // La exportación vuelve a pasar por acá al completar el StreamingResponseBody
+        if (!(handler instanceof HandlerMethod metodo) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        Limite limite = limites.computeIfAbsent(metodo.getMethod(), this::limite);
+        if (limite == SIN_LIMITE) {
+            return true;
+        }
+
+        long ahora = reloj.getAsLong();
+        CubetaTokens cubeta = cubetas.get(new Clave(limite.endpoint(), identificador.de(request)),
+                clave -> new CubetaTokens(limite.porSegundo(), limite.rafaga(), ahora));
+        long espera = cubeta.tomar(ahora);
+        if (espera > 0) {
+            long segundos = Math.max(1, (espera + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new LimiteExcedidoException(
+                    "Se superó el límite de solicitudes para " + limite.endpoint() + "; reintentar en " + segundos + " s",
+                    segundos);
+        }
+        return true;
+    }
+
+    private Limite limite(Method metodo) {
+        String endpoint = metodo.getName();
+        String propio = PREFIJO + "endpoints." + endpoint + ".";
+        double porSegundo = environment.getProperty(propio + "por-segundo", Double.class,
+                environment.getProperty(PREFIJO + "por-segundo", Double.class, 0d));
+        int rafaga = environment.getProperty(propio + "rafaga", Integer.class,
+                environment.getProperty(PREFIJO + "rafaga", Integer.class, 1));
+        return porSegundo > 0 ? new Limite(endpoint, porSegundo, rafaga) : SIN_LIMITE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRICA_CUBETAS, cubetas, Cache::estimatedSize)
+                .description("Cubetas de tokens (llamador y endpoint) en memoria")
+                .register(registry);
+    }
+
+    private record Limite(String endpoint, double porSegundo, int rafaga) {
+    }
+
+    private record Clave(String endpoint, String llamador) {
+    }
+}
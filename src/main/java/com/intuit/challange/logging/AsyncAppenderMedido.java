@@ -0,0 +1,62 @@
+package com.intuit.challange.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender que cuenta los eventos que descarta: por umbral (INFO y menores cuando
+ * queda menos de {@code discardingThreshold} de lugar en la cola) y por cola llena
+ * (con {@code neverBlock}). Los contadores son por nombre de appender y sobreviven a una
+ * reconfiguración de logback; {@link LogsMeterBinder} los publica en Micrometer.
+ */
+public class AsyncAppenderMedido extends AsyncAppender {
+
+    static final String MOTIVO_UMBRAL = "umbral";
+    static final String MOTIVO_COLA_LLENA = "cola_llena";
+
+    private static final Map<String, AsyncAppenderMedido> ACTIVOS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> DESCARTADOS = new ConcurrentHashMap<>();
+
+    private LongAdder porUmbral;
+    private LongAdder porColaLlena;
+
+    @Override
+    public void start() {
+        porUmbral = descartados(getName(), MOTIVO_UMBRAL);
+        porColaLlena = descartados(getName(), MOTIVO_COLA_LLENA);
+        super.start();
+        ACTIVOS.put(getName(), this);
+    }
+
+    @Override
+    public void stop() {
+        ACTIVOS.remove(getName(), this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent evento) {
+        if (isQueueBelowDiscardingThreshold() && isDiscardable(evento)) {
+            porUmbral.increment();
+            return;
+        }
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            porColaLlena.increment();
+            return;
+        }
+        // Entre el chequeo y el offer otro hilo puede llenar la cola: ese descarte no se cuenta
+        super.append(evento);
+    }
+
+    static Map<String, AsyncAppenderMedido> activos() {
+        return ACTIVOS;
+    }
+
+    static LongAdder descartados(String appender, String motivo) {
+        return DESCARTADOS.computeIfAbsent(appender + "|" + motivo, clave -> new LongAdder());
+    }
+}
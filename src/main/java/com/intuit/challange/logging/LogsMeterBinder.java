@@ -0,0 +1,51 @@
+package com.intuit.challange.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas del pipeline de logs: eventos descartados por cada {@link AsyncAppenderMedido}
+ * (logs.descartados, por motivo), ocupación de su cola (logs.cola) y eventos que no pasaron
+ * el {@link MuestreoTurboFilter} (logs.muestreados, por logger).
+ */
+@Component
+public class LogsMeterBinder implements MeterBinder {
+
+    static final String METRICA_DESCARTADOS = "logs.descartados";
+    static final String METRICA_COLA = "logs.cola";
+    static final String METRICA_MUESTREADOS = "logs.muestreados";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        AsyncAppenderMedido.activos().keySet().forEach(appender -> {
+            for (String motivo : List.of(AsyncAppenderMedido.MOTIVO_UMBRAL, AsyncAppenderMedido.MOTIVO_COLA_LLENA)) {
+                FunctionCounter.builder(METRICA_DESCARTADOS,
+                                AsyncAppenderMedido.descartados(appender, motivo), LongAdder::sum)
+                        .tag("appender", appender)
+                        .tag("motivo", motivo)
+                        .description("Eventos de log descartados por el appender asíncrono")
+                        .register(registry);
+            }
+            // Por nombre: si logback se reconfigura el gauge sigue a la instancia nueva
+            Gauge.builder(METRICA_COLA, () -> {
+                        AsyncAppenderMedido activo = AsyncAppenderMedido.activos().get(appender);
+                        return activo != null ? activo.getNumberOfElementsInQueue() : 0;
+                    })
+                    .tag("appender", appender)
+                    .description("Eventos esperando en la cola del appender asíncrono")
+                    .register(registry);
+        });
+
+        MuestreoTurboFilter.muestreados().forEach((logger, descartados) ->
+                FunctionCounter.builder(METRICA_MUESTREADOS, descartados, LongAdder::sum)
+                        .tag("logger", logger)
+                        .description("Eventos de log descartados por muestreo")
+                        .register(registry));
+    }
+}
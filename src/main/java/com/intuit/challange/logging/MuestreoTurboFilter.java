@@ -0,0 +1,97 @@
+package com.intuit.challange.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Muestreo de mensajes frecuentes de un logger: de los eventos INFO o menores cuyo
+ * mensaje empieza con alguno de los {@code mensaje} configurados pasa solo la fracción
+ * {@code tasa} (0 a 1). WARN y ERROR nunca se muestrean. Corre antes de armar el evento,
+ * así lo descartado no formatea el mensaje ni ocupa lugar en la cola del appender.
+ * <pre>
+ * &lt;turboFilter class="com.intuit.challange.logging.MuestreoTurboFilter"&gt;
+ *     &lt;logger&gt;com.intuit.challange.service.ClienteServiceImpl&lt;/logger&gt;
+ *     &lt;mensaje&gt;Cliente encontrado&lt;/mensaje&gt;
+ *     &lt;tasa&gt;0.1&lt;/tasa&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class MuestreoTurboFilter extends TurboFilter {
+
+    private static final Map<String, LongAdder> MUESTREADOS = new ConcurrentHashMap<>();
+
+    private final List<String> mensajes = new ArrayList<>();
+    private String logger;
+    private double tasa = 1.0;
+    private LongAdder descartados;
+
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    public void addMensaje(String mensaje) {
+        mensajes.add(mensaje);
+    }
+
+    public void setTasa(double tasa) {
+        this.tasa = tasa;
+    }
+
+    @Override
+    public void start() {
+        if (logger == null || mensajes.isEmpty()) {
+            addError("MuestreoTurboFilter necesita 'logger' y al menos un 'mensaje'");
+            return;
+        }
+        if (tasa < 0 || tasa > 1) {
+            addError("La tasa de muestreo debe estar entre 0 y 1: " + tasa);
+            return;
+        }
+        descartados = muestreados(logger);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted()
+                || format == null
+                || level.isGreaterOrEqual(Level.WARN)
+                || !this.logger.equals(logger.getName())
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !coincide(format)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (ThreadLocalRandom.current().nextDouble() < tasa) {
+            return FilterReply.NEUTRAL;
+        }
+        descartados.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean coincide(String format) {
+        for (String mensaje : mensajes) {
+            if (format.startsWith(mensaje)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Map<String, LongAdder> muestreados() {
+        return MUESTREADOS;
+    }
+
+    static LongAdder muestreados(String logger) {
+        return MUESTREADOS.computeIfAbsent(logger, clave -> new LongAdder());
+    }
+}
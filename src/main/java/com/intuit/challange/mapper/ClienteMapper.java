@@ -3,6 +3,7 @@ package com.intuit.challange.mapper;
 import com.intuit.challange.dto.ClienteRequest;
 import com.intuit.challange.dto.ClienteResponse;
 import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.repository.projection.ClienteView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,6 +22,24 @@ public class ClienteMapper {
                 .email(c.getEmail())
                 .fechaCreacion(c.getFechaCreacion())
                 .fechaModificacion(c.getFechaModificacion())
+                .version(c.getVersion())
+                .build();
+    }
+
+    public ClienteResponse mapViewToResponse(ClienteView v) {
+
+        return ClienteResponse.builder()
+                .id(v.getId())
+                .nombre(v.getNombre())
+                .apellido(v.getApellido())
+                .razonSocial(v.getRazonSocial())
+                .cuit(v.getCuit())
+                .fechaNacimiento(v.getFechaNacimiento())
+                .telefonoCelular(v.getTelefonoCelular())
+                .email(v.getEmail())
+                .fechaCreacion(v.getFechaCreacion())
+                .fechaModificacion(v.getFechaModificacion())
+                .version(v.getVersion())
                 .build();
     }
 
@@ -37,6 +56,20 @@ public class ClienteMapper {
                 .build();
     }
 
+    // Punto de partida de un merge patch: el cliente actual como request completo
+    public ClienteRequest mapToRequest(Cliente c) {
+
+        return ClienteRequest.builder()
+                .nombre(c.getNombre())
+                .apellido(c.getApellido())
+                .razonSocial(c.getRazonSocial())
+                .cuit(c.getCuit())
+                .fechaNacimiento(c.getFechaNacimiento())
+                .telefonoCelular(c.getTelefonoCelular())
+                .email(c.getEmail())
+                .build();
+    }
+
     public void updateEntity( Cliente c, ClienteRequest r) {
         c.setNombre(r.getNombre());
         c.setApellido(r.getApellido());
@@ -0,0 +1,150 @@
+package com.intuit.challange.pagination;
+
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.exception.CursorInvalidoException;
+import org.springframework.data.domain.Sort;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cursor opaco para paginación por keyset (seek).
+ * Codifica la última clave de orden y el id devueltos, de modo que la
+ * página siguiente se resuelve con un WHERE sobre índice en lugar de un OFFSET.
+ */
+public record ClienteCursor(String propiedad, Sort.Direction direccion, Object valor, Long id) {
+
+    public static final String ID = "id";
+
+    private static final String SEPARADOR = "|";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /*
+     * Solo columnas NOT NULL (el keyset no admite claves nulas) y con índice que empiece por ellas:
+     * (nombre, id), (apellido, id) y (fecha_nacimiento, id) en schema-postgre.sql; cuit y email
+     * usan su índice único. Otro orden se pagina por offset y la respuesta no trae nextCursor.
+     */
+    private static final Map<String, Function<String, Object>> PARSERS = Map.of(
+            "nombre", v -> v,
+            "apellido", v -> v,
+            "cuit", v -> v,
+            "email", v -> v,
+            "fechaNacimiento", LocalDate::parse
+    );
+
+    private static final Map<String, Function<Cliente, Object>> EXTRACTORES = Map.of(
+            "nombre", Cliente::getNombre,
+            "apellido", Cliente::getApellido,
+            "cuit", Cliente::getCuit,
+            "email", Cliente::getEmail,
+            "fechaNacimiento", Cliente::getFechaNacimiento
+    );
+
+    private static final Map<String, Function<ClienteResponse, Object>> EXTRACTORES_RESPONSE = Map.of(
+            "nombre", ClienteResponse::getNombre,
+            "apellido", ClienteResponse::getApellido,
+            "cuit", ClienteResponse::getCuit,
+            "email", ClienteResponse::getEmail,
+            "fechaNacimiento", ClienteResponse::getFechaNacimiento
+    );
+
+    public static ClienteCursor porId(Long id) {
+        return new ClienteCursor(ID, Sort.Direction.ASC, null, id);
+    }
+
+    /**
+     * Construye el cursor que apunta después de {@code ultimo} según el orden dado.
+     * Devuelve vacío si el orden no es compatible con keyset (varias columnas o columna no soportada).
+     */
+    public static Optional<ClienteCursor> despuesDe(Cliente ultimo, Sort sort) {
+        return despuesDe(ultimo, ultimo.getId(), EXTRACTORES, sort);
+    }
+
+    /** Igual que {@link #despuesDe(Cliente, Sort)} para páginas leídas como DTO. */
+    public static Optional<ClienteCursor> despuesDe(ClienteResponse ultimo, Sort sort) {
+        return despuesDe(ultimo, ultimo.getId(), EXTRACTORES_RESPONSE, sort);
+    }
+
+    private static <T> Optional<ClienteCursor> despuesDe(T ultimo, Long id,
+                                                         Map<String, Function<T, Object>> extractores, Sort sort) {
+        if (sort.isUnsorted()) {
+            return Optional.of(porId(id));
+        }
+        if (sort.stream().count() > 1) {
+            return Optional.empty();
+        }
+
+        Sort.Order order = sort.iterator().next();
+        String propiedad = order.getProperty();
+
+        if (ID.equals(propiedad)) {
+            return Optional.of(new ClienteCursor(ID, order.getDirection(), null, id));
+        }
+        if (!extractores.containsKey(propiedad)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ClienteCursor(
+                propiedad, order.getDirection(), extractores.get(propiedad).apply(ultimo), id));
+    }
+
+    public static ClienteCursor decode(String token) {
+        try {
+            String plano = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            String[] partes = plano.split("\\" + SEPARADOR, -1);
+
+            if (partes.length != 4) {
+                throw new CursorInvalidoException("El cursor 'after' no es válido");
+            }
+
+            String propiedad = partes[0];
+            Sort.Direction direccion = Sort.Direction.fromString(partes[1]);
+            Long id = Long.valueOf(partes[3]);
+
+            if (ID.equals(propiedad)) {
+                return new ClienteCursor(ID, direccion, null, id);
+            }
+
+            Function<String, Object> parser = PARSERS.get(propiedad);
+            if (parser == null) {
+                throw new CursorInvalidoException("El cursor 'after' no es válido");
+            }
+            String valor = URLDecoder.decode(partes[2], StandardCharsets.UTF_8);
+            return new ClienteCursor(propiedad, direccion, parser.apply(valor), id);
+
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new CursorInvalidoException("El cursor 'after' no es válido");
+        }
+    }
+
+    public String encode() {
+        String valorPlano = valor == null ? "" : URLEncoder.encode(valor.toString(), StandardCharsets.UTF_8);
+        String plano = String.join(SEPARADOR, propiedad, direccion.name(), valorPlano, String.valueOf(id));
+        return ENCODER.encodeToString(plano.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Cursor con el mismo orden, posicionado después de {@code ultimo}. */
+    public ClienteCursor siguiente(Cliente ultimo) {
+        Object nuevoValor = esPorId() ? null : EXTRACTORES.get(propiedad).apply(ultimo);
+        return new ClienteCursor(propiedad, direccion, nuevoValor, ultimo.getId());
+    }
+
+    /** Igual que {@link #siguiente(Cliente)} para páginas leídas como DTO. */
+    public ClienteCursor siguiente(ClienteResponse ultimo) {
+        Object nuevoValor = esPorId() ? null : EXTRACTORES_RESPONSE.get(propiedad).apply(ultimo);
+        return new ClienteCursor(propiedad, direccion, nuevoValor, ultimo.getId());
+    }
+
+    public boolean esPorId() {
+        return ID.equals(propiedad);
+    }
+}
@@ -0,0 +1,172 @@
+package com.intuit.challange.replica;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reparte las conexiones de lectura en round robin entre las réplicas sanas.
+ * <p>
+ * Un chequeo periódico ({@link Connection#isValid}) marca cada réplica como sana o caída,
+ * y una réplica que falla al dar una conexión se marca caída en el momento, así el request
+ * sigue con la próxima. Sin réplicas sanas, o con {@link LecturaPropia} activa, la lectura
+ * sale de la primaria. Es dueño de los pools: {@link #close()} los cierra a todos.
+ */
+@Slf4j
+public class BalanceadorReplicas implements MeterBinder, AutoCloseable {
+
+    static final String METRICA_LECTURAS = "datasource.lecturas";
+    static final String METRICA_SANA = "datasource.replica.sana";
+    public static final String PRIMARIA = "primaria";
+
+    private static final int TIMEOUT_CHEQUEO_SEGUNDOS = 2;
+
+    private final DataSource primaria;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger siguiente = new AtomicInteger();
+    private final LongAdder lecturasPrimaria = new LongAdder();
+    private final ScheduledExecutorService chequeo;
+
+    public BalanceadorReplicas(DataSource primaria, Map<String, DataSource> replicas, Duration intervaloChequeo) {
+        this.primaria = primaria;
+        replicas.forEach((nombre, dataSource) -> this.replicas.add(new Replica(nombre, dataSource)));
+
+        this.chequeo = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "replicas-chequeo");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        long intervalo = intervaloChequeo.toMillis();
+        chequeo.scheduleWithFixedDelay(this::chequear, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    public DataSource primaria() {
+        return primaria;
+    }
+
+    /** DataSource de solo lectura: cada conexión sale de la próxima réplica sana. */
+    public DataSource lectura() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return conexionLectura();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLFeatureNotSupportedException("Las réplicas usan las credenciales de su pool");
+            }
+        };
+    }
+
+    Connection conexionLectura() throws SQLException {
+        if (!LecturaPropia.activa() && !replicas.isEmpty()) {
+            int inicio = Math.floorMod(siguiente.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((inicio + i) % replicas.size());
+                if (replica.sana) {
+                    try {
+                        Connection conexion = replica.dataSource.getConnection();
+                        replica.lecturas.increment();
+                        return conexion;
+                    } catch (SQLException ex) {
+                        marcar(replica, false, ex);
+                    }
+                }
+            }
+        }
+        lecturasPrimaria.increment();
+        return primaria.getConnection();
+    }
+
+    void chequear() {
+        for (Replica replica : replicas) {
+            boolean sana;
+            Exception causa = null;
+            try (Connection conexion = replica.dataSource.getConnection()) {
+                sana = conexion.isValid(TIMEOUT_CHEQUEO_SEGUNDOS);
+            } catch (SQLException | RuntimeException ex) {
+                sana = false;
+                causa = ex;
+            }
+            marcar(replica, sana, causa);
+        }
+    }
+
+    boolean sana(String nombre) {
+        return replicas.stream().anyMatch(replica -> replica.nombre.equals(nombre) && replica.sana);
+    }
+
+    private static void marcar(Replica replica, boolean sana, Exception causa) {
+        if (replica.sana == sana) {
+            return;
+        }
+        replica.sana = sana;
+        if (sana) {
+            log.info("Réplica {} disponible de nuevo", replica.nombre);
+        } else {
+            log.warn("Réplica {} fuera de servicio: {}", replica.nombre,
+                    causa != null ? causa.getMessage() : "la conexión no es válida");
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRICA_LECTURAS, lecturasPrimaria, LongAdder::sum)
+                .tag("destino", PRIMARIA)
+                .description("Conexiones de solo lectura entregadas, por destino")
+                .register(registry);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder(METRICA_LECTURAS, replica.lecturas, LongAdder::sum)
+                    .tag("destino", replica.nombre)
+                    .description("Conexiones de solo lectura entregadas, por destino")
+                    .register(registry);
+            Gauge.builder(METRICA_SANA, replica, r -> r.sana ? 1 : 0)
+                    .tag("replica", replica.nombre)
+                    .description("1 si la réplica recibe lecturas, 0 si está fuera de servicio")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        chequeo.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+        if (primaria instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private static final class Replica {
+        private final String nombre;
+        private final DataSource dataSource;
+        private final LongAdder lecturas = new LongAdder();
+        private volatile boolean sana = true;
+
+        private Replica(String nombre, DataSource dataSource) {
+            this.nombre = nombre;
+            this.dataSource = dataSource;
+        }
+    }
+}
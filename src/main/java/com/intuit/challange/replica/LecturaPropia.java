@@ -0,0 +1,42 @@
+package com.intuit.challange.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Marca el hilo del request en curso para que sus lecturas vayan a la primaria:
+ * las escrituras y las lecturas de un llamador que acaba de escribir
+ * (ventana de {@link LecturaPropiaFilter}) no ven el retraso de las réplicas.
+ * {@link #enPrimaria} hace lo mismo para una lectura puntual. Sin réplicas no tiene efecto.
+ */
+public final class LecturaPropia {
+
+    private static final ThreadLocal<Boolean> PRIMARIA = new ThreadLocal<>();
+
+    private LecturaPropia() {
+    }
+
+    static void activar() {
+        PRIMARIA.set(Boolean.TRUE);
+    }
+
+    static boolean activa() {
+        return PRIMARIA.get() != null;
+    }
+
+    static void limpiar() {
+        PRIMARIA.remove();
+    }
+
+    /** Ejecuta {@code lectura} contra la primaria aunque pida una conexión de solo lectura. */
+    public static <T> T enPrimaria(Supplier<T> lectura) {
+        if (activa()) {
+            return lectura.get();
+        }
+        activar();
+        try {
+            return lectura.get();
+        } finally {
+            limpiar();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.intuit.challange.replica;
+
+import com.intuit.challange.config.ReplicasConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Leer lo propio: cada escritura responde con la cookie {@value #COOKIE} (hasta cuándo, en epoch ms)
+ * y las lecturas que la traen de vuelta van a la primaria durante {@code app.datasource.replicas.lectura-propia},
+ * así quien escribió no ve una réplica atrasada. La ventana es de quien tiene la cookie, no de la dirección:
+ * detrás de un gateway las escrituras de uno no mandan a la primaria las lecturas de los demás.
+ * Las escrituras siempre leen de la primaria. Con la ventana en 0 solo se aplica esto último.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnExpression(ReplicasConfig.CON_REPLICAS)
+public class LecturaPropiaFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "lectura-propia";
+
+    private static final Set<String> LECTURAS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final Duration ventana;
+    private final LongSupplier reloj;
+
+    @Autowired
+    public LecturaPropiaFilter(@Value("${app.datasource.replicas.lectura-propia:5s}") Duration ventana) {
+        this(ventana, System::currentTimeMillis);
+    }
+
+    LecturaPropiaFilter(Duration ventana, LongSupplier reloj) {
+        this.ventana = ventana;
+        this.reloj = reloj;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        boolean escritura = !LECTURAS.contains(request.getMethod());
+
+        if (escritura || dentroDeLaVentana(request)) {
+            LecturaPropia.activar();
+        }
+        // Antes de la cadena: con el cuerpo escrito ya no se pueden agregar headers.
+        // Si la escritura falla, la cookie solo manda a la primaria las lecturas de este llamador un rato
+        if (escritura && !ventana.isZero()) {
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie().toString());
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            LecturaPropia.limpiar();
+        }
+    }
+
+    private ResponseCookie cookie() {
+        String hasta = Long.toString(reloj.getAsLong() + ventana.toMillis());
+        return ResponseCookie.from(COOKIE, hasta)
+                .maxAge(ventana)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+    }
+
+    // Un valor más lejano que la ventana no es de este servidor: no fija las lecturas a la primaria
+    private boolean dentroDeLaVentana(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null || ventana.isZero()) {
+            return false;
+        }
+        try {
+            long restante = Long.parseLong(cookie.getValue()) - reloj.getAsLong();
+            return restante > 0 && restante <= ventana.toMillis();
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.intuit.challange.repository;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.importacion.FilaImportacion;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Importación masiva con COPY: las filas van a una tabla temporal y una única
+ * sentencia las fusiona en clientes, devolviendo lo insertado y lo rechazado.
+ * Debe ejecutarse dentro de una transacción (la tabla temporal se borra al commit).
+ */
+@Repository
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ClienteImportRepository {
+
+    /* Igual al allocationSize de Cliente.id: cada nextval reserva un bloque de 50 ids. */
+    private static final int BLOQUE_IDS = 50;
+
+    private static final int BUFFER_COPY = 64 * 1024;
+
+    private static final String CREAR_STAGING = """
+            CREATE TEMP TABLE clientes_import (
+                linea bigint NOT NULL,
+                nombre text,
+                apellido text,
+                razon_social text,
+                cuit text,
+                fecha_nacimiento date,
+                telefono_celular text,
+                email text
+            ) ON COMMIT DROP""";
+
+    private static final String COPY = """
+            COPY clientes_import (linea, nombre, apellido, razon_social, cuit, fecha_nacimiento, telefono_celular, email)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    /*
+     * - candidatos: cada fila con su número de aparición de CUIT y de email en el archivo.
+     * - nuevos: la primera aparición de cada uno, numerada para repartir ids.
+     * - bloques: un nextval por cada 50 filas, como hace Hibernate con la secuencia.
+     * - ON CONFLICT DO NOTHING descarta los que ya existen (o que otra alta concurrente
+     *   acaba de insertar) sin abortar; sondear antes el índice solo duplicaba el trabajo.
+     * La consulta final devuelve los insertados (motivo NULL) y cada fila rechazada con su motivo;
+     * los EXISTS sobre clientes ven la tabla previa a la sentencia, no lo recién insertado.
+     */
+    private static final String FUSIONAR = """
+            WITH candidatos AS (
+                SELECT i.*,
+                       row_number() OVER (PARTITION BY i.cuit ORDER BY i.linea) AS rn_cuit,
+                       row_number() OVER (PARTITION BY i.email ORDER BY i.linea) AS rn_email
+                FROM clientes_import i
+            ), nuevos AS (
+                SELECT c.*, row_number() OVER (ORDER BY c.linea) - 1 AS pos
+                FROM candidatos c
+                WHERE c.rn_cuit = 1 AND c.rn_email = 1
+            ), bloques AS (
+                SELECT g - 1 AS bloque, nextval('clientes_id_seq') AS hi
+                FROM generate_series(1, (SELECT ceil(count(*) / %1$d.0)::int FROM nuevos)) g
+            ), insertados AS (
+                INSERT INTO clientes (id, nombre, apellido, razon_social, cuit, fecha_nacimiento,
+                                      telefono_celular, email, fecha_creacion, fecha_modificacion)
+                SELECT b.hi - %1$d + 1 + n.pos %% %1$d, n.nombre, n.apellido, n.razon_social, n.cuit,
+                       n.fecha_nacimiento, n.telefono_celular, n.email, localtimestamp, localtimestamp
+                FROM nuevos n
+                JOIN bloques b ON b.bloque = n.pos / %1$d
+                ON CONFLICT DO NOTHING
+                RETURNING cuit, email
+            )
+            SELECT NULL::bigint AS linea, x.cuit, x.email, NULL::text AS motivo
+            FROM insertados x
+            UNION ALL
+            SELECT c.linea, c.cuit, c.email,
+                   CASE
+                       WHEN c.rn_cuit > 1 THEN 'CUIT_REPETIDO'
+                       WHEN c.rn_email > 1 THEN 'EMAIL_REPETIDO'
+                       WHEN EXISTS (SELECT 1 FROM clientes e WHERE e.cuit = c.cuit) THEN 'CUIT_EXISTENTE'
+                       WHEN EXISTS (SELECT 1 FROM clientes e WHERE e.email = c.email) THEN 'EMAIL_EXISTENTE'
+                       ELSE 'CONCURRENTE'
+                   END
+            FROM candidatos c
+            WHERE NOT (c.rn_cuit = 1 AND c.rn_email = 1
+                       AND EXISTS (SELECT 1 FROM insertados x WHERE x.cuit = c.cuit))""".formatted(BLOQUE_IDS);
+
+    private final EntityManager entityManager;
+
+    /** Fila fusionada: {@code motivo} es null si se insertó. */
+    public record Resultado(Long linea, String cuit, String email, String motivo) {
+        public boolean importado() {
+            return motivo == null;
+        }
+    }
+
+    public void importar(Iterator<FilaImportacion> filas, Consumer<Resultado> resultados) {
+        entityManager.unwrap(Session.class).doWork(conn -> {
+            try (Statement st = conn.createStatement()) {
+                st.execute(CREAR_STAGING);
+            }
+
+            copiar(conn, filas);
+
+            try (Statement st = conn.createStatement()) {
+                st.execute("ANALYZE clientes_import");
+                // Los row_number() ordenan todo el archivo: que lo hagan en memoria
+                st.execute("SET LOCAL work_mem = '256MB'");
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(FUSIONAR)) {
+                ps.setFetchSize(1000);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        resultados.accept(new Resultado(
+                                rs.getObject(1, Long.class), rs.getString(2), rs.getString(3), rs.getString(4)));
+                    }
+                }
+            }
+        });
+    }
+
+    private void copiar(Connection conn, Iterator<FilaImportacion> filas) throws SQLException {
+        CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY);
+        try {
+            StringBuilder buffer = new StringBuilder(BUFFER_COPY + 1024);
+            while (filas.hasNext()) {
+                agregar(buffer, filas.next());
+                if (buffer.length() >= BUFFER_COPY) {
+                    enviar(copyIn, buffer);
+                }
+            }
+            enviar(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void enviar(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void agregar(StringBuilder buffer, FilaImportacion fila) {
+        ClienteRequest r = fila.request();
+        buffer.append(fila.linea());
+        campo(buffer, r.getNombre());
+        campo(buffer, r.getApellido());
+        campo(buffer, r.getRazonSocial());
+        campo(buffer, r.getCuit());
+        campo(buffer, r.getFechaNacimiento() == null ? null : r.getFechaNacimiento().toString());
+        campo(buffer, r.getTelefonoCelular());
+        campo(buffer, r.getEmail());
+        buffer.append('\n');
+    }
+
+    /* En COPY csv un campo vacío sin comillas es NULL; los textos van siempre entre comillas. */
+    private static void campo(StringBuilder buffer, String valor) {
+        buffer.append(',');
+        if (valor == null) {
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+}
@@ -0,0 +1,65 @@
+package com.intuit.challange.repository;
+
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.pagination.ClienteCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Páginas de listar por cursor armadas por la consulta, como findPagina: sin entidades
+ * administradas ni snapshots. La posición se compara como fila, {@code (clave, id) > (:valor, :id)},
+ * que PostgreSQL resuelve buscando en el índice (clave, id) en lugar de recorrerlo desde el principio.
+ */
+@Repository
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ClienteKeysetRepository {
+
+    private static final String SELECT = """
+            SELECT new com.intuit.challange.dto.ClienteResponse(
+                       c.id, c.nombre, c.apellido, c.razonSocial, c.cuit, c.fechaNacimiento,
+                       c.telefonoCelular, c.email, c.fechaCreacion, c.fechaModificacion, c.version)
+            FROM Cliente c
+            """;
+
+    /* Se concatenan al HQL: solo propiedades conocidas, las mismas que acepta ClienteCursor. */
+    private static final Set<String> PROPIEDADES = Set.of(
+            "nombre", "apellido", "cuit", "email", "fechaNacimiento");
+
+    private final EntityManager entityManager;
+
+    /** Hasta {@code limit} clientes posteriores a la clave del cursor, en su mismo orden. */
+    public List<ClienteResponse> findDesde(ClienteCursor cursor, int limit) {
+        String operador = cursor.direccion().isAscending() ? ">" : "<";
+        String direccion = cursor.direccion().name();
+
+        TypedQuery<ClienteResponse> query;
+        if (cursor.esPorId()) {
+            query = entityManager.createQuery(
+                    SELECT + "WHERE c.id " + operador + " :id ORDER BY c.id " + direccion, ClienteResponse.class);
+        } else {
+            String propiedad = propiedad(cursor.propiedad());
+            query = entityManager.createQuery(
+                            SELECT + "WHERE (c." + propiedad + ", c.id) " + operador + " (:valor, :id)"
+                                    + " ORDER BY c." + propiedad + " " + direccion + ", c.id " + direccion,
+                            ClienteResponse.class)
+                    .setParameter("valor", cursor.valor());
+        }
+        return query.setParameter("id", cursor.id())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static String propiedad(String propiedad) {
+        if (!PROPIEDADES.contains(propiedad)) {
+            throw new IllegalArgumentException("No se puede paginar por cursor con la propiedad '" + propiedad + "'");
+        }
+        return propiedad;
+    }
+}
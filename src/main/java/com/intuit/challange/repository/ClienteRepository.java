@@ -1,12 +1,26 @@
 package com.intuit.challange.repository;
 
+import com.intuit.challange.dto.ClienteResponse;
 import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.repository.projection.ClienteBusquedaView;
+import com.intuit.challange.repository.projection.ClienteClaveView;
+import com.intuit.challange.repository.projection.ClienteView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClienteRepository extends JpaRepository< Cliente, Long > {
@@ -15,24 +29,125 @@ public interface ClienteRepository extends JpaRepository< Cliente, Long > {
 
     boolean existsByEmail(String email);
 
+    // Validación de ETag: solo la versión, sin cargar la entidad
+    @Query("SELECT c.version FROM Cliente c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /*
+     * Cambio de email en un solo viaje: sin leer la entidad ni consultar la unicidad antes
+     * (un email repetido lo rechaza uk_clientes_email). Con :version solo actualiza si
+     * coincide; sin filas devueltas el cliente no existe o cambió de versión.
+     */
     @Query(value = """
-            SELECT *
+            UPDATE clientes
+               SET email = :email, fecha_modificacion = :ahora, version = version + 1
+             WHERE id = :id
+               AND version = COALESCE(CAST(:version AS bigint), version)
+            RETURNING id,
+                      nombre,
+                      apellido,
+                      razon_social AS "razonSocial",
+                      cuit,
+                      fecha_nacimiento AS "fechaNacimiento",
+                      telefono_celular AS "telefonoCelular",
+                      email,
+                      fecha_creacion AS "fechaCreacion",
+                      fecha_modificacion AS "fechaModificacion",
+                      version
+            """, nativeQuery = true)
+    Optional<ClienteView> actualizarEmail(@Param("id") Long id,
+                                          @Param("email") String email,
+                                          @Param("version") Long version,
+                                          @Param("ahora") LocalDateTime ahora);
+
+    // Baja en un solo DELETE; las filas afectadas dicen si el cliente existía
+    @Modifying
+    @Query("DELETE FROM Cliente c WHERE c.id = :id")
+    int eliminarPorId(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.cuit AS cuit, c.email AS email FROM Cliente c")
+    Stream<ClienteClaveView> streamClaves();
+
+    // Cursor del servidor: el driver trae las filas de a 500 en lugar de materializar la tabla
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Cliente c ORDER BY c.id")
+    Stream<Cliente> streamTodos();
+
+    // Unicidad de un lote completo en una sola consulta
+    @Query("SELECT c.cuit AS cuit, c.email AS email FROM Cliente c WHERE c.cuit IN :cuits OR c.email IN :emails")
+    List<ClienteClaveView> findClavesExistentes(@Param("cuits") Collection<String> cuits,
+                                                @Param("emails") Collection<String> emails);
+
+    @Query(value = """
+            SELECT id,
+                   nombre,
+                   apellido,
+                   razon_social AS "razonSocial",
+                   cuit,
+                   fecha_nacimiento AS "fechaNacimiento",
+                   telefono_celular AS "telefonoCelular",
+                   email,
+                   fecha_creacion AS "fechaCreacion",
+                   fecha_modificacion AS "fechaModificacion",
+                   version,
+                   total_count AS "totalCount"
                 FROM buscar_clientes_por_nombre(
                     CAST(:nombre AS text),
                     :limit,
                     :offset
                 )
             """, nativeQuery = true)
-    List<Cliente> searchByNombreProcedure(
+    List<ClienteBusquedaView> searchByNombreProcedure(
             @Param("nombre") String nombre,
             @Param("limit") int limit,
             @Param("offset") int offset
     );
 
+    @Query(value = """
+            SELECT id,
+                   nombre,
+                   apellido,
+                   razon_social AS "razonSocial",
+                   cuit,
+                   fecha_nacimiento AS "fechaNacimiento",
+                   telefono_celular AS "telefonoCelular",
+                   email,
+                   fecha_creacion AS "fechaCreacion",
+                   fecha_modificacion AS "fechaModificacion",
+                   version
+                FROM buscar_clientes_por_nombre_desde(
+                    CAST(:nombre AS text),
+                    :afterId,
+                    :limit
+                )
+            """, nativeQuery = true)
+    List<ClienteView> searchByNombreDesdeProcedure(
+            @Param("nombre") String nombre,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    // Página de listado armada por la consulta: sin entidades administradas ni snapshots
+    @Query(value = """
+            SELECT new com.intuit.challange.dto.ClienteResponse(
+                       c.id, c.nombre, c.apellido, c.razonSocial, c.cuit, c.fechaNacimiento,
+                       c.telefonoCelular, c.email, c.fechaCreacion, c.fechaModificacion, c.version)
+            FROM Cliente c
+            """,
+            countQuery = "SELECT COUNT(c) FROM Cliente c")
+    Page<ClienteResponse> findPagina(Pageable pageable);
+
     @Query(value = """
             SELECT COUNT(*)
             FROM clientes
-            WHERE nombre ILIKE CONCAT('%', :nombre, '%')
+            WHERE nombre_normalizado LIKE CONCAT('%', normalizar_texto(CAST(:nombre AS text)), '%')
         """, nativeQuery = true)
     long countByNombre(@Param("nombre") String nombre);
 
@@ -0,0 +1,10 @@
+package com.intuit.challange.repository.projection;
+
+/**
+ * Fila devuelta por buscar_clientes_por_nombre: columnas del cliente
+ * más el total de coincidencias calculado con COUNT(*) OVER().
+ */
+public interface ClienteBusquedaView extends ClienteView {
+
+    Long getTotalCount();
+}
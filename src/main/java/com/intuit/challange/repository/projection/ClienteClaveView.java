@@ -0,0 +1,11 @@
+package com.intuit.challange.repository.projection;
+
+/**
+ * Claves únicas de un cliente, usadas para precargar el filtro de unicidad.
+ */
+public interface ClienteClaveView {
+
+    String getCuit();
+
+    String getEmail();
+}
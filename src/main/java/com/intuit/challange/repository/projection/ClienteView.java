@@ -0,0 +1,33 @@
+package com.intuit.challange.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columnas de un cliente leídas sin cargar la entidad: no entra al contexto
+ * de persistencia ni genera snapshot para dirty checking.
+ */
+public interface ClienteView {
+
+    Long getId();
+
+    String getNombre();
+
+    String getApellido();
+
+    String getRazonSocial();
+
+    String getCuit();
+
+    LocalDate getFechaNacimiento();
+
+    String getTelefonoCelular();
+
+    String getEmail();
+
+    LocalDateTime getFechaCreacion();
+
+    LocalDateTime getFechaModificacion();
+
+    Long getVersion();
+}
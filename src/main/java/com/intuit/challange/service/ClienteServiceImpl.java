@@ -1,56 +1,252 @@
 package com.intuit.challange.service;
 
+import com.intuit.challange.config.CacheConfig;
+import com.intuit.challange.dto.ClienteImportResponse;
+import com.intuit.challange.dto.ClienteLoteResponse;
 import com.intuit.challange.dto.ClienteRequest;
 import com.intuit.challange.dto.ClienteResponse;
 import com.intuit.challange.dto.PagedResponse;
 import com.intuit.challange.entity.Cliente;
 import com.intuit.challange.exception.ArgumentoDuplicadoException;
+import com.intuit.challange.exception.ClienteInvalidoException;
 import com.intuit.challange.exception.ClienteNotFoundException;
+import com.intuit.challange.exception.CursorInvalidoException;
+import com.intuit.challange.exception.PrecondicionFallidaException;
+import com.intuit.challange.export.ClienteExportWriter;
+import com.intuit.challange.importacion.ClienteImportReader;
+import com.intuit.challange.importacion.FilaImportacion;
+import com.intuit.challange.repository.ClienteImportRepository;
+import com.intuit.challange.repository.ClienteKeysetRepository;
 import com.intuit.challange.mapper.ClienteMapper;
+import com.intuit.challange.pagination.ClienteCursor;
 import com.intuit.challange.repository.ClienteRepository;
+import com.intuit.challange.repository.projection.ClienteBusquedaView;
+import com.intuit.challange.repository.projection.ClienteClaveView;
+import com.intuit.challange.repository.projection.ClienteView;
 import com.intuit.challange.service.abstraction.ClienteService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.AbstractIterator;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ClienteServiceImpl implements ClienteService {
 
     private final ClienteRepository repository;
     private final ClienteMapper clienteMapper;
+    private final ClienteUnicidadFilter unicidadFilter;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ClienteImportRepository importRepository;
+    private final ClienteKeysetRepository keysetRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_RECHAZOS_DETALLADOS = 1000;
+    // SQLState de unique_violation en PostgreSQL
+    private static final String VIOLACION_UNICIDAD = "23505";
+
+    @Value("${app.unicidad.alta-optimista:false}")
+    private boolean altaOptimista;
 
     @Override
     @Transactional
     public ClienteResponse crear(ClienteRequest request) {
         log.info("Iniciando creación de cliente. CUIT: {}", request.getCuit());
 
-        validarUnicidad(request);
-
         Cliente cliente = clienteMapper.mapToEntity(request);
-        Cliente guardado = repository.save(cliente);
+        Cliente guardado;
+
+        if (altaOptimista) {
+            // Un solo INSERT: la restricción UNIQUE resuelve la unicidad, también entre altas concurrentes
+            try {
+                guardado = repository.saveAndFlush(cliente);
+            } catch (DataIntegrityViolationException ex) {
+                throw traducirViolacionUnicidad(ex,
+                        "Ya existe un cliente con ese CUIT", "Ya existe un cliente con ese email");
+            }
+        } else {
+            validarUnicidad(request);
+            guardado = repository.save(cliente);
+        }
+        unicidadFilter.registrar(guardado.getCuit(), guardado.getEmail());
 
         log.info("Cliente creado exitosamente con ID: {}", guardado.getId());
         return clienteMapper.mapToResponse(guardado);
     }
 
+    // El filtro descarta sin ir a la base los valores que seguro no existen
     private void validarUnicidad(ClienteRequest request) {
-        if (repository.existsByCuit(request.getCuit())) {
+        if (unicidadFilter.puedeExistirCuit(request.getCuit()) &&
+                repository.existsByCuit(request.getCuit())) {
             log.error("Intento de creación con CUIT duplicado: {}", request.getCuit());
             throw new ArgumentoDuplicadoException("Ya existe un cliente con ese CUIT");
         }
-        if (repository.existsByEmail(request.getEmail())) {
+        if (unicidadFilter.puedeExistirEmail(request.getEmail()) &&
+                repository.existsByEmail(request.getEmail())) {
             log.error("Intento de creación con email duplicado: {}", request.getEmail());
             throw new ArgumentoDuplicadoException("Ya existe un cliente con ese email");
         }
     }
 
+    /*
+     * Solo una violación UNIQUE (SQLState 23505) de uk_clientes_cuit o uk_clientes_email es un duplicado.
+     * Cualquier otra violación (NOT NULL, donde la restricción informada es la columna, largo u otra
+     * restricción) se propaga sin cambios.
+     */
+    private RuntimeException traducirViolacionUnicidad(DataIntegrityViolationException ex,
+                                                       String mensajeCuit, String mensajeEmail) {
+        if (!(ex.getCause() instanceof ConstraintViolationException cve)
+                || !VIOLACION_UNICIDAD.equals(cve.getSQLState())) {
+            return ex;
+        }
+        if (Cliente.UK_CUIT.equals(cve.getConstraintName())) {
+            log.error("CUIT duplicado detectado: {}", cve.getConstraintName());
+            return new ArgumentoDuplicadoException(mensajeCuit);
+        }
+        if (Cliente.UK_EMAIL.equals(cve.getConstraintName())) {
+            log.error("Email duplicado detectado: {}", cve.getConstraintName());
+            return new ArgumentoDuplicadoException(mensajeEmail);
+        }
+        return ex;
+    }
+
+    /*
+     * Alta masiva en una transacción: valida cada cliente, resuelve la unicidad del lote
+     * con una sola consulta y persiste los válidos con INSERT en batch.
+     * Si otra alta concurrente gana la carrera, la restricción UNIQUE aborta el lote (409).
+     */
+    @Transactional
+    @Override
+    public ClienteLoteResponse crearLote(List<ClienteRequest> requests) {
+        log.info("Iniciando alta masiva de {} clientes", requests.size());
+
+        List<ClienteLoteResponse.Resultado> resultados = new ArrayList<>(requests.size());
+        Map<Integer, ClienteRequest> candidatos = new LinkedHashMap<>();
+        Set<String> cuitsLote = new HashSet<>();
+        Set<String> emailsLote = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ClienteRequest request = requests.get(i);
+            Map<String, String> errores = validar(request);
+
+            if (!errores.isEmpty()) {
+                resultados.add(rechazado(i, "Error de validación en los datos enviados", errores));
+            } else if (cuitsLote.contains(request.getCuit())) {
+                resultados.add(rechazado(i, "CUIT repetido dentro del lote", null));
+            } else if (emailsLote.contains(request.getEmail())) {
+                resultados.add(rechazado(i, "Email repetido dentro del lote", null));
+            } else {
+                // Solo un aceptado reserva sus valores: uno rechazado no bloquea a los que siguen
+                cuitsLote.add(request.getCuit());
+                emailsLote.add(request.getEmail());
+                candidatos.put(i, request);
+                resultados.add(null);
+            }
+        }
+
+        Set<String> cuitsExistentes = new HashSet<>();
+        Set<String> emailsExistentes = new HashSet<>();
+        if (!candidatos.isEmpty()) {
+            for (ClienteClaveView clave : repository.findClavesExistentes(cuitsLote, emailsLote)) {
+                cuitsExistentes.add(clave.getCuit());
+                emailsExistentes.add(clave.getEmail());
+            }
+        }
+
+        Map<Integer, Cliente> aGuardar = new LinkedHashMap<>();
+        candidatos.forEach((i, request) -> {
+            if (cuitsExistentes.contains(request.getCuit())) {
+                resultados.set(i, rechazado(i, "Ya existe un cliente con ese CUIT", null));
+            } else if (emailsExistentes.contains(request.getEmail())) {
+                resultados.set(i, rechazado(i, "Ya existe un cliente con ese email", null));
+            } else {
+                aGuardar.put(i, clienteMapper.mapToEntity(request));
+            }
+        });
+
+        // Los ids vienen de la secuencia al persistir; los INSERT salen en batch al hacer flush
+        repository.saveAll(List.copyOf(aGuardar.values()));
+
+        aGuardar.forEach((i, cliente) -> {
+            unicidadFilter.registrar(cliente.getCuit(), cliente.getEmail());
+            resultados.set(i, ClienteLoteResponse.Resultado.builder()
+                    .indice(i)
+                    .estado(ClienteLoteResponse.Estado.CREADO)
+                    .id(cliente.getId())
+                    .build());
+        });
+
+        log.info("Alta masiva finalizada. Creados: {}, rechazados: {}",
+                aGuardar.size(), requests.size() - aGuardar.size());
+
+        return ClienteLoteResponse.builder()
+                .total(requests.size())
+                .creados(aGuardar.size())
+                .rechazados(requests.size() - aGuardar.size())
+                .resultados(resultados)
+                .build();
+    }
+
+    private Map<String, String> validar(ClienteRequest request) {
+        Map<String, String> errores = new HashMap<>();
+        if (request == null) {
+            errores.put("cliente", "El cliente es obligatorio");
+            return errores;
+        }
+        for (ConstraintViolation<ClienteRequest> violacion : validator.validate(request)) {
+            errores.put(violacion.getPropertyPath().toString(), violacion.getMessage());
+        }
+        return errores;
+    }
+
+    private ClienteLoteResponse.Resultado rechazado(int indice, String mensaje, Map<String, String> errores) {
+        return ClienteLoteResponse.Resultado.builder()
+                .indice(indice)
+                .estado(ClienteLoteResponse.Estado.RECHAZADO)
+                .mensaje(mensaje)
+                .validationErrors(errores)
+                .build();
+    }
+
+    /*
+     * Lee de una réplica (o de la primaria dentro de la ventana de LecturaPropiaFilter). Las escrituras
+     * guardan su resultado en CLIENTES y CLIENTES_JSON (@CachePut) y las cachés no dejan que esta
+     * lectura, si llegó de una réplica atrasada o terminó después, lo pise con una versión anterior.
+     */
+    @Cacheable(cacheNames = CacheConfig.CLIENTES, key = "#id")
     @Transactional(readOnly = true)
     @Override
     public ClienteResponse buscarPorId(Long id) {
@@ -68,71 +264,150 @@ public class ClienteServiceImpl implements ClienteService {
         return clienteMapper.mapToResponse(cliente);
     }
 
+    // Solo para If-None-Match sin el JSON en caché; If-Match se verifica dentro de la escritura, en la primaria
+    @Transactional(readOnly = true)
+    @Override
+    public long version(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new ClienteNotFoundException(id));
+    }
+
     @Override
+    @CachePut(cacheNames = {CacheConfig.CLIENTES, CacheConfig.CLIENTES_JSON}, key = "#id")
     @Transactional
-    public ClienteResponse actualizar(Long id, ClienteRequest request) {
+    public ClienteResponse actualizar(Long id, ClienteRequest request, Long versionEsperada) {
         log.info("Actualizando cliente con ID: {}", id);
 
         Cliente cliente = repository.findById(id)
                 .orElseThrow(() -> new ClienteNotFoundException(id));
 
+        verificarVersion(cliente, versionEsperada);
         validarDuplicadosUpdate(cliente, request);
 
         clienteMapper.updateEntity(cliente, request);
-        Cliente actualizado = repository.save(cliente);
+        // flush: la respuesta lleva la versión nueva y un conflicto con otra escritura falla acá
+        Cliente actualizado = repository.saveAndFlush(cliente);
+        unicidadFilter.registrar(actualizado.getCuit(), actualizado.getEmail());
 
         log.info("Cliente actualizado correctamente. ID: {}", actualizado.getId());
         return clienteMapper.mapToResponse(actualizado);
     }
 
+    // If-Match contra la versión leída; si otra escritura gana entre la lectura y el UPDATE, lo detecta @Version
+    private static void verificarVersion(Cliente cliente, Long versionEsperada) {
+        if (versionEsperada != null && !versionEsperada.equals(cliente.getVersion())) {
+            log.warn("Versión desactualizada para el cliente ID: {}. Esperada: {}, actual: {}",
+                    cliente.getId(), versionEsperada, cliente.getVersion());
+            throw new PrecondicionFallidaException("El cliente fue modificado por otra operación");
+        }
+    }
+
+    @Override
+    @CachePut(cacheNames = {CacheConfig.CLIENTES, CacheConfig.CLIENTES_JSON}, key = "#id")
+    @Transactional
+    public ClienteResponse actualizarParcial(Long id, JsonNode patch, Long versionEsperada) {
+        log.info("Actualizando parcialmente el cliente ID: {}. Campos: {}", id, patch.size());
+
+        if (!patch.isObject()) {
+            throw new ClienteInvalidoException("El merge patch debe ser un objeto JSON", null);
+        }
+
+        Cliente cliente = repository.findById(id)
+                .orElseThrow(() -> new ClienteNotFoundException(id));
+
+        verificarVersion(cliente, versionEsperada);
+
+        ClienteRequest combinado = combinar(clienteMapper.mapToRequest(cliente), patch);
+        Map<String, String> errores = validar(combinado);
+        if (!errores.isEmpty()) {
+            throw new ClienteInvalidoException("Error de validación en los datos enviados", errores);
+        }
+
+        // Solo consulta la unicidad de CUIT / email si el patch los cambia
+        validarDuplicadosUpdate(cliente, combinado);
+
+        long versionAnterior = cliente.getVersion();
+        clienteMapper.updateEntity(cliente, combinado);
+        // Hibernate solo emite el UPDATE si algo quedó distinto (@DynamicUpdate: con esas columnas)
+        Cliente actualizado = repository.saveAndFlush(cliente);
+
+        if (actualizado.getVersion() == versionAnterior) {
+            log.info("Merge patch sin cambios para el cliente ID: {}", id);
+        } else {
+            unicidadFilter.registrar(actualizado.getCuit(), actualizado.getEmail());
+            log.info("Cliente actualizado parcialmente. ID: {}", id);
+        }
+        return clienteMapper.mapToResponse(actualizado);
+    }
+
+    // null en el patch borra la propiedad (RFC 7396); en campos obligatorios lo rechaza la validación
+    private ClienteRequest combinar(ClienteRequest actual, JsonNode patch) {
+        try {
+            return objectMapper.readerForUpdating(actual).readValue(patch);
+        } catch (JsonProcessingException ex) {
+            throw new ClienteInvalidoException("El merge patch tiene valores inválidos: "
+                    + ex.getOriginalMessage(), null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     private void validarDuplicadosUpdate(Cliente clienteActual, ClienteRequest request) {
 
         if (!clienteActual.getCuit().equals(request.getCuit()) &&
+                unicidadFilter.puedeExistirCuit(request.getCuit()) &&
                 repository.existsByCuit(request.getCuit())) {
             throw new ArgumentoDuplicadoException("El CUIT ya pertenece a otro cliente");
         }
 
         if (!clienteActual.getEmail().equals(request.getEmail()) &&
+                unicidadFilter.puedeExistirEmail(request.getEmail()) &&
                 repository.existsByEmail(request.getEmail())) {
             throw new ArgumentoDuplicadoException("El email ya pertenece a otro cliente");
         }
     }
 
      @Override
+     @CachePut(cacheNames = {CacheConfig.CLIENTES, CacheConfig.CLIENTES_JSON}, key = "#id")
      @Transactional
-     public ClienteResponse actualizarEmail(Long id, String nuevoEmail) {
+     public ClienteResponse actualizarEmail(Long id, String nuevoEmail, Long versionEsperada) {
          log.info("Actualizando email del cliente ID: {} a {}", id, nuevoEmail);
 
-         Cliente cliente = repository.findById(id)
-                 .orElseThrow(() -> new ClienteNotFoundException(id));
-
-         if (!cliente.getEmail().equals(nuevoEmail) && repository.existsByEmail(nuevoEmail)) {
-             log.error("Email duplicado detectado: {}", nuevoEmail);
-             throw new ArgumentoDuplicadoException("El email ya pertenece a otro cliente");
+         // Un solo UPDATE ... RETURNING: la restricción UNIQUE resuelve la unicidad
+         ClienteView actualizado;
+         try {
+             actualizado = repository.actualizarEmail(id, nuevoEmail, versionEsperada, LocalDateTime.now())
+                     .orElseThrow(() -> sinFilaActualizada(id, versionEsperada));
+         } catch (DataIntegrityViolationException ex) {
+             throw traducirViolacionUnicidad(ex,
+                     "El CUIT ya pertenece a otro cliente", "El email ya pertenece a otro cliente");
          }
+         unicidadFilter.registrarEmail(nuevoEmail);
 
-         cliente.setEmail(nuevoEmail);
-         Cliente actualizado = repository.save(cliente);
-
-         return clienteMapper.mapToResponse(actualizado);
+         return clienteMapper.mapViewToResponse(actualizado);
      }
 
+    // Solo en el camino de error: distingue un id inexistente de un If-Match desactualizado
+    private RuntimeException sinFilaActualizada(Long id, Long versionEsperada) {
+        if (versionEsperada != null && repository.existsById(id)) {
+            log.warn("Versión desactualizada para el cliente ID: {}. Esperada: {}", id, versionEsperada);
+            return new PrecondicionFallidaException("El cliente fue modificado por otra operación");
+        }
+        return new ClienteNotFoundException(id);
+    }
+
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.CLIENTES, CacheConfig.CLIENTES_JSON}, key = "#id")
     @Transactional
     public void eliminar(Long id) {
         log.info("Iniciando proceso de eliminación para el cliente ID: {}", id);
 
-        repository.findById(id)
-                .ifPresentOrElse(
-                        cliente -> {
-                            repository.delete(cliente);
-                            log.info("Cliente eliminado exitosamente. ID: {}", id);
-                        },
-                        () -> {
-                            log.error("Fallo al eliminar: Cliente no encontrado con ID: {}", id);
-                            throw new ClienteNotFoundException(id);
-                        }
-                );
+        // Un solo DELETE; sin filas afectadas el cliente no existía
+        if (repository.eliminarPorId(id) == 0) {
+            log.error("Fallo al eliminar: Cliente no encontrado con ID: {}", id);
+            throw new ClienteNotFoundException(id);
+        }
+        log.info("Cliente eliminado exitosamente. ID: {}", id);
     }
 
     @Transactional(readOnly = true)
@@ -152,22 +427,78 @@ public class ClienteServiceImpl implements ClienteService {
         int pageSize = pageable.getPageSize();
         int offset = pageNumber * pageSize;
 
-        List<Cliente> clientes =
+        // Página y total vienen en la misma consulta (COUNT(*) OVER())
+        List<ClienteBusquedaView> filas =
                 repository.searchByNombreProcedure(nombreBusqueda, pageSize, offset);
 
-        long totalElements = repository.countByNombre(nombreBusqueda);
+        long totalElements = resolveTotal(filas, nombreBusqueda, offset);
         int totalPages = calculateTotalPages(totalElements, pageSize);
 
         validatePageBounds(pageNumber, totalPages, totalElements);
 
-        List<ClienteResponse> contenido = clientes.stream()
-                .map(clienteMapper::mapToResponse)
+        List<ClienteResponse> contenido = filas.stream()
+                .map(clienteMapper::mapViewToResponse)
                 .toList();
 
         log.info("Búsqueda completada. Elementos página: {} - Total global: {}",
                 contenido.size(), totalElements);
 
-        return buildPagedResponse(contenido, pageable, totalElements, totalPages);
+        PagedResponse<ClienteResponse> response =
+                buildPagedResponse(contenido, pageable, totalElements, totalPages);
+
+        if (!filas.isEmpty() && offset + filas.size() < totalElements) {
+            response.setNextCursor(ClienteCursor.porId(filas.get(filas.size() - 1).getId()).encode());
+        }
+        return response;
+    }
+
+    /**
+     * El total llega en cada fila; solo si se pidió una página posterior
+     * al final (sin filas) hace falta contar aparte.
+     */
+    private long resolveTotal(List<ClienteBusquedaView> filas, String nombre, int offset) {
+        if (!filas.isEmpty()) {
+            return filas.get(0).getTotalCount();
+        }
+        return offset == 0 ? 0 : repository.countByNombre(nombre);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponse<ClienteResponse> buscarPorNombreDesdeCursor(String nombre, String after, Pageable pageable) {
+
+        log.info("Solicitud búsqueda clientes por cursor - Nombre: '{}', Tamaño: {}", nombre, pageable.getPageSize());
+
+        if (isNombreInvalido(nombre)) {
+            log.warn("Búsqueda abortada: parámetro 'nombre' vacío");
+            return buildCursorPage(Collections.emptyList(), null);
+        }
+
+        ClienteCursor cursor = ClienteCursor.decode(after);
+        if (!cursor.esPorId() || cursor.direccion().isDescending()) {
+            throw new CursorInvalidoException("El cursor 'after' no corresponde a una búsqueda por nombre");
+        }
+
+        int pageSize = pageable.getPageSize();
+
+        // Se pide un elemento extra para saber si hay página siguiente sin contar el total
+        List<ClienteView> filas =
+                repository.searchByNombreDesdeProcedure(nombre.trim(), cursor.id(), pageSize + 1);
+
+        boolean hayMas = filas.size() > pageSize;
+        List<ClienteView> pagina = hayMas ? filas.subList(0, pageSize) : filas;
+
+        List<ClienteResponse> contenido = pagina.stream()
+                .map(clienteMapper::mapViewToResponse)
+                .toList();
+
+        String nextCursor = hayMas
+                ? ClienteCursor.porId(pagina.get(pagina.size() - 1).getId()).encode()
+                : null;
+
+        log.info("Búsqueda por cursor completada. Elementos página: {}", contenido.size());
+
+        return buildCursorPage(contenido, nextCursor);
     }
 
     private boolean isNombreInvalido(String nombre) {
@@ -212,19 +543,56 @@ public class ClienteServiceImpl implements ClienteService {
         log.info("Solicitud de listado de clientes - Página: {}, Tamaño: {}, Orden: {}",
                 pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
 
-        Page<Cliente> page = repository.findAll(pageable);
+        // La consulta arma cada ClienteResponse: no hay entidades que administrar ni copiar
+        Page<ClienteResponse> page = repository.findPagina(pageable);
 
         validatePageBounds(pageable.getPageNumber(), page.getTotalPages(), page.getTotalElements());
 
-        List<ClienteResponse> contenido = page.getContent().stream()
-                .map(clienteMapper::mapToResponse)
-                .toList();
+        List<ClienteResponse> contenido = page.getContent();
 
         log.info("Listado completado. Se encontraron {} elementos en esta página. Total global: {}",
                 contenido.size(), page.getTotalElements());
 
-        return buildPagedResponse(contenido, page);
+        PagedResponse<ClienteResponse> response = buildPagedResponse(contenido, page);
+
+        if (page.hasNext() && page.hasContent()) {
+            ClienteCursor.despuesDe(contenido.get(contenido.size() - 1), pageable.getSort())
+                    .map(ClienteCursor::encode)
+                    .ifPresent(response::setNextCursor);
+        }
+        return response;
+
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PagedResponse<ClienteResponse> listarDesdeCursor(String after, Pageable pageable) {
+
+        ClienteCursor cursor = ClienteCursor.decode(after);
+
+        log.info("Solicitud de listado de clientes por cursor - Tamaño: {}, Orden: {} {}",
+                pageable.getPageSize(), cursor.propiedad(), cursor.direccion());
+
+        // Un elemento de más indica si hay página siguiente
+        List<ClienteResponse> filas = keysetRepository.findDesde(cursor, pageable.getPageSize() + 1);
+        boolean hayMas = filas.size() > pageable.getPageSize();
+        List<ClienteResponse> contenido = hayMas ? filas.subList(0, pageable.getPageSize()) : filas;
+
+        String nextCursor = null;
+        if (hayMas) {
+            nextCursor = cursor.siguiente(contenido.get(contenido.size() - 1)).encode();
+        }
+
+        log.info("Listado por cursor completado. Se encontraron {} elementos en esta página", contenido.size());
+
+        return buildCursorPage(contenido, nextCursor);
+    }
 
+    private PagedResponse<ClienteResponse> buildCursorPage(List<ClienteResponse> content, String nextCursor) {
+        return PagedResponse.<ClienteResponse>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     private PagedResponse<ClienteResponse> buildPagedResponse(
@@ -242,4 +610,114 @@ public class ClienteServiceImpl implements ClienteService {
                 .build();
     }
 
+    /*
+     * Recorre la tabla con un cursor del servidor (fetch size) dentro de una transacción
+     * de solo lectura y desasocia cada entidad una vez escrita, para que el contexto
+     * de persistencia no crezca con el tamaño de la tabla.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long exportar(ClienteExportWriter writer) throws IOException {
+        log.info("Iniciando exportación de clientes");
+        long total = 0;
+
+        try (Stream<Cliente> clientes = repository.streamTodos()) {
+            Iterator<Cliente> it = clientes.iterator();
+            while (it.hasNext()) {
+                Cliente cliente = it.next();
+                writer.escribir(clienteMapper.mapToResponse(cliente));
+                entityManager.detach(cliente);
+                total++;
+            }
+        }
+
+        log.info("Exportación finalizada. Clientes exportados: {}", total);
+        return total;
+    }
+
+    /*
+     * Valida cada fila mientras se lee el cuerpo y envía solo las válidas al COPY;
+     * la fusión con clientes es una única sentencia que informa los duplicados
+     * en lugar de abortar. Solo se guarda el detalle de los primeros rechazos.
+     */
+    @Transactional
+    @Override
+    public ClienteImportResponse importar(ClienteImportReader reader) {
+        log.info("Iniciando importación masiva de clientes");
+
+        // Contadores mutables desde el iterador y el callback del repositorio
+        long[] total = {0};
+        long[] importados = {0};
+        long[] rechazados = {0};
+        List<ClienteImportResponse.Rechazo> rechazos = new ArrayList<>();
+
+        Iterator<FilaImportacion> validas = new AbstractIterator<>() {
+            @Override
+            protected FilaImportacion computeNext() {
+                try {
+                    FilaImportacion fila;
+                    while ((fila = reader.siguiente()) != null) {
+                        total[0]++;
+                        Map<String, String> errores = fila.legible() ? validarImportacion(fila.request()) : fila.errores();
+                        if (errores.isEmpty()) {
+                            return fila;
+                        }
+                        rechazados[0]++;
+                        agregarRechazo(rechazos, fila.linea(), "Error de validación en los datos enviados", errores);
+                    }
+                    return endOfData();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+
+        importRepository.importar(validas, resultado -> {
+            if (resultado.importado()) {
+                importados[0]++;
+                unicidadFilter.registrar(resultado.cuit(), resultado.email());
+            } else {
+                rechazados[0]++;
+                agregarRechazo(rechazos, resultado.linea(), mensajeConflicto(resultado.motivo()), null);
+            }
+        });
+
+        log.info("Importación finalizada. Filas: {}, importadas: {}, rechazadas: {}",
+                total[0], importados[0], rechazados[0]);
+
+        rechazos.sort(Comparator.comparingLong(ClienteImportResponse.Rechazo::getLinea));
+        return ClienteImportResponse.builder()
+                .total(total[0])
+                .importados(importados[0])
+                .rechazados(rechazados[0])
+                .rechazos(rechazos)
+                .rechazosTruncados(rechazados[0] > rechazos.size())
+                .build();
+    }
+
+    // La columna es NOT NULL aunque el alta individual no lo valide
+    private Map<String, String> validarImportacion(ClienteRequest request) {
+        Map<String, String> errores = validar(request);
+        if (request.getTelefonoCelular() == null || request.getTelefonoCelular().isBlank()) {
+            errores.putIfAbsent("telefonoCelular", "El teléfono es obligatorio");
+        }
+        return errores;
+    }
+
+    private static void agregarRechazo(List<ClienteImportResponse.Rechazo> rechazos, long linea,
+                                       String mensaje, Map<String, String> errores) {
+        if (rechazos.size() < MAX_RECHAZOS_DETALLADOS) {
+            rechazos.add(new ClienteImportResponse.Rechazo(linea, mensaje, errores));
+        }
+    }
+
+    private static String mensajeConflicto(String motivo) {
+        return switch (motivo) {
+            case "CUIT_REPETIDO" -> "CUIT repetido dentro del archivo";
+            case "EMAIL_REPETIDO" -> "Email repetido dentro del archivo";
+            case "CUIT_EXISTENTE" -> "Ya existe un cliente con ese CUIT";
+            case "EMAIL_EXISTENTE" -> "Ya existe un cliente con ese email";
+            default -> "El CUIT o el email fue registrado por otra operación en curso";
+        };
+    }
 }
@@ -0,0 +1,86 @@
+package com.intuit.challange.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.intuit.challange.repository.ClienteRepository;
+import com.intuit.challange.repository.projection.ClienteClaveView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Filtro Bloom sobre los CUIT y emails existentes.
+ * <p>
+ * Un "no está" es definitivo y permite saltear el exists* contra la base;
+ * un "puede estar" siempre se confirma en la base. Hasta terminar la carga
+ * inicial (o si está deshabilitado) responde "puede estar" para todo.
+ * <p>
+ * Las bajas no se quitan del filtro: solo generan falsos positivos, que la base resuelve.
+ * Altas hechas por otra instancia no se ven aquí; en ese caso la restricción UNIQUE
+ * de la tabla sigue siendo la última barrera (409 vía GlobalExceptionHandler).
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ClienteUnicidadFilter {
+
+    private final ClienteRepository repository;
+    private final boolean habilitado;
+    private final BloomFilter<CharSequence> cuits;
+    private final BloomFilter<CharSequence> emails;
+
+    private volatile boolean listo;
+
+    public ClienteUnicidadFilter(
+            ClienteRepository repository,
+            @Value("${app.unicidad.bloom.habilitado:true}") boolean habilitado,
+            @Value("${app.unicidad.bloom.capacidad:1000000}") int capacidad,
+            @Value("${app.unicidad.bloom.fpp:0.01}") double fpp) {
+
+        this.repository = repository;
+        this.habilitado = habilitado;
+        this.cuits = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacidad, fpp);
+        this.emails = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacidad, fpp);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void cargar() {
+        if (!habilitado) {
+            log.info("Filtro de unicidad deshabilitado: todas las validaciones consultan la base");
+            return;
+        }
+
+        try (Stream<ClienteClaveView> claves = repository.streamClaves()) {
+            claves.forEach(c -> registrar(c.getCuit(), c.getEmail()));
+        }
+
+        listo = true;
+        log.info("Filtro de unicidad cargado con ~{} clientes. FPP estimada: {}",
+                cuits.approximateElementCount(), cuits.expectedFpp());
+    }
+
+    public boolean puedeExistirCuit(String cuit) {
+        return !listo || cuits.mightContain(cuit);
+    }
+
+    public boolean puedeExistirEmail(String email) {
+        return !listo || emails.mightContain(email);
+    }
+
+    public void registrar(String cuit, String email) {
+        cuits.put(cuit);
+        emails.put(email);
+    }
+
+    public void registrarEmail(String email) {
+        emails.put(email);
+    }
+}
@@ -1,25 +1,53 @@
 package com.intuit.challange.service.abstraction;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.intuit.challange.dto.ClienteImportResponse;
+import com.intuit.challange.dto.ClienteLoteResponse;
 import com.intuit.challange.dto.ClienteRequest;
 import com.intuit.challange.dto.ClienteResponse;
 import com.intuit.challange.dto.PagedResponse;
+import com.intuit.challange.export.ClienteExportWriter;
+import com.intuit.challange.importacion.ClienteImportReader;
 import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.util.List;
+
 public interface ClienteService {
     @Nullable
     ClienteResponse crear ( @Valid ClienteRequest request );
 
+    ClienteLoteResponse crearLote ( List<ClienteRequest> requests );
+
     @Nullable ClienteResponse buscarPorId ( Long id );
 
-    @Nullable ClienteResponse actualizar ( Long id , @Valid ClienteRequest request );
+    /** Versión actual del cliente (para validar ETags) sin cargar la entidad. */
+    long version ( Long id );
+
+    /** {@code versionEsperada} (del If-Match) null: sin precondición. */
+    @Nullable ClienteResponse actualizar ( Long id , @Valid ClienteRequest request , @Nullable Long versionEsperada );
+
+    /**
+     * JSON Merge Patch (RFC 7396) sobre el cliente: solo las propiedades presentes cambian y
+     * el UPDATE lleva únicamente las columnas modificadas; sin cambios no hay UPDATE.
+     */
+    ClienteResponse actualizarParcial ( Long id , JsonNode patch , @Nullable Long versionEsperada );
 
     void eliminar ( Long id );
 
-    ClienteResponse actualizarEmail ( Long id , String nuevoEmail );
+    ClienteResponse actualizarEmail ( Long id , String nuevoEmail , @Nullable Long versionEsperada );
 
     PagedResponse <ClienteResponse> listar ( Pageable pageable );
 
+    PagedResponse <ClienteResponse> listarDesdeCursor ( String after , Pageable pageable );
+
     PagedResponse< ClienteResponse> buscarPorNombre ( String nombre , Pageable pageable );
+
+    PagedResponse< ClienteResponse> buscarPorNombreDesdeCursor ( String nombre , String after , Pageable pageable );
+
+    long exportar ( ClienteExportWriter writer ) throws IOException;
+
+    ClienteImportResponse importar ( ClienteImportReader reader );
 }
@@ -4,14 +4,61 @@ CREATE TABLE IF NOT EXISTS clientes (
     nombre VARCHAR(100) NOT NULL,
     apellido VARCHAR(100) NOT NULL,
     razon_social VARCHAR(150) NOT NULL,
-    cuit VARCHAR(20) NOT NULL UNIQUE,
+    cuit VARCHAR(20) NOT NULL CONSTRAINT uk_clientes_cuit UNIQUE,
     fecha_nacimiento DATE NOT NULL,
     telefono_celular VARCHAR(30) NOT NULL,
-    email VARCHAR(150) NOT NULL UNIQUE,
+    email VARCHAR(150) NOT NULL CONSTRAINT uk_clientes_email UNIQUE,
     fecha_creacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    fecha_modificacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    fecha_modificacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
+-- 1.0.1 VERSIÓN PARA CONTROL OPTIMISTA (@Version / ETag / If-Match) en bases ya creadas
+ALTER TABLE clientes ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- 1.0 IDS POR SECUENCIA CON INCREMENTO 50
+-- La entidad reserva ids de a 50 (allocationSize) para poder hacer INSERT en batch.
+-- Bases creadas con IDENTITY / SERIAL se ajustan; los INSERT de este script siguen usando el DEFAULT.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'clientes' AND column_name = 'id' AND is_identity = 'YES') THEN
+        ALTER TABLE clientes ALTER COLUMN id SET INCREMENT BY 50;
+    ELSE
+        CREATE SEQUENCE IF NOT EXISTS clientes_id_seq INCREMENT BY 50;
+        ALTER SEQUENCE clientes_id_seq INCREMENT BY 50 OWNED BY clientes.id;
+        ALTER TABLE clientes ALTER COLUMN id SET DEFAULT nextval('clientes_id_seq');
+    END IF;
+END $$;
+
+-- 1.1 NOMBRE NORMALIZADO PARA BÚSQUEDA
+-- pg_trgm permite indexar búsquedas por subcadena ('%x%') y unaccent que "Perez" encuentre "Pérez".
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() es STABLE; este wrapper IMMUTABLE permite usarlo en la columna generada y en el índice.
+CREATE OR REPLACE FUNCTION normalizar_texto(texto text)
+RETURNS text
+LANGUAGE sql
+IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, texto));
+$$;
+
+ALTER TABLE clientes
+    ADD COLUMN IF NOT EXISTS nombre_normalizado text
+    GENERATED ALWAYS AS (normalizar_texto(nombre)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_clientes_nombre_normalizado_trgm
+    ON clientes USING gin (nombre_normalizado gin_trgm_ops);
+
+-- 1.2 ÍNDICES PARA PAGINAR POR CURSOR
+-- listar con 'after' filtra (columna, id) > (:valor, :id) y ordena igual: con estos índices
+-- cada página es un rango del índice y no un recorrido de la tabla. cuit y email ya tienen su índice único.
+CREATE INDEX IF NOT EXISTS idx_clientes_nombre_id ON clientes (nombre, id);
+CREATE INDEX IF NOT EXISTS idx_clientes_apellido_id ON clientes (apellido, id);
+CREATE INDEX IF NOT EXISTS idx_clientes_fecha_nacimiento_id ON clientes (fecha_nacimiento, id);
+
 -- 2. CARGA DE DATOS
 INSERT INTO clientes (
     nombre, apellido, razon_social, cuit, fecha_nacimiento,
@@ -25,23 +72,68 @@ INSERT INTO clientes (
 ON CONFLICT (cuit) DO NOTHING;
 
 -- 3. STORED PROCEDURE
--- 'CREATE OR REPLACE' ya se encarga de actualizarlo sin borrar la tabla.
-CREATE OR REPLACE FUNCTION buscar_clientes_por_nombre(
+-- Función SQL (no plpgsql) para que el planner la inline y use el índice de trigramas.
+-- Devuelve la página y el total de coincidencias (COUNT(*) OVER()) en una sola consulta.
+-- Cambiar el tipo de retorno no se puede con 'CREATE OR REPLACE', por eso se recrea.
+DROP FUNCTION IF EXISTS buscar_clientes_por_nombre(text, int, int);
+CREATE FUNCTION buscar_clientes_por_nombre(
     nombre_buscado text,
     limit_param int,
     offset_param int
 )
+RETURNS TABLE (
+    id bigint,
+    nombre varchar,
+    apellido varchar,
+    razon_social varchar,
+    cuit varchar,
+    fecha_nacimiento date,
+    telefono_celular varchar,
+    email varchar,
+    fecha_creacion timestamp,
+    fecha_modificacion timestamp,
+    version bigint,
+    total_count bigint
+)
+LANGUAGE sql
+STABLE
+AS $$
+    SELECT c.id::bigint,
+           c.nombre,
+           c.apellido,
+           c.razon_social,
+           c.cuit,
+           c.fecha_nacimiento,
+           c.telefono_celular,
+           c.email,
+           c.fecha_creacion,
+           c.fecha_modificacion,
+           c.version,
+           COUNT(*) OVER ()
+    FROM clientes c
+    WHERE c.nombre_normalizado LIKE '%' || normalizar_texto(nombre_buscado) || '%'
+    ORDER BY c.id
+    LIMIT limit_param
+    OFFSET offset_param;
+$$;
+
+-- 4. BÚSQUEDA POR KEYSET
+-- Variante por cursor: arranca después del último id devuelto en lugar de usar OFFSET,
+-- así el costo de cada página no depende de su profundidad.
+CREATE OR REPLACE FUNCTION buscar_clientes_por_nombre_desde(
+    nombre_buscado text,
+    after_id bigint,
+    limit_param int
+)
 RETURNS SETOF clientes
-LANGUAGE plpgsql
+LANGUAGE sql
+STABLE
 AS $$
-BEGIN
-    RETURN QUERY
     SELECT *
     FROM clientes
-    WHERE nombre ILIKE '%' || nombre_buscado || '%'
+    WHERE nombre_normalizado LIKE '%' || normalizar_texto(nombre_buscado) || '%'
+      AND id > after_id
     ORDER BY id
-    LIMIT limit_param
-    OFFSET offset_param;
-END;
+    LIMIT limit_param;
 $$;
 ^^
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.intuit.challange.controller;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.PagedResponse;
+import com.intuit.challange.exception.ArgumentoDuplicadoException;
+import com.intuit.challange.exception.ClienteNotFoundException;
+import com.intuit.challange.exception.ReactiveExceptionHandler;
+import com.intuit.challange.service.abstraction.ReactiveClienteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Controller reactivo con WebTestClient (sin servidor): binding, validación,
+ * content negotiation NDJSON y respuestas de error de ReactiveExceptionHandler.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveClienteControllerTest {
+
+    @Mock
+    private ReactiveClienteService service;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToController(new ReactiveClienteController(service))
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .argumentResolvers(c -> c.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST - crea y responde 201")
+    void crear_201() {
+        when(service.crear(any())).thenReturn(Mono.just(ClienteResponse.builder().id(1L).build()));
+
+        client.post().uri("/api/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestValido())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.id").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST - body inválido responde 400 con errores por campo")
+    void crear_400Validacion() {
+        client.post().uri("/api/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Error de validación en los datos enviados")
+                .jsonPath("$.validationErrors.cuit").isEqualTo("El CUIT es obligatorio");
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("POST - duplicado responde 400 con el mensaje del servicio")
+    void crear_400Duplicado() {
+        when(service.crear(any())).thenReturn(Mono.error(new ArgumentoDuplicadoException("Ya existe un cliente con ese CUIT")));
+
+        client.post().uri("/api/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestValido())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Ya existe un cliente con ese CUIT");
+    }
+
+    @Test
+    @DisplayName("GET /{id} - inexistente responde 404; id no numérico responde 400")
+    void buscarPorId_errores() {
+        when(service.buscarPorId(9L)).thenReturn(Mono.error(new ClienteNotFoundException(9L)));
+
+        client.get().uri("/api/clientes/9").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.path").isEqualTo("/api/clientes/9");
+
+        client.get().uri("/api/clientes/abc").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("El parámetro 'id' recibió un valor inválido: 'abc'");
+    }
+
+    @Test
+    @DisplayName("PUT - violación de integridad no traducida responde 409")
+    void actualizar_409() {
+        when(service.actualizar(eq(1L), any()))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("x", new RuntimeException("email"))));
+
+        client.put().uri("/api/clientes/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestValido())
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.message").isEqualTo("Ya existe un cliente con ese email");
+    }
+
+    @Test
+    @DisplayName("PATCH email / DELETE - delegan en el servicio")
+    void actualizarEmail_y_eliminar() {
+        when(service.actualizarEmail(1L, "nuevo@test.com"))
+                .thenReturn(Mono.just(ClienteResponse.builder().id(1L).email("nuevo@test.com").build()));
+        when(service.eliminar(1L)).thenReturn(Mono.empty());
+
+        client.patch().uri("/api/clientes/1/email")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"nuevoEmail\":\"nuevo@test.com\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.email").isEqualTo("nuevo@test.com");
+
+        client.delete().uri("/api/clientes/1").exchange().expectStatus().isNoContent();
+    }
+
+    @Test
+    @DisplayName("GET - sin 'after' pagina por offset con el Pageable del request")
+    void listar_offset() {
+        when(service.listar(any(Pageable.class)))
+                .thenReturn(Mono.just(PagedResponse.<ClienteResponse>builder().content(List.of()).build()));
+
+        client.get().uri("/api/clientes?page=2&size=5").exchange().expectStatus().isOk();
+
+        verify(service).listar(argThat(p -> p.getPageNumber() == 2 && p.getPageSize() == 5));
+    }
+
+    @Test
+    @DisplayName("GET - con 'after' pagina por cursor")
+    void listar_cursor() {
+        when(service.listarDesdeCursor(eq("abc"), any(Pageable.class)))
+                .thenReturn(Mono.just(PagedResponse.<ClienteResponse>builder().content(List.of()).build()));
+
+        client.get().uri("/api/clientes?after=abc").exchange().expectStatus().isOk();
+
+        verify(service, never()).listar(any());
+    }
+
+    @Test
+    @DisplayName("GET / buscar con Accept NDJSON - devuelve un cliente por línea")
+    void stream_ndjson() {
+        when(service.streamTodos()).thenReturn(Flux.just(
+                ClienteResponse.builder().id(1L).build(), ClienteResponse.builder().id(2L).build()));
+        when(service.streamPorNombre("ju")).thenReturn(Flux.just(ClienteResponse.builder().id(3L).build()));
+
+        client.get().uri("/api/clientes").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(ClienteResponse.class).hasSize(2);
+
+        client.get().uri("/api/clientes/buscar?nombre=ju").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ClienteResponse.class).hasSize(1);
+
+        verify(service, never()).buscarPorNombre(any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /buscar - con y sin 'after'")
+    void buscar_offsetYCursor() {
+        PagedResponse<ClienteResponse> vacia = PagedResponse.<ClienteResponse>builder().content(List.of()).build();
+        when(service.buscarPorNombre(eq("ju"), any())).thenReturn(Mono.just(vacia));
+        when(service.buscarPorNombreDesdeCursor(eq("ju"), eq("abc"), any())).thenReturn(Mono.just(vacia));
+
+        client.get().uri("/api/clientes/buscar?nombre=ju").exchange().expectStatus().isOk();
+        client.get().uri("/api/clientes/buscar?nombre=ju&after=abc").exchange().expectStatus().isOk();
+
+        verify(service).buscarPorNombre(eq("ju"), any());
+        verify(service).buscarPorNombreDesdeCursor(eq("ju"), eq("abc"), any());
+    }
+
+    @Test
+    @DisplayName("Error no controlado - responde 500 genérico")
+    void error_500() {
+        when(service.buscarPorId(1L)).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        client.get().uri("/api/clientes/1").exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody().jsonPath("$.message").isEqualTo("Ocurrió un error inesperado. Contacte al administrador");
+    }
+
+    private static ClienteRequest requestValido() {
+        return ClienteRequest.builder()
+                .nombre("Juan").apellido("Pérez").razonSocial("JP SA")
+                .cuit("20-30123456-7").fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .telefonoCelular("1122334455").email("juan@test.com")
+                .build();
+    }
+}
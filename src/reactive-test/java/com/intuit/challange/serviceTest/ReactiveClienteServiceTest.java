@@ -0,0 +1,257 @@
+package com.intuit.challange.serviceTest;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.exception.ArgumentoDuplicadoException;
+import com.intuit.challange.exception.ClienteNotFoundException;
+import com.intuit.challange.exception.CursorInvalidoException;
+import com.intuit.challange.mapper.ClienteMapper;
+import com.intuit.challange.pagination.ClienteCursor;
+import com.intuit.challange.repository.ClienteReactiveRepository;
+import com.intuit.challange.service.ReactiveClienteServiceImpl;
+import io.r2dbc.postgresql.api.ErrorDetails;
+import io.r2dbc.postgresql.api.PostgresqlException;
+import io.r2dbc.postgresql.message.backend.Field;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveClienteServiceTest {
+
+    @Mock
+    private ClienteReactiveRepository repository;
+
+    @Spy
+    private ClienteMapper clienteMapper = new ClienteMapper();
+
+    @InjectMocks
+    private ReactiveClienteServiceImpl service;
+
+    @Test
+    @DisplayName("crear - inserta y devuelve el cliente con id")
+    void crear_ok() {
+        when(repository.insertar(any())).thenReturn(Mono.just(cliente(1L, "Juan")));
+
+        StepVerifier.create(service.crear(request()))
+                .assertNext(r -> assertEquals(1L, r.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("crear - la violación de uk_clientes_cuit se traduce a ArgumentoDuplicadoException")
+    void crear_cuitDuplicado() {
+        when(repository.insertar(any())).thenReturn(Mono.error(duplicado("uk_clientes_cuit")));
+
+        StepVerifier.create(service.crear(request()))
+                .expectErrorSatisfies(ex -> {
+                    assertInstanceOf(ArgumentoDuplicadoException.class, ex);
+                    assertEquals("Ya existe un cliente con ese CUIT", ex.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("actualizarEmail - email de otro cliente se traduce a ArgumentoDuplicadoException")
+    void actualizarEmail_duplicado() {
+        when(repository.actualizarEmail(1L, "otro@test.com")).thenReturn(Mono.error(duplicado("uk_clientes_email")));
+
+        StepVerifier.create(service.actualizarEmail(1L, "otro@test.com"))
+                .expectErrorMessage("El email ya pertenece a otro cliente")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("actualizar - NOT NULL (la restricción informada es la columna) se propaga sin traducir")
+    void actualizar_otraViolacion() {
+        DataIntegrityViolationException ex = violacion("23502", "email");
+        when(repository.actualizar(eq(1L), any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(service.actualizar(1L, request()))
+                .expectErrorSatisfies(e -> assertSame(ex, e))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("buscarPorId / actualizar / eliminar - id inexistente termina en ClienteNotFoundException")
+    void idInexistente() {
+        when(repository.findById(9L)).thenReturn(Mono.empty());
+        when(repository.actualizar(eq(9L), any())).thenReturn(Mono.empty());
+        when(repository.eliminar(9L)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(service.buscarPorId(9L)).expectError(ClienteNotFoundException.class).verify();
+        StepVerifier.create(service.actualizar(9L, request())).expectError(ClienteNotFoundException.class).verify();
+        StepVerifier.create(service.eliminar(9L)).expectError(ClienteNotFoundException.class).verify();
+    }
+
+    @Test
+    @DisplayName("eliminar - completa vacío cuando se borró la fila")
+    void eliminar_ok() {
+        when(repository.eliminar(1L)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(service.eliminar(1L)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("listar - arma la página con el total y el cursor de la página siguiente")
+    void listar_paginaConCursor() {
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by("id"));
+        when(repository.findPagina(pageable.getSort(), 2, 0L))
+                .thenReturn(Flux.just(cliente(1L, "A"), cliente(2L, "B")));
+        when(repository.contar()).thenReturn(Mono.just(5L));
+
+        StepVerifier.create(service.listar(pageable))
+                .assertNext(r -> {
+                    assertEquals(2, r.getContent().size());
+                    assertEquals(5, r.getPage().getTotalElements());
+                    assertEquals(3, r.getPage().getTotalPages());
+                    assertEquals(2L, ClienteCursor.decode(r.getNextCursor()).id());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("listarDesdeCursor - pide un elemento extra para saber si hay más")
+    void listarDesdeCursor_hayMas() {
+        ClienteCursor cursor = ClienteCursor.porId(10L);
+        when(repository.findDesde(cursor, 3))
+                .thenReturn(Flux.just(cliente(11L, "A"), cliente(12L, "B"), cliente(13L, "C")));
+
+        StepVerifier.create(service.listarDesdeCursor(cursor.encode(), PageRequest.of(0, 2)))
+                .assertNext(r -> {
+                    assertEquals(2, r.getContent().size());
+                    assertNull(r.getPage());
+                    assertEquals(12L, ClienteCursor.decode(r.getNextCursor()).id());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("listarDesdeCursor - cursor inválido se emite como error, no se lanza")
+    void listarDesdeCursor_invalido() {
+        StepVerifier.create(service.listarDesdeCursor("###", PageRequest.of(0, 2)))
+                .expectError(CursorInvalidoException.class)
+                .verify();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("buscarPorNombre - total desde COUNT(*) OVER() de la primera fila")
+    void buscarPorNombre_total() {
+        when(repository.buscarPorNombre("ju", 2, 0)).thenReturn(Flux.just(
+                new ClienteReactiveRepository.FilaBusqueda(cliente(1L, "Juan"), 3),
+                new ClienteReactiveRepository.FilaBusqueda(cliente(2L, "Julia"), 3)));
+
+        StepVerifier.create(service.buscarPorNombre(" ju ", PageRequest.of(0, 2)))
+                .assertNext(r -> {
+                    assertEquals(3, r.getPage().getTotalElements());
+                    assertEquals(2L, ClienteCursor.decode(r.getNextCursor()).id());
+                })
+                .verifyComplete();
+        verify(repository, never()).contarPorNombre(any());
+    }
+
+    @Test
+    @DisplayName("buscarPorNombre - página posterior al final cuenta aparte")
+    void buscarPorNombre_paginaVacia() {
+        when(repository.buscarPorNombre("ju", 2, 10)).thenReturn(Flux.empty());
+        when(repository.contarPorNombre("ju")).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(service.buscarPorNombre("ju", PageRequest.of(5, 2)))
+                .assertNext(r -> {
+                    assertTrue(r.getContent().isEmpty());
+                    assertEquals(3, r.getPage().getTotalElements());
+                    assertNull(r.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("buscarPorNombre / stream - nombre vacío no consulta la base")
+    void buscarPorNombre_vacio() {
+        StepVerifier.create(service.buscarPorNombre(" ", PageRequest.of(0, 2)))
+                .assertNext(r -> assertTrue(r.getContent().isEmpty()))
+                .verifyComplete();
+        StepVerifier.create(service.streamPorNombre(null)).verifyComplete();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("buscarPorNombreDesdeCursor - rechaza cursores que no son por id ascendente")
+    void buscarPorNombreDesdeCursor_cursorDeOtroOrden() {
+        String after = new ClienteCursor("nombre", Sort.Direction.ASC, "Juan", 1L).encode();
+
+        StepVerifier.create(service.buscarPorNombreDesdeCursor("ju", after, PageRequest.of(0, 2)))
+                .expectError(CursorInvalidoException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("streamTodos - respeta la demanda del suscriptor")
+    void streamTodos_backpressure() {
+        when(repository.streamTodos()).thenReturn(Flux.range(1, 100).map(i -> cliente((long) i, "C" + i)));
+
+        StepVerifier.create(service.streamTodos(), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(10))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+
+    private static Cliente cliente(Long id, String nombre) {
+        return Cliente.builder().id(id).nombre(nombre).cuit("20-" + (10000000 + id) + "-1")
+                .email(nombre + "@test.com").build();
+    }
+
+    private static ClienteRequest request() {
+        return ClienteRequest.builder().nombre("Juan").cuit("20-30123456-7").email("juan@test.com").build();
+    }
+
+    private static DataIntegrityViolationException duplicado(String restriccion) {
+        return violacion("23505", restriccion);
+    }
+
+    private static DataIntegrityViolationException violacion(String codigo, String restriccion) {
+        ErrorDetails detalles = new ErrorDetails(List.of(
+                new Field(Field.FieldType.CODE, codigo),
+                new Field(Field.FieldType.CONSTRAINT_NAME, restriccion)));
+        return new DataIntegrityViolationException("executeMany", new ViolacionPostgres(detalles));
+    }
+
+    // Como la excepción del driver: R2DBC con los campos del error de PostgreSQL
+    private static class ViolacionPostgres extends R2dbcDataIntegrityViolationException implements PostgresqlException {
+
+        private final ErrorDetails detalles;
+
+        ViolacionPostgres(ErrorDetails detalles) {
+            super(detalles.getMessage(), detalles.getCode());
+            this.detalles = detalles;
+        }
+
+        @Override
+        public ErrorDetails getErrorDetails() {
+            return detalles;
+        }
+    }
+}
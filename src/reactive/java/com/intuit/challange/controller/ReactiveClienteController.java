@@ -0,0 +1,99 @@
+package com.intuit.challange.controller;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.EmailUpdateRequest;
+import com.intuit.challange.dto.PagedResponse;
+import com.intuit.challange.service.abstraction.ReactiveClienteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Misma API que {@link ClienteController} sobre WebFlux (perfil reactive).
+ * <p>
+ * Con {@code Accept: application/x-ndjson}, listar y buscar devuelven todas las filas
+ * como stream: la base entrega filas a medida que el cliente HTTP las consume.
+ * El lote, la importación y la exportación CSV solo existen en el stack servlet.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/clientes")
+@RequiredArgsConstructor
+public class ReactiveClienteController {
+
+    private final ReactiveClienteService service;
+
+    @PostMapping
+    public Mono<ResponseEntity<ClienteResponse>> crear(@Valid @RequestBody ClienteRequest request) {
+        return service.crear(request)
+                .map(creado -> ResponseEntity.status(HttpStatus.CREATED).body(creado));
+    }
+
+    @GetMapping
+    public Mono<PagedResponse<ClienteResponse>> listar(
+            @RequestParam(required = false) String after,
+            @PageableDefault(page = 0, size = 10, sort = "id") Pageable pageable) {
+
+        if (StringUtils.hasText(after)) {
+            return service.listarDesdeCursor(after, pageable);
+        }
+        return service.listar(pageable);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ClienteResponse> listarStream() {
+        return service.streamTodos();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ClienteResponse> buscarPorId(@PathVariable Long id) {
+        return service.buscarPorId(id);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ClienteResponse> actualizar(
+            @PathVariable Long id,
+            @Valid @RequestBody ClienteRequest request) {
+        return service.actualizar(id, request);
+    }
+
+    @PatchMapping("/{id}/email")
+    public Mono<ClienteResponse> actualizarEmail(
+            @PathVariable Long id,
+            @Valid @RequestBody EmailUpdateRequest request) {
+        return service.actualizarEmail(id, request.nuevoEmail());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> eliminar(@PathVariable Long id) {
+        return service.eliminar(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @GetMapping("/buscar")
+    public Mono<PagedResponse<ClienteResponse>> buscarPorNombre(
+            @RequestParam String nombre,
+            @RequestParam(required = false) String after,
+            @PageableDefault(page = 0, size = 10, sort = "id") Pageable pageable) {
+
+        if (StringUtils.hasText(after)) {
+            return service.buscarPorNombreDesdeCursor(nombre, after, pageable);
+        }
+        return service.buscarPorNombre(nombre, pageable);
+    }
+
+    @GetMapping(value = "/buscar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ClienteResponse> buscarPorNombreStream(@RequestParam String nombre) {
+        return service.streamPorNombre(nombre);
+    }
+}
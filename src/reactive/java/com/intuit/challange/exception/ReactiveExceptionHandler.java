@@ -0,0 +1,112 @@
+package com.intuit.challange.exception;
+
+import com.intuit.challange.dto.ApiErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Equivalente de {@link GlobalExceptionHandler} para el perfil reactive:
+ * mismos status y mismo {@link ApiErrorResponse}, con las excepciones de binding de WebFlux.
+ */
+@Slf4j
+@Profile("reactive")
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiErrorResponse> handleValidationExceptions(
+            WebExchangeBindException ex,
+            ServerHttpRequest request
+    ) {
+        Map<String, String> errores = new HashMap<>();
+        ex.getBindingResult()
+                .getFieldErrors()
+                .forEach(error -> errores.put(error.getField(), error.getDefaultMessage()));
+
+        return construir(HttpStatus.BAD_REQUEST, "Error de validación en los datos enviados", request, errores);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiErrorResponse> handleInputInvalido(
+            ServerWebInputException ex,
+            ServerHttpRequest request
+    ) {
+        String mensaje = ex.getCause() instanceof TypeMismatchException tme
+                ? String.format("El parámetro '%s' recibió un valor inválido: '%s'", tme.getPropertyName(), tme.getValue())
+                : ex.getReason();
+
+        return construir(HttpStatus.BAD_REQUEST, mensaje, request, null);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleDatabaseErrors(
+            DataIntegrityViolationException ex,
+            ServerHttpRequest request
+    ) {
+        String mensaje = "Error de integridad en base de datos";
+        String causa = String.valueOf(ex.getMostSpecificCause().getMessage());
+
+        if (causa.contains("cuit")) {
+            mensaje = "Ya existe un cliente con ese CUIT";
+        }
+        if (causa.contains("email")) {
+            mensaje = "Ya existe un cliente con ese email";
+        }
+
+        return construir(HttpStatus.CONFLICT, mensaje, request, null);
+    }
+
+    @ExceptionHandler({ArgumentoDuplicadoException.class, CursorInvalidoException.class})
+    public ResponseEntity<ApiErrorResponse> handleBadRequest(
+            RuntimeException ex,
+            ServerHttpRequest request
+    ) {
+        return construir(HttpStatus.BAD_REQUEST, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(ClienteNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleNotFound(
+            ClienteNotFoundException ex,
+            ServerHttpRequest request
+    ) {
+        return construir(HttpStatus.NOT_FOUND, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiErrorResponse> handleGeneralException(
+            Exception ex,
+            ServerHttpRequest request
+    ) {
+        log.error("Error no controlado en: {} - Mensaje: {}", request.getPath().value(), ex.getMessage(), ex);
+
+        return construir(HttpStatus.INTERNAL_SERVER_ERROR,
+                "Ocurrió un error inesperado. Contacte al administrador", request, null);
+    }
+
+    private ResponseEntity<ApiErrorResponse> construir(HttpStatus status, String mensaje,
+                                                       ServerHttpRequest request, Map<String, String> errores) {
+        ApiErrorResponse response = new ApiErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                mensaje,
+                request.getPath().value(),
+                LocalDateTime.now(),
+                errores
+        );
+
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,258 @@
+package com.intuit.challange.repository;
+
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.pagination.ClienteCursor;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Acceso no bloqueante a la tabla clientes para el perfil reactive.
+ * <p>
+ * Cada escritura es una sola sentencia con RETURNING, así que no hace falta
+ * transacción; la unicidad la resuelven las restricciones UNIQUE de la tabla.
+ * Las consultas de streaming usan fetch size: el driver pide filas a la base
+ * a medida que el suscriptor las demanda.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ClienteReactiveRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    /* Propiedad del DTO -> columna para ORDER BY. El keyset solo recibe las que acepta ClienteCursor. */
+    private static final Map<String, String> COLUMNAS = Map.of(
+            "id", "id",
+            "nombre", "nombre",
+            "apellido", "apellido",
+            "razonSocial", "razon_social",
+            "cuit", "cuit",
+            "email", "email",
+            "telefonoCelular", "telefono_celular",
+            "fechaNacimiento", "fecha_nacimiento"
+    );
+
+    private static final String INSERTAR = """
+            INSERT INTO clientes (nombre, apellido, razon_social, cuit, fecha_nacimiento,
+                                  telefono_celular, email, fecha_creacion, fecha_modificacion)
+            VALUES (:nombre, :apellido, :razonSocial, :cuit, :fechaNacimiento,
+                    :telefonoCelular, :email, :ahora, :ahora)
+            RETURNING *
+            """;
+
+    private static final String ACTUALIZAR = """
+            UPDATE clientes
+               SET nombre = :nombre, apellido = :apellido, razon_social = :razonSocial, cuit = :cuit,
+                   fecha_nacimiento = :fechaNacimiento, telefono_celular = :telefonoCelular,
+                   email = :email, fecha_modificacion = :ahora, version = version + 1
+             WHERE id = :id
+            RETURNING *
+            """;
+
+    private static final String BUSCAR_POR_NOMBRE = """
+            SELECT * FROM buscar_clientes_por_nombre(CAST(:nombre AS text), :limit, :offset)
+            """;
+
+    private static final String BUSCAR_POR_NOMBRE_DESDE = """
+            SELECT * FROM buscar_clientes_por_nombre_desde(CAST(:nombre AS text), :afterId, :limit)
+            """;
+
+    private static final String STREAM_POR_NOMBRE = """
+            SELECT * FROM clientes
+             WHERE nombre_normalizado LIKE '%' || normalizar_texto(CAST(:nombre AS text)) || '%'
+             ORDER BY id
+            """;
+
+    private final DatabaseClient client;
+
+    /** Fila de buscar_clientes_por_nombre: el cliente y el total de coincidencias. */
+    public record FilaBusqueda(Cliente cliente, long totalCount) {
+    }
+
+    public Mono<Cliente> findById(Long id) {
+        return client.sql("SELECT * FROM clientes WHERE id = :id")
+                .bind("id", id)
+                .map(ClienteReactiveRepository::mapear)
+                .one();
+    }
+
+    public Mono<Cliente> insertar(Cliente cliente) {
+        return client.sql(INSERTAR)
+                .bindValues(valores(cliente))
+                .map(ClienteReactiveRepository::mapear)
+                .one();
+    }
+
+    /** Vacío si el id no existe. */
+    public Mono<Cliente> actualizar(Long id, Cliente cliente) {
+        return client.sql(ACTUALIZAR)
+                .bindValues(valores(cliente))
+                .bind("id", id)
+                .map(ClienteReactiveRepository::mapear)
+                .one();
+    }
+
+    /** Vacío si el id no existe. */
+    public Mono<Cliente> actualizarEmail(Long id, String email) {
+        return client.sql("UPDATE clientes SET email = :email, fecha_modificacion = :ahora, version = version + 1"
+                        + " WHERE id = :id RETURNING *")
+                .bind("email", email)
+                .bind("ahora", LocalDateTime.now())
+                .bind("id", id)
+                .map(ClienteReactiveRepository::mapear)
+                .one();
+    }
+
+    /** Cantidad de filas borradas (0 o 1). */
+    public Mono<Long> eliminar(Long id) {
+        return client.sql("DELETE FROM clientes WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> contar() {
+        return client.sql("SELECT COUNT(*) FROM clientes")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Flux<Cliente> findPagina(Sort sort, int limit, long offset) {
+        return client.sql("SELECT * FROM clientes ORDER BY " + orderBy(sort) + " LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ClienteReactiveRepository::mapear)
+                .all();
+    }
+
+    /** Página por keyset: las filas posteriores a la clave del cursor, en su mismo orden. */
+    public Flux<Cliente> findDesde(ClienteCursor cursor, int limit) {
+        String operador = cursor.direccion().isAscending() ? ">" : "<";
+        String direccion = cursor.direccion().name();
+
+        DatabaseClient.GenericExecuteSpec spec;
+        if (cursor.esPorId()) {
+            spec = client.sql("SELECT * FROM clientes WHERE id " + operador + " :id ORDER BY id " + direccion
+                    + " LIMIT :limit");
+        } else {
+            String columna = columna(cursor.propiedad());
+            spec = client.sql("SELECT * FROM clientes WHERE (" + columna + ", id) " + operador + " (:valor, :id)"
+                            + " ORDER BY " + columna + " " + direccion + ", id " + direccion + " LIMIT :limit")
+                    .bind("valor", cursor.valor());
+        }
+        return spec.bind("id", cursor.id())
+                .bind("limit", limit)
+                .map(ClienteReactiveRepository::mapear)
+                .all();
+    }
+
+    /** Todos los clientes por id, leídos de a {@value #FETCH_SIZE} filas según la demanda. */
+    public Flux<Cliente> streamTodos() {
+        return client.sql("SELECT * FROM clientes ORDER BY id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ClienteReactiveRepository::mapear)
+                .all();
+    }
+
+    public Flux<FilaBusqueda> buscarPorNombre(String nombre, int limit, int offset) {
+        return client.sql(BUSCAR_POR_NOMBRE)
+                .bind("nombre", nombre)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(row -> new FilaBusqueda(mapear(row), row.get("total_count", Long.class)))
+                .all();
+    }
+
+    public Flux<Cliente> buscarPorNombreDesde(String nombre, long afterId, int limit) {
+        return client.sql(BUSCAR_POR_NOMBRE_DESDE)
+                .bind("nombre", nombre)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ClienteReactiveRepository::mapear)
+                .all();
+    }
+
+    public Flux<Cliente> streamPorNombre(String nombre) {
+        return client.sql(STREAM_POR_NOMBRE)
+                .bind("nombre", nombre)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ClienteReactiveRepository::mapear)
+                .all();
+    }
+
+    public Mono<Long> contarPorNombre(String nombre) {
+        return client.sql("""
+                        SELECT COUNT(*) FROM clientes
+                         WHERE nombre_normalizado LIKE '%' || normalizar_texto(CAST(:nombre AS text)) || '%'
+                        """)
+                .bind("nombre", nombre)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // Los nulos se bindean tipados: la restricción NOT NULL de la tabla es la que responde
+    private static Map<String, Parameter> valores(Cliente c) {
+        return Map.of(
+                "nombre", valor(c.getNombre(), String.class),
+                "apellido", valor(c.getApellido(), String.class),
+                "razonSocial", valor(c.getRazonSocial(), String.class),
+                "cuit", valor(c.getCuit(), String.class),
+                "fechaNacimiento", valor(c.getFechaNacimiento(), LocalDate.class),
+                "telefonoCelular", valor(c.getTelefonoCelular(), String.class),
+                "email", valor(c.getEmail(), String.class),
+                "ahora", Parameters.in(LocalDateTime.now())
+        );
+    }
+
+    private static Parameter valor(Object valor, Class<?> tipo) {
+        return valor == null ? Parameters.in(tipo) : Parameters.in(valor);
+    }
+
+    /* El id siempre desempata, así el orden es estable entre páginas. */
+    private static String orderBy(Sort sort) {
+        String orden = sort.stream()
+                .map(o -> columna(o.getProperty()) + " " + o.getDirection().name())
+                .collect(Collectors.joining(", "));
+        if (sort.getOrderFor(ClienteCursor.ID) != null) {
+            return orden;
+        }
+        return orden.isEmpty() ? "id" : orden + ", id";
+    }
+
+    private static String columna(String propiedad) {
+        String columna = COLUMNAS.get(propiedad);
+        if (columna == null) {
+            throw new IllegalArgumentException("No se puede ordenar por la propiedad '" + propiedad + "'");
+        }
+        return columna;
+    }
+
+    static Cliente mapear(Readable row) {
+        return Cliente.builder()
+                .id(row.get("id", Long.class))
+                .nombre(row.get("nombre", String.class))
+                .apellido(row.get("apellido", String.class))
+                .razonSocial(row.get("razon_social", String.class))
+                .cuit(row.get("cuit", String.class))
+                .fechaNacimiento(row.get("fecha_nacimiento", LocalDate.class))
+                .telefonoCelular(row.get("telefono_celular", String.class))
+                .email(row.get("email", String.class))
+                .fechaCreacion(row.get("fecha_creacion", LocalDateTime.class))
+                .fechaModificacion(row.get("fecha_modificacion", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
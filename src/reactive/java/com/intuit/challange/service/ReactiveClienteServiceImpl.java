@@ -0,0 +1,301 @@
+package com.intuit.challange.service;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.PagedResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.exception.ArgumentoDuplicadoException;
+import com.intuit.challange.exception.ClienteNotFoundException;
+import com.intuit.challange.exception.CursorInvalidoException;
+import com.intuit.challange.mapper.ClienteMapper;
+import com.intuit.challange.pagination.ClienteCursor;
+import com.intuit.challange.repository.ClienteReactiveRepository;
+import com.intuit.challange.service.abstraction.ReactiveClienteService;
+import io.r2dbc.postgresql.api.PostgresqlException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Implementación R2DBC: ninguna operación bloquea un hilo; todo corre en los event loops de Netty.
+ * <p>
+ * Altas y modificaciones van directo a la base y traducen la violación de UNIQUE
+ * (como el alta optimista del servicio servlet): sin exists* previos, una sola sentencia por operación.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveClienteServiceImpl implements ReactiveClienteService {
+
+    // SQLState de unique_violation en PostgreSQL
+    private static final String VIOLACION_UNICIDAD = "23505";
+
+    private final ClienteReactiveRepository repository;
+    private final ClienteMapper clienteMapper;
+
+    @Override
+    public Mono<ClienteResponse> crear(ClienteRequest request) {
+        log.info("Iniciando creación de cliente. CUIT: {}", request.getCuit());
+
+        return repository.insertar(clienteMapper.mapToEntity(request))
+                .onErrorMap(DataIntegrityViolationException.class, ex -> traducirViolacionUnicidad(ex,
+                        "Ya existe un cliente con ese CUIT", "Ya existe un cliente con ese email"))
+                .doOnNext(guardado -> log.info("Cliente creado exitosamente con ID: {}", guardado.getId()))
+                .map(clienteMapper::mapToResponse);
+    }
+
+    @Override
+    public Mono<ClienteResponse> buscarPorId(Long id) {
+        log.debug("Buscando cliente con ID: {}", id);
+
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Cliente no encontrado con ID: {}", id);
+                    return new ClienteNotFoundException(id);
+                }))
+                .map(clienteMapper::mapToResponse);
+    }
+
+    @Override
+    public Mono<ClienteResponse> actualizar(Long id, ClienteRequest request) {
+        log.info("Actualizando cliente con ID: {}", id);
+
+        return repository.actualizar(id, clienteMapper.mapToEntity(request))
+                .onErrorMap(DataIntegrityViolationException.class, ex -> traducirViolacionUnicidad(ex,
+                        "El CUIT ya pertenece a otro cliente", "El email ya pertenece a otro cliente"))
+                .switchIfEmpty(Mono.error(() -> new ClienteNotFoundException(id)))
+                .doOnNext(actualizado -> log.info("Cliente actualizado correctamente. ID: {}", id))
+                .map(clienteMapper::mapToResponse);
+    }
+
+    @Override
+    public Mono<ClienteResponse> actualizarEmail(Long id, String nuevoEmail) {
+        log.info("Actualizando email del cliente ID: {} a {}", id, nuevoEmail);
+
+        return repository.actualizarEmail(id, nuevoEmail)
+                .onErrorMap(DataIntegrityViolationException.class, ex -> traducirViolacionUnicidad(ex,
+                        "El CUIT ya pertenece a otro cliente", "El email ya pertenece a otro cliente"))
+                .switchIfEmpty(Mono.error(() -> new ClienteNotFoundException(id)))
+                .map(clienteMapper::mapToResponse);
+    }
+
+    @Override
+    public Mono<Void> eliminar(Long id) {
+        log.info("Iniciando proceso de eliminación para el cliente ID: {}", id);
+
+        return repository.eliminar(id)
+                .flatMap(borradas -> {
+                    if (borradas == 0) {
+                        log.error("Fallo al eliminar: Cliente no encontrado con ID: {}", id);
+                        return Mono.error(new ClienteNotFoundException(id));
+                    }
+                    log.info("Cliente eliminado exitosamente. ID: {}", id);
+                    return Mono.<Void>empty();
+                });
+    }
+
+    /*
+     * Solo una violación UNIQUE (SQLState 23505) de uk_clientes_cuit o uk_clientes_email es un duplicado;
+     * el driver informa código y restricción. Cualquier otra violación (NOT NULL, largo) se propaga sin cambios.
+     */
+    private Throwable traducirViolacionUnicidad(DataIntegrityViolationException ex,
+                                                String mensajeCuit, String mensajeEmail) {
+        if (!(ex.getCause() instanceof PostgresqlException pg)
+                || !VIOLACION_UNICIDAD.equals(pg.getErrorDetails().getCode())) {
+            return ex;
+        }
+        String restriccion = pg.getErrorDetails().getConstraintName().orElse(null);
+
+        if (Cliente.UK_CUIT.equals(restriccion)) {
+            log.error("CUIT duplicado detectado");
+            return new ArgumentoDuplicadoException(mensajeCuit);
+        }
+        if (Cliente.UK_EMAIL.equals(restriccion)) {
+            log.error("Email duplicado detectado");
+            return new ArgumentoDuplicadoException(mensajeEmail);
+        }
+        return ex;
+    }
+
+    @Override
+    public Mono<PagedResponse<ClienteResponse>> listar(Pageable pageable) {
+        log.info("Solicitud de listado de clientes - Página: {}, Tamaño: {}, Orden: {}",
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+
+        int pageSize = pageable.getPageSize();
+
+        return Mono.zip(
+                        repository.findPagina(pageable.getSort(), pageSize, pageable.getOffset()).collectList(),
+                        repository.contar())
+                .map(t -> {
+                    List<Cliente> clientes = t.getT1();
+                    long totalElements = t.getT2();
+                    int totalPages = calculateTotalPages(totalElements, pageSize);
+
+                    log.info("Listado completado. Se encontraron {} elementos en esta página. Total global: {}",
+                            clientes.size(), totalElements);
+
+                    PagedResponse<ClienteResponse> response =
+                            buildPagedResponse(mapear(clientes), pageable, totalElements, totalPages);
+
+                    if (!clientes.isEmpty() && pageable.getOffset() + clientes.size() < totalElements) {
+                        ClienteCursor.despuesDe(clientes.get(clientes.size() - 1), pageable.getSort())
+                                .map(ClienteCursor::encode)
+                                .ifPresent(response::setNextCursor);
+                    }
+                    return response;
+                });
+    }
+
+    @Override
+    public Mono<PagedResponse<ClienteResponse>> listarDesdeCursor(String after, Pageable pageable) {
+        return Mono.fromCallable(() -> ClienteCursor.decode(after))
+                .flatMap(cursor -> {
+                    log.info("Solicitud de listado de clientes por cursor - Tamaño: {}, Orden: {} {}",
+                            pageable.getPageSize(), cursor.propiedad(), cursor.direccion());
+
+                    return repository.findDesde(cursor, pageable.getPageSize() + 1)
+                            .collectList()
+                            .map(clientes -> paginaPorCursor(clientes, pageable.getPageSize(), cursor::siguiente));
+                });
+    }
+
+    @Override
+    public Mono<PagedResponse<ClienteResponse>> buscarPorNombre(String nombre, Pageable pageable) {
+        log.info("Solicitud búsqueda clientes - Nombre: '{}', Página: {}, Tamaño: {}",
+                nombre, pageable.getPageNumber(), pageable.getPageSize());
+
+        if (isNombreInvalido(nombre)) {
+            log.warn("Búsqueda abortada: parámetro 'nombre' vacío");
+            return Mono.just(buildPagedResponse(Collections.emptyList(), pageable, 0, 0));
+        }
+
+        String nombreBusqueda = nombre.trim();
+        int pageSize = pageable.getPageSize();
+        int offset = pageable.getPageNumber() * pageSize;
+
+        // Página y total vienen en la misma consulta (COUNT(*) OVER())
+        return repository.buscarPorNombre(nombreBusqueda, pageSize, offset)
+                .collectList()
+                .flatMap(filas -> resolveTotal(filas, nombreBusqueda, offset)
+                        .map(totalElements -> {
+                            List<Cliente> clientes = filas.stream()
+                                    .map(ClienteReactiveRepository.FilaBusqueda::cliente)
+                                    .toList();
+                            PagedResponse<ClienteResponse> response = buildPagedResponse(mapear(clientes), pageable,
+                                    totalElements, calculateTotalPages(totalElements, pageSize));
+
+                            if (!clientes.isEmpty() && offset + clientes.size() < totalElements) {
+                                response.setNextCursor(
+                                        ClienteCursor.porId(clientes.get(clientes.size() - 1).getId()).encode());
+                            }
+                            log.info("Búsqueda completada. Elementos página: {} - Total global: {}",
+                                    clientes.size(), totalElements);
+                            return response;
+                        }));
+    }
+
+    private Mono<Long> resolveTotal(List<ClienteReactiveRepository.FilaBusqueda> filas, String nombre, int offset) {
+        if (!filas.isEmpty()) {
+            return Mono.just(filas.get(0).totalCount());
+        }
+        return offset == 0 ? Mono.just(0L) : repository.contarPorNombre(nombre);
+    }
+
+    @Override
+    public Mono<PagedResponse<ClienteResponse>> buscarPorNombreDesdeCursor(String nombre, String after,
+                                                                           Pageable pageable) {
+        log.info("Solicitud búsqueda clientes por cursor - Nombre: '{}', Tamaño: {}", nombre, pageable.getPageSize());
+
+        if (isNombreInvalido(nombre)) {
+            log.warn("Búsqueda abortada: parámetro 'nombre' vacío");
+            return Mono.just(buildCursorPage(Collections.emptyList(), null));
+        }
+
+        return Mono.fromCallable(() -> ClienteCursor.decode(after))
+                .flatMap(cursor -> {
+                    if (!cursor.esPorId() || cursor.direccion().isDescending()) {
+                        return Mono.error(new CursorInvalidoException(
+                                "El cursor 'after' no corresponde a una búsqueda por nombre"));
+                    }
+                    return repository.buscarPorNombreDesde(nombre.trim(), cursor.id(), pageable.getPageSize() + 1)
+                            .collectList()
+                            .map(clientes -> paginaPorCursor(clientes, pageable.getPageSize(),
+                                    ultimo -> ClienteCursor.porId(ultimo.getId())));
+                });
+    }
+
+    @Override
+    public Flux<ClienteResponse> streamTodos() {
+        log.info("Streaming de clientes iniciado");
+        return repository.streamTodos().map(clienteMapper::mapToResponse);
+    }
+
+    @Override
+    public Flux<ClienteResponse> streamPorNombre(String nombre) {
+        if (isNombreInvalido(nombre)) {
+            log.warn("Búsqueda abortada: parámetro 'nombre' vacío");
+            return Flux.empty();
+        }
+        return repository.streamPorNombre(nombre.trim()).map(clienteMapper::mapToResponse);
+    }
+
+    // Se pide un elemento extra para saber si hay página siguiente sin contar el total
+    private PagedResponse<ClienteResponse> paginaPorCursor(
+            List<Cliente> clientes, int pageSize, Function<Cliente, ClienteCursor> siguiente) {
+
+        boolean hayMas = clientes.size() > pageSize;
+        List<Cliente> pagina = hayMas ? clientes.subList(0, pageSize) : clientes;
+
+        String nextCursor = hayMas ? siguiente.apply(pagina.get(pagina.size() - 1)).encode() : null;
+
+        log.info("Listado por cursor completado. Se encontraron {} elementos en esta página", pagina.size());
+        return buildCursorPage(mapear(pagina), nextCursor);
+    }
+
+    private List<ClienteResponse> mapear(List<Cliente> clientes) {
+        return clientes.stream().map(clienteMapper::mapToResponse).toList();
+    }
+
+    private boolean isNombreInvalido(String nombre) {
+        return nombre == null || nombre.isBlank();
+    }
+
+    private int calculateTotalPages(long totalElements, int pageSize) {
+        return (int) Math.ceil((double) totalElements / pageSize);
+    }
+
+    private PagedResponse<ClienteResponse> buildCursorPage(List<ClienteResponse> content, String nextCursor) {
+        return PagedResponse.<ClienteResponse>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private PagedResponse<ClienteResponse> buildPagedResponse(
+            List<ClienteResponse> content,
+            Pageable pageable,
+            long totalElements,
+            int totalPages) {
+
+        return PagedResponse.<ClienteResponse>builder()
+                .content(content)
+                .page(PagedResponse.PageMetadata.builder()
+                        .size(pageable.getPageSize())
+                        .totalElements(totalElements)
+                        .totalPages(totalPages)
+                        .number(pageable.getPageNumber())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.intuit.challange.service.abstraction;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.PagedResponse;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contraparte no bloqueante de {@link ClienteService} (perfil reactive).
+ * Los errores llegan como señales de error con las mismas excepciones del servicio servlet.
+ */
+public interface ReactiveClienteService {
+
+    Mono<ClienteResponse> crear ( ClienteRequest request );
+
+    Mono<ClienteResponse> buscarPorId ( Long id );
+
+    Mono<ClienteResponse> actualizar ( Long id , ClienteRequest request );
+
+    Mono<Void> eliminar ( Long id );
+
+    Mono<ClienteResponse> actualizarEmail ( Long id , String nuevoEmail );
+
+    Mono<PagedResponse<ClienteResponse>> listar ( Pageable pageable );
+
+    Mono<PagedResponse<ClienteResponse>> listarDesdeCursor ( String after , Pageable pageable );
+
+    Mono<PagedResponse<ClienteResponse>> buscarPorNombre ( String nombre , Pageable pageable );
+
+    Mono<PagedResponse<ClienteResponse>> buscarPorNombreDesdeCursor ( String nombre , String after , Pageable pageable );
+
+    /** Todos los clientes por id, emitidos según la demanda del suscriptor. */
+    Flux<ClienteResponse> streamTodos ();
+
+    /** Coincidencias de la búsqueda por nombre, emitidas según la demanda del suscriptor. */
+    Flux<ClienteResponse> streamPorNombre ( String nombre );
+}
@@ -0,0 +1,58 @@
+package com.intuit.challange.benchmark;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** Datos representativos de un request real, compartidos por los benchmarks. */
+final class ClienteBenchmarkDatos {
+
+    private ClienteBenchmarkDatos() {
+    }
+
+    static ClienteRequest request() {
+        return ClienteRequest.builder()
+                .nombre("Juan")
+                .apellido("Pérez")
+                .razonSocial("JP Servicios SRL")
+                .cuit("20-12345678-9")
+                .fechaNacimiento(LocalDate.of(1985, 6, 15))
+                .telefonoCelular("+54 11 2345-6789")
+                .email("juan.perez@example.com")
+                .build();
+    }
+
+    static Cliente cliente(long id) {
+        return Cliente.builder()
+                .id(id)
+                .nombre("Juan")
+                .apellido("Pérez")
+                .razonSocial("JP Servicios SRL")
+                .cuit("20-12345678-9")
+                .fechaNacimiento(LocalDate.of(1985, 6, 15))
+                .telefonoCelular("+54 11 2345-6789")
+                .email("juan.perez" + id + "@example.com")
+                .fechaCreacion(LocalDateTime.of(2026, 1, 10, 9, 30))
+                .fechaModificacion(LocalDateTime.of(2026, 2, 1, 18, 5))
+                .build();
+    }
+
+    static ClienteResponse response(long id) {
+        Cliente c = cliente(id);
+        return ClienteResponse.builder()
+                .id(c.getId())
+                .nombre(c.getNombre())
+                .apellido(c.getApellido())
+                .razonSocial(c.getRazonSocial())
+                .cuit(c.getCuit())
+                .fechaNacimiento(c.getFechaNacimiento())
+                .telefonoCelular(c.getTelefonoCelular())
+                .email(c.getEmail())
+                .fechaCreacion(c.getFechaCreacion())
+                .fechaModificacion(c.getFechaModificacion())
+                .build();
+    }
+}
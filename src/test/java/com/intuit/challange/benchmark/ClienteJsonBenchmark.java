@@ -0,0 +1,73 @@
+package com.intuit.challange.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.intuit.challange.cache.ClienteJson;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.PagedResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Serialización Jackson de las respuestas, con el ObjectMapper armado como lo arma Spring Boot.
+ * {@code indent} compara el indent-output de application.yml contra la salida compacta.
+ * {@code clienteCacheado} es el acierto de ClienteJsonCache: copiar el JSON guardado fuera del heap.
+ */
+@State(Scope.Benchmark)
+public class ClienteJsonBenchmark {
+
+    @Param({"true", "false"})
+    public boolean indent;
+
+    @Param({"20"})
+    public int tamanioPagina;
+
+    private ObjectWriter writer;
+    private ClienteResponse cliente;
+    private PagedResponse<ClienteResponse> pagina;
+    private ClienteJson clienteJson;
+    private final OutputStream descarte = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        writer = Jackson2ObjectMapperBuilder.json().indentOutput(indent).build().writer();
+
+        cliente = ClienteBenchmarkDatos.response(1L);
+        clienteJson = ClienteJson.de(1L, 0L, writer.writeValueAsBytes(cliente));
+
+        List<ClienteResponse> contenido = LongStream.rangeClosed(1, tamanioPagina)
+                .mapToObj(ClienteBenchmarkDatos::response)
+                .toList();
+        pagina = PagedResponse.<ClienteResponse>builder()
+                .content(contenido)
+                .page(PagedResponse.PageMetadata.builder()
+                        .size(tamanioPagina).totalElements(1000).totalPages(1000 / tamanioPagina).number(0)
+                        .build())
+                .nextCursor("aWR8QVNDfHwyMA")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] clienteResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(cliente);
+    }
+
+    @Benchmark
+    public void clienteCacheado() throws IOException {
+        clienteJson.escribir(descarte);
+    }
+
+    @Benchmark
+    public byte[] pagedResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(pagina);
+    }
+}
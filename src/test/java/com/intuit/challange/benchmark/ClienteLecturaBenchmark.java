@@ -0,0 +1,97 @@
+package com.intuit.challange.benchmark;
+
+import com.intuit.challange.ChallangeApplication;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.mapper.ClienteMapper;
+import com.intuit.challange.repository.ClienteRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Página de 100 clientes como en listar: entidades + ClienteMapper contra el DTO
+ * armado por la consulta (ClienteRepository.findPagina). Ambas en una transacción
+ * de solo lectura e incluyen el COUNT de la página. Necesita la base del .env.
+ */
+@State(Scope.Benchmark)
+public class ClienteLecturaBenchmark {
+
+    private static final int TAMANIO_PAGINA = 100;
+    private static final String DOMINIO = "@lectura.bench";
+
+    private final Pageable pagina = PageRequest.of(0, TAMANIO_PAGINA, Sort.by("id"));
+
+    private ConfigurableApplicationContext contexto;
+    private ClienteRepository repository;
+    private ClienteMapper mapper;
+    private TransactionTemplate transaccion;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(ChallangeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "logging.level.root=WARN",
+                        "logging.level.com.intuit.challange=WARN",
+                        "app.unicidad.bloom.habilitado=false",
+                        "app.sql.diagnostico.habilitado=false")
+                .run();
+
+        repository = contexto.getBean(ClienteRepository.class);
+        mapper = contexto.getBean(ClienteMapper.class);
+        transaccion = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        transaccion.setReadOnly(true);
+
+        // Completa la tabla hasta llenar una página
+        long faltantes = TAMANIO_PAGINA - repository.count();
+        if (faltantes > 0) {
+            repository.saveAll(LongStream.range(0, faltantes).mapToObj(ClienteLecturaBenchmark::cliente).toList());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.getBean(JdbcTemplate.class).update("DELETE FROM clientes WHERE email LIKE ?", "%" + DOMINIO);
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<ClienteResponse> entidades() {
+        return transaccion.execute(status ->
+                repository.findAll(pagina).map(mapper::mapToResponse).getContent());
+    }
+
+    @Benchmark
+    public List<ClienteResponse> proyeccion() {
+        return transaccion.execute(status -> repository.findPagina(pagina).getContent());
+    }
+
+    private static Cliente cliente(long n) {
+        return Cliente.builder()
+                .nombre("Lectura")
+                .apellido("Benchmark")
+                .razonSocial("Lectura SA")
+                .cuit(String.format("40-%08d-0", n))
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .telefonoCelular("1122334455")
+                .email("c" + n + DOMINIO)
+                .build();
+    }
+}
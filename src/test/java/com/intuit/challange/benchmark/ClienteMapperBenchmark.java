@@ -0,0 +1,42 @@
+package com.intuit.challange.benchmark;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.mapper.ClienteMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Costo de las conversiones entity / DTO que se ejecutan en cada request. */
+@State(Scope.Thread)
+public class ClienteMapperBenchmark {
+
+    private final ClienteMapper mapper = new ClienteMapper();
+
+    private Cliente cliente;
+    private ClienteRequest request;
+
+    @Setup
+    public void setUp() {
+        cliente = ClienteBenchmarkDatos.cliente(1L);
+        request = ClienteBenchmarkDatos.request();
+    }
+
+    @Benchmark
+    public ClienteResponse mapToResponse() {
+        return mapper.mapToResponse(cliente);
+    }
+
+    @Benchmark
+    public Cliente mapToEntity() {
+        return mapper.mapToEntity(request);
+    }
+
+    @Benchmark
+    public Cliente updateEntity() {
+        mapper.updateEntity(cliente, request);
+        return cliente;
+    }
+}
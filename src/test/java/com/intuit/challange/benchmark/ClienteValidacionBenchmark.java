@@ -0,0 +1,55 @@
+package com.intuit.challange.benchmark;
+
+import com.intuit.challange.dto.ClienteRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Set;
+
+/**
+ * Bean Validation de ClienteRequest (incluye las regex de CUIT y teléfono).
+ * El caso inválido además interpola un mensaje por cada campo con error.
+ */
+@State(Scope.Benchmark)
+public class ClienteValidacionBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    private ClienteRequest valido;
+    private ClienteRequest invalido;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+
+        valido = ClienteBenchmarkDatos.request();
+        invalido = ClienteBenchmarkDatos.request();
+        invalido.setCuit("20123456789");
+        invalido.setTelefonoCelular("tel: 11-2345");
+        invalido.setEmail("no-es-un-email");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ClienteRequest>> validarRequestValido() {
+        return validator.validate(valido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ClienteRequest>> validarRequestInvalido() {
+        return validator.validate(invalido);
+    }
+}
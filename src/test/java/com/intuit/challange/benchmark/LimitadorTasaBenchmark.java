@@ -0,0 +1,69 @@
+package com.intuit.challange.benchmark;
+
+import com.intuit.challange.limite.IdentificadorLlamador;
+import com.intuit.challange.limite.LimitadorTasa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+/**
+ * Costo de LimitadorTasa.preHandle por request (el objetivo es menos de 1 µs, o sea más de
+ * 1M ops/s por hilo). El límite es alto para medir el camino que deja pasar: 10.000 IPs que
+ * rotan (búsqueda en el Caffeine de cubetas) y 4 hilos sobre la misma cubeta (CAS disputado).
+ */
+@State(Scope.Benchmark)
+public class LimitadorTasaBenchmark {
+
+    private static final int LLAMADORES = 10_000;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private LimitadorTasa limitador;
+    private HandlerMethod handler;
+    private MockHttpServletRequest[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.limite.por-segundo", "1000000000")
+                .withProperty("app.limite.rafaga", "1000000000");
+        limitador = new LimitadorTasa(environment, new IdentificadorLlamador(""), 100_000, Duration.ofMinutes(10));
+        handler = new HandlerMethod(this, LimitadorTasaBenchmark.class.getMethod("buscarPorNombre"));
+
+        requests = new MockHttpServletRequest[LLAMADORES];
+        for (int i = 0; i < LLAMADORES; i++) {
+            requests[i] = new MockHttpServletRequest("GET", "/api/clientes/buscar");
+            requests[i].setRemoteAddr("10.0." + (i >> 8) + "." + (i & 0xFF));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Turno {
+        int siguiente;
+    }
+
+    @Benchmark
+    public boolean distintosLlamadores(Turno turno) {
+        MockHttpServletRequest request = requests[turno.siguiente++ % LLAMADORES];
+        return limitador.preHandle(request, response, handler);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean mismoLlamador() {
+        return limitador.preHandle(requests[0], response, handler);
+    }
+
+    // Handler de los requests: el límite se busca por el nombre del método
+    public void buscarPorNombre() {
+    }
+}
@@ -0,0 +1,73 @@
+package com.intuit.challange.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Corre los microbenchmarks JMH de este paquete. No corre en el build normal:
+ *
+ * <pre>
+ * mvn test -Dtest=MicrobenchmarkRunner -Dbenchmark=true
+ * mvn test -Dtest=MicrobenchmarkRunner -Dbenchmark=true -Dbenchmark.include=ClienteJsonBenchmark
+ * mvn test -Dtest=MicrobenchmarkRunner -Dbenchmark=true -Dbenchmark.include=ClienteLecturaBenchmark
+ * </pre>
+ *
+ * Sin {@code benchmark.include} corren todos menos {@link ClienteLecturaBenchmark}, que levanta Spring
+ * contra la base del .env y escribe en ella: solo corre si se lo nombra.
+ * Reporta ops/s y, con el profiler de GC, {@code gc.alloc.rate.norm} (bytes asignados por operación).
+ * El resultado queda en {@code target/jmh-result.json} para comparar contra una corrida anterior.
+ */
+class MicrobenchmarkRunner {
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("JMH - mapper, Bean Validation y serialización Jackson")
+    void correrBenchmarks() throws RunnerException {
+        assertFalse(new Runner(opciones()).run().isEmpty(), "No se ejecutó ningún benchmark");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(opciones()).run();
+    }
+
+    private static Options opciones() {
+        String incluidos = System.getProperty("benchmark.include");
+        ChainedOptionsBuilder opciones = new OptionsBuilder()
+                .include(benchmarks(incluidos == null ? ".*Benchmark" : incluidos));
+        if (incluidos == null) {
+            opciones.exclude(benchmarks(ClienteLecturaBenchmark.class.getSimpleName()));
+        }
+        return opciones
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .forks(1)
+                // Reemplaza los argumentos heredados del JVM de Surefire (agente de JaCoCo incluido)
+                .jvmArgs("-Xms512m", "-Xmx512m")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+    }
+
+    private static String benchmarks(String clases) {
+        return MicrobenchmarkRunner.class.getPackageName() + "\\." + clases + "\\..*";
+    }
+}
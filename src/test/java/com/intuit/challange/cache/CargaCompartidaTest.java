@@ -0,0 +1,147 @@
+package com.intuit.challange.cache;
+
+import com.intuit.challange.exception.ClienteNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CargaCompartidaTest {
+
+    private static final int LLAMADORES = 20;
+
+    private final CargaCompartida<Long, String> carga = new CargaCompartida<>();
+    private final ExecutorService pool = Executors.newFixedThreadPool(LLAMADORES);
+    private final CountDownLatch empezo = new CountDownLatch(1);
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Misma clave en simultáneo - una sola consulta y todos reciben su resultado")
+    void mismaClave_unaSolaConsulta() throws Exception {
+        List<Future<String>> resultados = lanzar(1L, () -> {
+            consultas.incrementAndGet();
+            esperarLiberacion();
+            return "cliente-1";
+        });
+        esperarEsperando(LLAMADORES - 1);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertEquals("cliente-1", resultado.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, consultas.get());
+        assertEquals(LLAMADORES - 1, carga.compartidas());
+    }
+
+    @Test
+    @DisplayName("La excepción de la consulta llega a todos los que esperaban")
+    void excepcion_seComparte() throws Exception {
+        List<Future<String>> resultados = lanzar(7L, () -> {
+            consultas.incrementAndGet();
+            esperarLiberacion();
+            throw new ClienteNotFoundException(7L);
+        });
+        esperarEsperando(LLAMADORES - 1);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> resultado.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ClienteNotFoundException.class, ex.getCause());
+        }
+        assertEquals(1, consultas.get());
+    }
+
+    @Test
+    @DisplayName("Al terminar la clave se libera; claves distintas no se comparten")
+    void sinCache_yPorClave() {
+        assertEquals("a", carga.cargar(1L, () -> "a"));
+        assertEquals("b", carga.cargar(1L, () -> "b"));
+        assertEquals("c", carga.cargar(2L, () -> "c"));
+        assertEquals(0, carga.compartidas());
+    }
+
+    @Test
+    @DisplayName("olvidar - el próximo llamado no se suma a la carga en curso")
+    void olvidar_noSeSumaALaCargaEnCurso() throws Exception {
+        Future<String> vieja = pool.submit(() -> carga.cargar(1L, () -> {
+            esperarLiberacion();
+            return "antes de escribir";
+        }));
+        esperarEnCurso();
+
+        carga.olvidar(1L);
+
+        assertEquals("después de escribir", carga.cargar(1L, () -> "después de escribir"));
+        liberar.countDown();
+        assertEquals("antes de escribir", vieja.get(5, TimeUnit.SECONDS));
+        assertEquals(0, carga.compartidas());
+    }
+
+    @Test
+    @DisplayName("olvidarTodas - ninguna carga en curso recibe a los llamados siguientes")
+    void olvidarTodas_liberaTodasLasClaves() throws Exception {
+        Future<String> vieja = pool.submit(() -> carga.cargar(1L, () -> {
+            esperarLiberacion();
+            return "antes de escribir";
+        }));
+        esperarEnCurso();
+
+        carga.olvidarTodas();
+
+        assertEquals("después de escribir", carga.cargar(1L, () -> "después de escribir"));
+        liberar.countDown();
+        assertEquals("antes de escribir", vieja.get(5, TimeUnit.SECONDS));
+        assertEquals(0, carga.compartidas());
+    }
+
+    private List<Future<String>> lanzar(Long clave, Supplier<String> consulta) throws InterruptedException {
+        List<Future<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < LLAMADORES; i++) {
+            resultados.add(pool.submit(() -> carga.cargar(clave, consulta)));
+            if (i == 0) {
+                esperarEnCurso();
+            }
+        }
+        return resultados;
+    }
+
+    // El primero ya está cargando: el resto llega con la clave ocupada
+    private void esperarEnCurso() throws InterruptedException {
+        assertTrue(empezo.await(5, TimeUnit.SECONDS));
+    }
+
+    private void esperarEsperando(long compartidas) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (carga.compartidas() < compartidas && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void esperarLiberacion() {
+        empezo.countDown();
+        try {
+            assertTrue(liberar.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
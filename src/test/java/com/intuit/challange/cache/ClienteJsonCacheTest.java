@@ -0,0 +1,235 @@
+package com.intuit.challange.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.dto.PagedResponse;
+import com.intuit.challange.exception.PrecondicionFallidaException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteJsonCacheTest {
+
+    private static final int LLAMADORES = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ClienteJsonCache cache = new ClienteJsonCache(objectMapper, 1 << 20, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("obtener - serializa una vez, guarda fuera del heap y devuelve los mismos bytes")
+    void obtener_serializaUnaVez() throws Exception {
+        AtomicInteger cargas = new AtomicInteger();
+        ClienteResponse response = cliente("Juan", 0L);
+
+        ClienteJson primero = cache.obtener(1L, id -> { cargas.incrementAndGet(); return response; });
+        ClienteJson segundo = cache.obtener(1L, id -> { cargas.incrementAndGet(); return response; });
+
+        assertSame(primero, segundo);
+        assertEquals(1, cargas.get());
+        assertTrue(primero.getBytes().isDirect());
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), contenido(primero));
+    }
+
+    @Test
+    @DisplayName("Carga fuera de la caché - un @CacheEvict y otros ids no esperan a la consulta")
+    void obtener_cargaNoBloqueaLaCache() throws Exception {
+        CountDownLatch cargando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<ClienteJson> lectura = pool.submit(() -> cache.obtener(1L, id -> {
+                cargando.countDown();
+                esperar(liberar);
+                return cliente("Juan", 1L);
+            }));
+            assertTrue(cargando.await(5, TimeUnit.SECONDS));
+
+            // Con la consulta en curso, la caché sigue respondiendo sin esperarla
+            cache.cache().evict(2L);
+            assertNotNull(cache.obtener(3L, id -> cliente("Otro", 0L)));
+            assertFalse(lectura.isDone());
+
+            liberar.countDown();
+            assertSame(lectura.get(5, TimeUnit.SECONDS), cache.buscar(1L));
+        } finally {
+            liberar.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Fallos simultáneos del mismo id - una sola consulta por LecturasCompartidas")
+    void obtener_fallosSimultaneosCompartenLaConsulta() throws Exception {
+        LecturasCompartidas lecturas = new LecturasCompartidas();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        lecturas.bindTo(registry);
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch cargando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(LLAMADORES);
+        try {
+            List<Future<ClienteJson>> respuestas = new ArrayList<>();
+            for (int i = 0; i < LLAMADORES; i++) {
+                respuestas.add(pool.submit(() -> cache.obtener(1L, id -> lecturas.buscarPorId(id, () -> {
+                    consultas.incrementAndGet();
+                    cargando.countDown();
+                    esperar(liberar);
+                    return cliente("Juan", 1L);
+                }))));
+            }
+            assertTrue(cargando.await(5, TimeUnit.SECONDS));
+            esperarCompartidas(registry, LLAMADORES - 1);
+            liberar.countDown();
+
+            for (Future<ClienteJson> respuesta : respuestas) {
+                assertEquals(1L, respuesta.get(5, TimeUnit.SECONDS).getVersion());
+            }
+            assertEquals(1, consultas.get());
+        } finally {
+            liberar.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("@CachePut durante la carga - la versión de la escritura no se pisa con la leída antes")
+    void obtener_escrituraDuranteLaCarga() throws Exception {
+        ClienteJson json = cargarDuranteEscritura(() -> cache.cache().put(1L, cliente("Nuevo", 2L)));
+
+        assertEquals(2L, json.getVersion());
+        assertSame(json, cache.buscar(1L));
+        assertTrue(new String(contenido(json), StandardCharsets.UTF_8).contains("Nuevo"));
+    }
+
+    @Test
+    @DisplayName("@CacheEvict (baja) durante la carga - lo leído antes de la baja no queda guardado")
+    void obtener_bajaDuranteLaCarga() throws Exception {
+        ClienteJson json = cargarDuranteEscritura(() -> cache.cache().evict(1L));
+
+        assertEquals(1L, json.getVersion());
+        assertNull(cache.buscar(1L));
+    }
+
+    @Test
+    @DisplayName("Converter - escribe los bytes con su Content-Length")
+    void converter_escribeBytes() throws Exception {
+        ClienteJson json = ClienteJson.de(1L, 0L, "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        MockHttpOutputMessage salida = new MockHttpOutputMessage();
+
+        new ClienteJsonHttpMessageConverter().write(json, null, salida);
+
+        assertEquals("{\"id\":1}", salida.getBodyAsString());
+        assertEquals(8, salida.getHeaders().getContentLength());
+        assertEquals("application/json", salida.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    @DisplayName("ETag de página - cambia con una modificación, una baja o el total")
+    void etagPagina_cambiaConElContenido() {
+        ClienteResponse uno = cliente("Uno", 0L);
+        ClienteResponse dos = ClienteResponse.builder().id(2L).version(3L).fechaModificacion(LocalDateTime.of(2026, 1, 1, 9, 0)).build();
+
+        String base = ClienteEtag.dePagina(pagina(List.of(uno, dos), 2));
+
+        assertEquals(base, ClienteEtag.dePagina(pagina(List.of(uno, dos), 2)));
+        assertNotEquals(base, ClienteEtag.dePagina(pagina(List.of(uno), 1)));
+        assertNotEquals(base, ClienteEtag.dePagina(pagina(List.of(uno, dos), 3)));
+        dos.setVersion(4L);
+        assertNotEquals(base, ClienteEtag.dePagina(pagina(List.of(uno, dos), 2)));
+    }
+
+    @Test
+    @DisplayName("If-Match - un único ETag fuerte del cliente; \"*\" no exige versión")
+    void etag_versionEsperada() {
+        assertEquals(7L, ClienteEtag.versionEsperada("\"1-7\"", 1L));
+        assertNull(ClienteEtag.versionEsperada("*", 1L));
+        assertThrows(PrecondicionFallidaException.class, () -> ClienteEtag.versionEsperada("W/\"1-7\"", 1L));
+        assertThrows(PrecondicionFallidaException.class, () -> ClienteEtag.versionEsperada("\"1-6\", \"1-7\"", 1L));
+        assertThrows(PrecondicionFallidaException.class, () -> ClienteEtag.versionEsperada("\"11-7\"", 1L));
+        assertThrows(PrecondicionFallidaException.class, () -> ClienteEtag.versionEsperada("\"1-x\"", 1L));
+    }
+
+    @Test
+    @DisplayName("If-None-Match - comparación débil, listas y comodín")
+    void etag_coincide() {
+        assertTrue(ClienteEtag.coincide("\"1-5\"", "1-5"));
+        assertTrue(ClienteEtag.coincide("W/\"1-4\", W/\"1-5\"", "1-5"));
+        assertTrue(ClienteEtag.coincide("*", "1-5"));
+        assertFalse(ClienteEtag.coincide("\"1-4\"", "1-5"));
+    }
+
+    private static PagedResponse<ClienteResponse> pagina(List<ClienteResponse> contenido, long total) {
+        return PagedResponse.<ClienteResponse>builder()
+                .content(contenido)
+                .page(PagedResponse.PageMetadata.builder().size(10).totalElements(total).totalPages(1).number(0).build())
+                .build();
+    }
+
+    private static ClienteResponse cliente(String nombre, long version) {
+        return ClienteResponse.builder().id(1L).nombre(nombre).version(version).build();
+    }
+
+    // Los que llegaron con la consulta en curso esperan su resultado
+    private static void esperarCompartidas(MeterRegistry registry, int esperadas) throws InterruptedException {
+        FunctionCounter compartidas = registry.get(LecturasCompartidas.METRICA_COMPARTIDAS)
+                .tag("operacion", "buscarPorId").functionCounter();
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (compartidas.count() < esperadas) {
+            assertTrue(System.nanoTime() < limite, "Los fallos del mismo id no compartieron la consulta");
+            Thread.sleep(1);
+        }
+    }
+
+    // La lectura toma la versión 1; la escritura termina mientras la consulta sigue en curso
+    private ClienteJson cargarDuranteEscritura(Runnable escritura) throws Exception {
+        CountDownLatch cargando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<ClienteJson> lectura = pool.submit(() -> cache.obtener(1L, id -> {
+                cargando.countDown();
+                esperar(liberar);
+                return cliente("Viejo", 1L);
+            }));
+            assertTrue(cargando.await(5, TimeUnit.SECONDS));
+            escritura.run();
+            liberar.countDown();
+            return lectura.get(5, TimeUnit.SECONDS);
+        } finally {
+            liberar.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static byte[] contenido(ClienteJson json) {
+        byte[] bytes = new byte[json.longitud()];
+        json.getBytes().duplicate().get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,422 @@
+package com.intuit.challange.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intuit.challange.dto.ClienteRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga HTTP de punta a punta sobre todos los endpoints de ClienteController.
+ * <p>
+ * Levanta la aplicación en un puerto aleatorio contra la base del .env (PostgreSQL local:
+ * el esquema usa pg_trgm, columnas generadas y COPY, que H2 no emula) y genera tráfico
+ * mixto a tasa fija (modelo abierto). La latencia se mide desde el instante en que el
+ * request debía salir, así una demora del servidor no esconde la cola que genera.
+ * <pre>
+ * mvn test -Dtest=ClienteLoadTestRunner -Dbenchmark=true
+ * mvn test -Dtest=ClienteLoadTestRunner -Dbenchmark=true -Dcarga.rps=200 -Dcarga.segundos=120 \
+ *          -Dcarga.mezcla=GET_ID=50,BUSCAR=30,CREAR=20
+ * </pre>
+ * Parámetros: {@code carga.rps} (50), {@code carga.segundos} (60), {@code carga.calentamiento} (10),
+ * {@code carga.clientes} (200 clientes sembrados), {@code carga.mezcla} (pesos por operación,
+ * ver {@link Operacion}) y {@code carga.salida} (target/carga/resultado.json).
+ * El resultado tiene, por endpoint, requests, errores, throughput y p50 / p95 / p99 / max en ms.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                // El log de cada sentencia y de cada request distorsiona las latencias
+                "spring.jpa.show-sql=false",
+                "logging.level.org.hibernate.SQL=INFO",
+                "logging.level.com.intuit.challange=WARN",
+                // Todo el tráfico sale de una sola IP
+                "app.limite.habilitado=false"
+        })
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClienteLoadTestRunner {
+
+    private static final int RPS = Integer.getInteger("carga.rps", 50);
+    private static final int SEGUNDOS = Integer.getInteger("carga.segundos", 60);
+    private static final int CALENTAMIENTO = Integer.getInteger("carga.calentamiento", 10);
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 200);
+    private static final Path SALIDA = Path.of(System.getProperty("carga.salida", "target/carga/resultado.json"));
+
+    /* Tope de requests en vuelo: si el servidor no da abasto se cuentan como errores en vez de acumular memoria. */
+    private static final int MAX_EN_VUELO = 2_000;
+    private static final String DOMINIO = "@carga.test";
+
+    /** Operaciones y su peso por defecto en la mezcla. */
+    enum Operacion {
+        GET_ID(30, 200),
+        LISTAR(10, 200),
+        LISTAR_CURSOR(5, 200),
+        BUSCAR(20, 200),
+        BUSCAR_CURSOR(5, 200),
+        CREAR(8, 201),
+        ACTUALIZAR(6, 200),
+        ACTUALIZAR_EMAIL(6, 200),
+        ELIMINAR(5, 204),
+        LOTE(2, 200),
+        IMPORTAR(2, 200),
+        EXPORTAR(1, 200);
+
+        final int pesoPorDefecto;
+        final int statusEsperado;
+
+        Operacion(int pesoPorDefecto, int statusEsperado) {
+            this.pesoPorDefecto = pesoPorDefecto;
+            this.statusEsperado = statusEsperado;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+    private final AtomicLong secuencia = new AtomicLong();
+    private final List<Long> sembrados = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Long> creados = new ConcurrentLinkedQueue<>();
+
+    private String lote;
+    private String cursorListado;
+    private String cursorBusqueda;
+    private HttpClient client;
+    private ExecutorService executor;
+
+    @BeforeAll
+    void preparar() throws Exception {
+        lote = String.format("%03d", ThreadLocalRandom.current().nextInt(1000));
+        executor = Executors.newFixedThreadPool(4);
+        client = HttpClient.newBuilder().executor(executor).connectTimeout(Duration.ofSeconds(10)).build();
+
+        for (int i = 0; i < CLIENTES; i++) {
+            HttpResponse<String> respuesta = client.send(
+                    post("/api/clientes", "application/json", json.writeValueAsString(nuevoCliente())),
+                    HttpResponse.BodyHandlers.ofString());
+            long id = json.readTree(respuesta.body()).get("id").asLong();
+            // Deja el CUIT y el email que manda actualizacion(id): los PUT de la carga cambian solo el nombre
+            HttpResponse<Void> sembrado = client.send(put("/api/clientes/" + id, json.writeValueAsString(actualizacion(id))),
+                    HttpResponse.BodyHandlers.discarding());
+            assertEquals(200, sembrado.statusCode(), "No se pudo sembrar el cliente " + id);
+            sembrados.add(id);
+        }
+
+        cursorListado = json.readTree(client.send(get("/api/clientes?size=20"),
+                HttpResponse.BodyHandlers.ofString()).body()).path("nextCursor").asText();
+        cursorBusqueda = json.readTree(client.send(get("/api/clientes/buscar?nombre=Carga&size=20"),
+                HttpResponse.BodyHandlers.ofString()).body()).path("nextCursor").asText();
+    }
+
+    @AfterAll
+    void limpiar() {
+        jdbcTemplate.update("DELETE FROM clientes WHERE email LIKE ?", "%" + DOMINIO);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Carga - latencia y throughput por endpoint con tráfico mixto a tasa fija")
+    void carga() throws Exception {
+        Map<Operacion, Integer> mezcla = mezcla();
+
+        ejecutar(mezcla, CALENTAMIENTO);
+        Map<Operacion, Registro> registros = ejecutar(mezcla, SEGUNDOS);
+
+        Map<String, Object> reporte = reporte(mezcla, registros);
+        Files.createDirectories(SALIDA.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(SALIDA.toFile(), reporte);
+
+        System.out.println("\n[carga] " + SALIDA.toAbsolutePath());
+        System.out.println(objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsString(reporte.get("endpoints")));
+
+        long total = registros.values().stream().mapToLong(r -> r.latencias.size() + r.errores.get()).sum();
+        assertTrue(total > 0, "No se envió ningún request");
+    }
+
+    private Map<Operacion, Registro> ejecutar(Map<Operacion, Integer> mezcla, int segundos) throws InterruptedException {
+        Map<Operacion, Registro> registros = new EnumMap<>(Operacion.class);
+        mezcla.keySet().forEach(op -> registros.put(op, new Registro()));
+
+        Operacion[] ruleta = ruleta(mezcla);
+        Semaphore enVuelo = new Semaphore(MAX_EN_VUELO);
+        long intervalo = 1_000_000_000L / RPS;
+        long inicio = System.nanoTime();
+        long total = (long) RPS * segundos;
+
+        for (long i = 0; i < total; i++) {
+            long programado = inicio + i * intervalo;
+            long espera = programado - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+
+            Operacion elegida = ruleta[ThreadLocalRandom.current().nextInt(ruleta.length)];
+            // Sin altas previas para borrar, el DELETE se convierte en un alta (solo este hilo consume la cola)
+            Operacion op = elegida == Operacion.ELIMINAR && creados.isEmpty() ? Operacion.CREAR : elegida;
+            Registro registro = registros.computeIfAbsent(op, k -> new Registro());
+
+            if (!enVuelo.tryAcquire()) {
+                registro.errores.incrementAndGet();
+                continue;
+            }
+            HttpRequest request;
+            try {
+                request = request(op);
+            } catch (IOException ex) {
+                enVuelo.release();
+                throw new IllegalStateException(ex);
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((respuesta, ex) -> {
+                        long latencia = System.nanoTime() - programado;
+                        if (ex != null || respuesta.statusCode() != op.statusEsperado) {
+                            registro.errores.incrementAndGet();
+                        } else {
+                            registro.latencias.add(latencia);
+                            registrarCreados(op, respuesta.body());
+                        }
+                        enVuelo.release();
+                    });
+        }
+        enVuelo.acquire(MAX_EN_VUELO);
+        enVuelo.release(MAX_EN_VUELO);
+
+        registros.values().forEach(r -> r.segundos = segundos);
+        return registros;
+    }
+
+    private HttpRequest request(Operacion op) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = sembrados.get(random.nextInt(sembrados.size()));
+
+        return switch (op) {
+            case GET_ID -> get("/api/clientes/" + id);
+            case LISTAR -> get("/api/clientes?page=" + random.nextInt(5) + "&size=20");
+            case LISTAR_CURSOR -> get("/api/clientes?size=20&after=" + cursorListado);
+            case BUSCAR -> get("/api/clientes/buscar?nombre=Carga" + random.nextInt(10) + "&size=20");
+            case BUSCAR_CURSOR -> get("/api/clientes/buscar?nombre=Carga&size=20&after=" + cursorBusqueda);
+            case CREAR -> post("/api/clientes", "application/json", json.writeValueAsString(nuevoCliente()));
+            case ACTUALIZAR -> put("/api/clientes/" + id, json.writeValueAsString(actualizacion(id)));
+            case ACTUALIZAR_EMAIL -> HttpRequest.newBuilder(uri("/api/clientes/" + id + "/email"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"nuevoEmail\":\"" + emailSembrado(id) + "\"}"))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+            case ELIMINAR -> HttpRequest.newBuilder(uri("/api/clientes/" + creados.poll()))
+                    .DELETE()
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+            case LOTE -> post("/api/clientes/batch", "application/json",
+                    json.writeValueAsString(Map.of("clientes", List.of(
+                            nuevoCliente(), nuevoCliente(), nuevoCliente(), nuevoCliente(), nuevoCliente()))));
+            case IMPORTAR -> post("/api/clientes/import?formato=CSV", "text/csv", csv(5));
+            case EXPORTAR -> get("/api/clientes/export");
+        };
+    }
+
+    // Los creados por POST alimentan los DELETE, así el tamaño de la tabla se mantiene estable
+    private void registrarCreados(Operacion op, byte[] cuerpo) {
+        if (op != Operacion.CREAR) {
+            return;
+        }
+        try {
+            JsonNode nodo = json.readTree(cuerpo);
+            creados.add(nodo.get("id").asLong());
+        } catch (IOException ignored) {
+            // Sin id no hay nada para borrar después
+        }
+    }
+
+    private ClienteRequest nuevoCliente() {
+        long n = secuencia.incrementAndGet();
+        return ClienteRequest.builder()
+                .nombre("Carga" + (n % 10))
+                .apellido("Http")
+                .razonSocial("Carga SA")
+                .cuit(String.format("30-%s%05d-%d", lote, n % 100_000, (n / 100_000) % 10))
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .telefonoCelular("1122334455")
+                .email("c" + lote + "-" + n + DOMINIO)
+                .build();
+    }
+
+    // CUIT y email propios de cada sembrado (31-… y emailSembrado): con la fila ya en estos valores cambia solo el nombre
+    private ClienteRequest actualizacion(long id) {
+        return ClienteRequest.builder()
+                .nombre("Carga" + ThreadLocalRandom.current().nextInt(10))
+                .apellido("Http")
+                .razonSocial("Carga SA")
+                .cuit(String.format("31-%08d-%d", id % 100_000_000, (id / 100_000_000) % 10))
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .telefonoCelular("1122334455")
+                .email(emailSembrado(id))
+                .build();
+    }
+
+    private String emailSembrado(long id) {
+        return "s" + id + DOMINIO;
+    }
+
+    private String csv(int filas) {
+        StringBuilder sb = new StringBuilder("nombre,apellido,razonSocial,cuit,fechaNacimiento,telefonoCelular,email\n");
+        for (int i = 0; i < filas; i++) {
+            ClienteRequest c = nuevoCliente();
+            sb.append(String.join(",", c.getNombre(), c.getApellido(), c.getRazonSocial(), c.getCuit(),
+                    c.getFechaNacimiento().toString(), c.getTelefonoCelular(), c.getEmail())).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private HttpRequest get(String ruta) {
+        return HttpRequest.newBuilder(uri(ruta)).GET().timeout(Duration.ofSeconds(60)).build();
+    }
+
+    private HttpRequest post(String ruta, String contentType, String cuerpo) {
+        return HttpRequest.newBuilder(uri(ruta))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    private HttpRequest put(String ruta, String cuerpo) {
+        return HttpRequest.newBuilder(uri(ruta))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(cuerpo))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    private URI uri(String ruta) {
+        return URI.create("http://localhost:" + port + ruta);
+    }
+
+    private static Map<Operacion, Integer> mezcla() {
+        Map<Operacion, Integer> mezcla = new EnumMap<>(Operacion.class);
+        String configurada = System.getProperty("carga.mezcla");
+        if (configurada == null || configurada.isBlank()) {
+            for (Operacion op : Operacion.values()) {
+                mezcla.put(op, op.pesoPorDefecto);
+            }
+            return mezcla;
+        }
+        for (String par : configurada.split(",")) {
+            String[] partes = par.split("=");
+            int peso = Integer.parseInt(partes[1].trim());
+            if (peso > 0) {
+                mezcla.put(Operacion.valueOf(partes[0].trim()), peso);
+            }
+        }
+        return mezcla;
+    }
+
+    private static Operacion[] ruleta(Map<Operacion, Integer> mezcla) {
+        List<Operacion> ruleta = new ArrayList<>();
+        mezcla.forEach((op, peso) -> {
+            for (int i = 0; i < peso; i++) {
+                ruleta.add(op);
+            }
+        });
+        return ruleta.toArray(Operacion[]::new);
+    }
+
+    private Map<String, Object> reporte(Map<Operacion, Integer> mezcla, Map<Operacion, Registro> registros) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rps", RPS);
+        config.put("segundos", SEGUNDOS);
+        config.put("calentamiento", CALENTAMIENTO);
+        config.put("clientesSembrados", CLIENTES);
+        config.put("mezcla", mezcla);
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        registros.forEach((op, registro) -> endpoints.add(registro.resumen(op.name())));
+
+        Registro total = new Registro();
+        total.segundos = SEGUNDOS;
+        registros.values().forEach(r -> {
+            total.latencias.addAll(r.latencias);
+            total.errores.addAndGet(r.errores.get());
+        });
+
+        Map<String, Object> reporte = new LinkedHashMap<>();
+        reporte.put("fecha", Instant.now().toString());
+        reporte.put("configuracion", config);
+        reporte.put("endpoints", endpoints);
+        reporte.put("total", total.resumen("TOTAL"));
+        return reporte;
+    }
+
+    /** Latencias (ns) exitosas y errores de una operación. */
+    private static final class Registro {
+        final ConcurrentLinkedQueue<Long> latencias = new ConcurrentLinkedQueue<>();
+        final AtomicLong errores = new AtomicLong();
+        int segundos;
+
+        Map<String, Object> resumen(String nombre) {
+            long[] ordenadas = latencias.stream().mapToLong(Long::longValue).sorted().toArray();
+
+            Map<String, Object> resumen = new LinkedHashMap<>();
+            resumen.put("endpoint", nombre);
+            resumen.put("requests", ordenadas.length + errores.get());
+            resumen.put("errores", errores.get());
+            resumen.put("throughput", Math.round(ordenadas.length * 10.0 / segundos) / 10.0);
+            resumen.put("p50", percentil(ordenadas, 0.50));
+            resumen.put("p95", percentil(ordenadas, 0.95));
+            resumen.put("p99", percentil(ordenadas, 0.99));
+            resumen.put("max", percentil(ordenadas, 1.0));
+            return resumen;
+        }
+
+        private static double percentil(long[] ordenadas, double p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+            return Math.round(ordenadas[Math.max(indice, 0)] / 10_000.0) / 100.0;
+        }
+    }
+}
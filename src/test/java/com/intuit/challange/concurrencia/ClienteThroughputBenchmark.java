@@ -0,0 +1,166 @@
+package com.intuit.challange.concurrencia;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.service.abstraction.ClienteService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput de la API bajo alta concurrencia, para comparar platform threads
+ * (Tomcat con 200 hilos) contra el perfil virtual. No corre en el build normal:
+ *
+ * <pre>
+ * mvn test -Dtest=ClienteThroughputBenchmark -Dbenchmark=true -Dspring.threads.virtual.enabled=false
+ * mvn test -Dtest=ClienteThroughputBenchmark -Dbenchmark=true -Dspring.threads.virtual.enabled=true
+ * </pre>
+ *
+ * Mezcla lecturas por id (caché) y búsquedas por nombre (base). Parámetros opcionales:
+ * {@code -Dbenchmark.concurrencia} (1000), {@code -Dbenchmark.segundos} (30),
+ * {@code -Dbenchmark.clientes} (200) y {@code -Dspring.datasource.hikari.maximum-pool-size}.
+ */
+// Todo el tráfico sale de una sola IP: sin el límite de solicitudes, que lo cortaría con 429
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.limite.habilitado=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClienteThroughputBenchmark {
+
+    private static final int CONCURRENCIA = Integer.getInteger("benchmark.concurrencia", 1000);
+    private static final int SEGUNDOS = Integer.getInteger("benchmark.segundos", 30);
+    private static final int CLIENTES = Integer.getInteger("benchmark.clientes", 200);
+    private static final int CALENTAMIENTO_SEGUNDOS = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtual;
+
+    @Autowired
+    private ClienteService service;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeAll
+    void sembrar() {
+        String lote = String.format("%05d", ThreadLocalRandom.current().nextInt(100_000));
+        for (int i = 0; i < CLIENTES; i++) {
+            ClienteResponse creado = service.crear(ClienteRequest.builder()
+                    .nombre("Bench" + (i % 10))
+                    .apellido("Carga")
+                    .razonSocial("Bench SA")
+                    .cuit(String.format("27-%s%03d-%d", lote, i % 1000, (i / 1000) % 10))
+                    .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                    .telefonoCelular("1122334455")
+                    .email("bench" + lote + "-" + i + "@test.com")
+                    .build());
+            ids.add(creado.getId());
+        }
+    }
+
+    @AfterAll
+    void limpiar() {
+        ids.forEach(service::eliminar);
+    }
+
+    @Test
+    @DisplayName("Benchmark - requests por segundo y latencias con alta concurrencia")
+    void throughput() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        try {
+            ejecutar(client, CALENTAMIENTO_SEGUNDOS);
+            Resultado resultado = ejecutar(client, SEGUNDOS);
+
+            long[] latencias = resultado.latenciasMicros();
+            Arrays.sort(latencias);
+            System.out.printf(
+                    "%n[benchmark] modo=%s concurrencia=%d segundos=%d requests=%d errores=%d "
+                            + "req/s=%.0f p50=%.1fms p99=%.1fms max=%.1fms%n",
+                    virtual ? "virtual" : "platform", CONCURRENCIA, SEGUNDOS, latencias.length,
+                    resultado.errores(), latencias.length / (double) SEGUNDOS,
+                    percentil(latencias, 0.50), percentil(latencias, 0.99), percentil(latencias, 1.0));
+
+            assertEquals(0, resultado.errores(), "Hubo respuestas con error durante el benchmark");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Resultado ejecutar(HttpClient client, int segundos) throws InterruptedException {
+        Semaphore enVuelo = new Semaphore(CONCURRENCIA);
+        ConcurrentLinkedQueue<Long> latencias = new ConcurrentLinkedQueue<>();
+        AtomicLong errores = new AtomicLong();
+        long fin = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+
+        while (System.nanoTime() < fin) {
+            enVuelo.acquire();
+            long inicio = System.nanoTime();
+            client.sendAsync(siguienteRequest(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((respuesta, ex) -> {
+                        if (ex != null || respuesta.statusCode() != 200) {
+                            errores.incrementAndGet();
+                        } else {
+                            latencias.add((System.nanoTime() - inicio) / 1_000);
+                        }
+                        enVuelo.release();
+                    });
+        }
+        enVuelo.acquire(CONCURRENCIA);
+
+        return new Resultado(latencias.stream().mapToLong(Long::longValue).toArray(), errores.get());
+    }
+
+    private HttpRequest siguienteRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String ruta = random.nextBoolean()
+                ? "/api/clientes/" + ids.get(random.nextInt(ids.size()))
+                : "/api/clientes/buscar?nombre=Bench" + random.nextInt(10) + "&size=20";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + ruta))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1_000.0;
+    }
+
+    private record Resultado(long[] latenciasMicros, long errores) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.intuit.challange.concurrencia;
+
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.service.abstraction.ClienteService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Recorre el camino ClienteServiceImpl → ClienteRepository (Hibernate, Hikari, pgjdbc, logback)
+ * y GET /api/clientes/{id} por el controller (ClienteJsonCache, LecturasCompartidas) desde virtual threads con JFR grabando {@code jdk.VirtualThreadPinned} sin umbral:
+ * cualquier bloqueo dentro de un synchronized o de un frame nativo aparece como evento.
+ * Requiere Java 21 y la base configurada en .env, igual que ChallangeApplicationTests.
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@AutoConfigureMockMvc
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final int CONCURRENCIA = 50;
+
+    @Autowired
+    private ClienteService service;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Virtual threads - el CRUD de clientes no fija el carrier thread")
+    void crud_noGeneraEventosDePinning() throws Exception {
+        Path archivo = Files.createTempFile("pinning", ".jfr");
+        List<RecordedEvent> eventos = new ArrayList<>();
+
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-");
+            List<CompletableFuture<Void>> tareas = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCIA; i++) {
+                tareas.add(executor.submitCompletable(this::cicloCompleto));
+            }
+            CompletableFuture.allOf(tareas.toArray(CompletableFuture[]::new)).join();
+
+            recording.stop();
+            recording.dump(archivo);
+        }
+
+        try {
+            eventos.addAll(RecordingFile.readAllEvents(archivo));
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+
+        assertTrue(eventos.isEmpty(), () -> "Pinning detectado:\n" + eventos.stream()
+                .map(VirtualThreadPinningTest::describir)
+                .collect(Collectors.joining("\n---\n")));
+    }
+
+    private Void cicloCompleto() {
+        String sufijo = String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000));
+        ClienteRequest request = ClienteRequest.builder()
+                .nombre("Pinning")
+                .apellido("Virtual")
+                .razonSocial("Pinning SA")
+                .cuit("20-" + sufijo + "-9")
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .telefonoCelular("1122334455")
+                .email("pinning" + sufijo + "@test.com")
+                .build();
+
+        ClienteResponse creado = service.crear(request);
+        service.buscarPorId(creado.getId());
+        service.buscarPorId(creado.getId());
+        service.listar(PageRequest.of(0, 20));
+        service.buscarPorNombre("Pinning", PageRequest.of(0, 20));
+        service.actualizarEmail(creado.getId(), "pinning" + sufijo + "@otro.com", null);
+        service.eliminar(creado.getId());
+
+        // Por el controller: el primer GET carga el JSON (consulta y Jackson), el segundo es un acierto
+        ClienteResponse otro = service.crear(request);
+        obtener(otro.getId());
+        obtener(otro.getId());
+        service.eliminar(otro.getId());
+        return null;
+    }
+
+    private void obtener(Long id) {
+        try {
+            mockMvc.perform(get("/api/clientes/" + id)).andExpect(status().isOk());
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String describir(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return evento.toString();
+        }
+        return evento.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(m -> m.getType().getName() + "." + m.getName())
+                .collect(Collectors.joining("\n  at "));
+    }
+}
@@ -1,24 +1,48 @@
 package com.intuit.challange.controller;
 
 
+import com.intuit.challange.cache.ClienteJson;
+import com.intuit.challange.cache.ClienteJsonCache;
+import com.intuit.challange.cache.LecturasCompartidas;
+import com.intuit.challange.dto.ClienteLoteRequest;
+import com.intuit.challange.dto.ClienteLoteResponse;
 import com.intuit.challange.dto.ClienteRequest;
 import com.intuit.challange.dto.ClienteResponse;
 import com.intuit.challange.dto.EmailUpdateRequest;
 import com.intuit.challange.dto.PagedResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.challange.exception.PrecondicionFallidaException;
+import com.intuit.challange.exception.PrecondicionRequeridaException;
+import com.intuit.challange.export.ClienteExportWriter;
+import com.intuit.challange.export.FormatoExportacion;
+import com.intuit.challange.importacion.FormatoImportacion;
+import com.intuit.challange.dto.ClienteImportResponse;
 import com.intuit.challange.service.abstraction.ClienteService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 
 import java.util.List;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith ( MockitoExtension.class)
@@ -27,6 +51,15 @@ class ClienteControllerTest {
     @Mock
     private ClienteService service;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private ClienteJsonCache jsonCache;
+
+    @Spy
+    private LecturasCompartidas lecturas = new LecturasCompartidas();
+
     @InjectMocks
     private ClienteController controller;
 
@@ -46,6 +79,54 @@ class ClienteControllerTest {
 
         assertEquals(HttpStatus.CREATED, result.getStatusCode());
         assertEquals(response, result.getBody());
+        verify(lecturas).olvidarBusquedas();
+    }
+
+    @Test
+    void crearLote_debeRetornar200() {
+
+        List<ClienteRequest> clientes = List.of(new ClienteRequest());
+        ClienteLoteResponse response = ClienteLoteResponse.builder().total(1).creados(1).build();
+
+        when(service.crearLote(clientes)).thenReturn(response);
+
+        ResponseEntity<ClienteLoteResponse> result = controller.crearLote(new ClienteLoteRequest(clientes));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(response, result.getBody());
+    }
+
+    @Test
+    void exportar_csv_escribeEnElStream() throws Exception {
+
+        when(service.exportar(any())).thenAnswer(inv -> {
+            ClienteExportWriter writer = inv.getArgument(0);
+            writer.escribir(ClienteResponse.builder().id(7L).nombre("Juan").build());
+            return 1L;
+        });
+
+        ResponseEntity<StreamingResponseBody> result = controller.exportar(FormatoExportacion.CSV);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("text/csv;charset=UTF-8", result.getHeaders().getContentType().toString());
+        assertTrue(result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("clientes.csv"));
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("\r\n7,Juan,"));
+    }
+
+    @Test
+    void importar_debeRetornar200() throws Exception {
+
+        ClienteImportResponse response = ClienteImportResponse.builder().total(1).importados(1).build();
+        when(service.importar(any())).thenReturn(response);
+
+        String csv = "nombre,apellido,razonSocial,cuit,fechaNacimiento,email\n";
+        ResponseEntity<ClienteImportResponse> result = controller.importar(FormatoImportacion.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(response, result.getBody());
     }
 
     // ==========================
@@ -56,14 +137,29 @@ class ClienteControllerTest {
     void listar_debeRetornar200() {
 
         Pageable pageable = PageRequest.of(0, 10);
-        PagedResponse <ClienteResponse> paged = PagedResponse.<ClienteResponse>builder().build();
+        PagedResponse <ClienteResponse> paged = PagedResponse.<ClienteResponse>builder().content(List.of()).build();
 
         when(service.listar(pageable)).thenReturn(paged);
 
-        ResponseEntity<PagedResponse<ClienteResponse>> result = controller.listar(pageable);
+        ResponseEntity<PagedResponse<ClienteResponse>> result = controller.listar(null, pageable);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(paged, result.getBody());
+    }
+
+    @Test
+    void listar_conCursor_debeUsarKeyset() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        PagedResponse <ClienteResponse> paged = PagedResponse.<ClienteResponse>builder().content(List.of()).build();
+
+        when(service.listarDesdeCursor("cursor", pageable)).thenReturn(paged);
+
+        ResponseEntity<PagedResponse<ClienteResponse>> result = controller.listar("cursor", pageable);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(paged, result.getBody());
+        verify(service, never()).listar(any());
     }
 
     // ==========================
@@ -73,14 +169,63 @@ class ClienteControllerTest {
     @Test
     void buscarPorId_debeRetornar200() {
 
-        ClienteResponse response = new ClienteResponse();
+        ClienteJson json = ClienteJson.de(1L, 0L, "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+        when(jsonCache.obtener(eq(1L), any())).thenReturn(json);
+
+        ResponseEntity<ClienteJson> result = controller.buscarPorId(1L, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(json, result.getBody());
+        assertEquals("\"1-0\"", result.getHeaders().getETag());
+        verify(service, never()).version(any());
+    }
+
+    @Test
+    void buscarPorId_fallo_cargaPorLecturasCompartidas() {
+
+        ClienteResponse response = ClienteResponse.builder().id(1L).version(0L).build();
+        ClienteJson json = ClienteJson.de(1L, 0L, "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
 
         when(service.buscarPorId(1L)).thenReturn(response);
+        when(jsonCache.obtener(eq(1L), any())).thenAnswer(inv -> {
+            Function<Long, ClienteResponse> cargar = inv.getArgument(1);
+            assertSame(response, cargar.apply(1L));
+            return json;
+        });
+
+        controller.buscarPorId(1L, null);
+
+        verify(lecturas).buscarPorId(eq(1L), any());
+        verify(service).buscarPorId(1L);
+    }
+
+    @Test
+    void buscarPorId_conEtagVigente_debeRetornar304SinCargar() {
+
+        when(service.version(1L)).thenReturn(42L);
 
-        ResponseEntity<ClienteResponse> result = controller.buscarPorId(1L);
+        ResponseEntity<ClienteJson> result = controller.buscarPorId(1L, "\"1-41\", W/\"1-42\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+        assertEquals("\"1-42\"", result.getHeaders().getETag());
+        verify(jsonCache, never()).obtener(any(), any());
+    }
+
+    @Test
+    void buscarPorId_conEtagViejo_debeRetornar200() {
+
+        ClienteJson json = ClienteJson.de(1L, 42L, "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+        when(jsonCache.buscar(1L)).thenReturn(json);
+        when(jsonCache.obtener(eq(1L), any())).thenReturn(json);
+
+        ResponseEntity<ClienteJson> result = controller.buscarPorId(1L, "\"1-41\"");
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertEquals(response, result.getBody());
+        assertEquals("\"1-42\"", result.getHeaders().getETag());
+        verify(service, never()).version(any());
     }
 
     // ==========================
@@ -91,14 +236,49 @@ class ClienteControllerTest {
     void actualizar_debeRetornar200() {
 
         ClienteRequest request = new ClienteRequest();
-        ClienteResponse response = new ClienteResponse();
+        ClienteResponse response = ClienteResponse.builder().id(1L).version(3L).build();
 
-        when(service.actualizar(1L, request)).thenReturn(response);
+        when(service.actualizar(1L, request, null)).thenReturn(response);
 
-        ResponseEntity<ClienteResponse> result = controller.actualizar(1L, request);
+        ResponseEntity<ClienteResponse> result = controller.actualizar(1L, null, request);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
+        assertEquals("\"1-3\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void actualizar_conIfMatch_debePasarLaVersionEsperada() {
+
+        ClienteRequest request = new ClienteRequest();
+        ClienteResponse response = ClienteResponse.builder().id(1L).version(3L).build();
+
+        when(service.actualizar(1L, request, 2L)).thenReturn(response);
+
+        ResponseEntity<ClienteResponse> result = controller.actualizar(1L, "\"1-2\"", request);
+
+        assertEquals("\"1-3\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void actualizar_ifMatchDeOtroCliente_debeLanzar412() {
+
+        ClienteRequest request = new ClienteRequest();
+
+        assertThrows(PrecondicionFallidaException.class,
+                () -> controller.actualizar(1L, "\"2-3\"", request));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void actualizar_sinIfMatchObligatorio_debeLanzar428() {
+
+        ReflectionTestUtils.setField(controller, "ifMatchObligatorio", true);
+        ClienteRequest request = new ClienteRequest();
+
+        assertThrows(PrecondicionRequeridaException.class,
+                () -> controller.actualizar(1L, null, request));
+        verifyNoInteractions(service);
     }
 
     // ==========================
@@ -109,16 +289,35 @@ class ClienteControllerTest {
     void actualizarEmail_debeRetornar200() {
 
         EmailUpdateRequest request = new EmailUpdateRequest("test@mail.com");
-        ClienteResponse response = new ClienteResponse();
+        ClienteResponse response = ClienteResponse.builder().id(1L).version(1L).build();
 
-        when(service.actualizarEmail(1L, "test@mail.com")).thenReturn(response);
+        when(service.actualizarEmail(1L, "test@mail.com", 0L)).thenReturn(response);
 
-        ResponseEntity<ClienteResponse> result = controller.actualizarEmail(1L, request);
+        ResponseEntity<ClienteResponse> result = controller.actualizarEmail(1L, "\"1-0\"", request);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
     }
 
+    // ==========================
+    // ACTUALIZAR PARCIAL
+    // ==========================
+
+    @Test
+    void actualizarParcial_debeRetornar200ConEtag() throws Exception {
+
+        JsonNode patch = objectMapper.readTree("{\"nombre\":\"Ana\"}");
+        ClienteResponse response = ClienteResponse.builder().id(1L).version(6L).build();
+
+        when(service.actualizarParcial(1L, patch, 5L)).thenReturn(response);
+
+        ResponseEntity<ClienteResponse> result = controller.actualizarParcial(1L, "\"1-5\"", patch);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(response, result.getBody());
+        assertEquals("\"1-6\"", result.getHeaders().getETag());
+    }
+
     // ==========================
     // ELIMINAR
     // ==========================
@@ -130,6 +329,7 @@ class ClienteControllerTest {
 
         assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
         verify(service).eliminar(1L);
+        verify(lecturas).olvidar(1L);
     }
 
     // ==========================
@@ -156,10 +356,28 @@ class ClienteControllerTest {
                 .thenReturn(pagedResponse);
 
         ResponseEntity<PagedResponse<ClienteResponse>> result =
-                controller.buscarPorNombre("Juan", pageable);
+                controller.buscarPorNombre("Juan", null, pageable);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(pagedResponse, result.getBody());
+        assertNotNull(result.getHeaders().getETag());
+    }
+
+    @Test
+    void buscarPorNombre_conCursor_debeUsarKeyset() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        PagedResponse<ClienteResponse> pagedResponse = PagedResponse.<ClienteResponse>builder().content(List.of()).build();
+
+        when(service.buscarPorNombreDesdeCursor("Juan", "cursor", pageable))
+                .thenReturn(pagedResponse);
+
+        ResponseEntity<PagedResponse<ClienteResponse>> result =
+                controller.buscarPorNombre("Juan", "cursor", pageable);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(pagedResponse, result.getBody());
+        verify(service, never()).buscarPorNombre(any(), any());
     }
 
     // ==========================
@@ -0,0 +1,127 @@
+package com.intuit.challange.diagnostico;
+
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultaSqlListenerTest {
+
+    private static final String SELECT_POR_ID = "select c1_0.id from clientes c1_0 where c1_0.id=?";
+
+    @Mock
+    private ExplicadorConsultas explicador;
+
+    private RegistroDiagnosticoSql registro;
+    private ConsultaSqlListener listener;
+
+    @BeforeEach
+    void setUp() {
+        registro = new RegistroDiagnosticoSql(2);
+        listener = new ConsultaSqlListener(registro, explicador, 100);
+    }
+
+    @Test
+    @DisplayName("Sentencia lenta - se registra y se pide el plan con los parámetros de la primera fila")
+    void lenta_registraYExplica() throws Exception {
+        List<ParameterSetOperation> fila = List.of(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{1, 7L}));
+        QueryInfo consulta = new QueryInfo(SELECT_POR_ID);
+        consulta.getParametersList().add(fila);
+
+        listener.afterQuery(ejecucion(250), List.of(consulta));
+        listener.afterQuery(ejecucion(150), List.of(consulta));
+
+        RegistroDiagnosticoSql.ConsultaLenta lenta = registro.consultasLentas().get(0);
+        assertEquals(SELECT_POR_ID, lenta.getSql());
+        assertEquals(2, lenta.getEjecuciones());
+        assertEquals(250, lenta.getMaxMs());
+        assertEquals(200, lenta.getPromedioMs());
+        verify(explicador, times(2)).explicar(SELECT_POR_ID, fila);
+    }
+
+    @Test
+    @DisplayName("Sentencia rápida o EXPLAIN propio - no se registra")
+    void rapidaOExplain_noRegistra() {
+        listener.afterQuery(ejecucion(20), List.of(new QueryInfo(SELECT_POR_ID)));
+        listener.afterQuery(ejecucion(900), List.of(new QueryInfo("EXPLAIN (ANALYZE, BUFFERS) " + SELECT_POR_ID)));
+
+        assertTrue(registro.consultasLentas().isEmpty());
+        verifyNoInteractions(explicador);
+    }
+
+    @Test
+    @DisplayName("Registro - al llegar a la capacidad las sentencias nuevas no se agregan")
+    void registro_capacidad() {
+        registro.registrarLenta("select 1", 300, false);
+        registro.registrarLenta("select 2", 500, false);
+        registro.registrarLenta("select 3", 900, false);
+        registro.registrarPlan("select 2", "Seq Scan on clientes");
+
+        assertEquals(List.of("select 2", "select 1"),
+                registro.consultasLentas().stream().map(RegistroDiagnosticoSql.ConsultaLenta::getSql).toList());
+        assertEquals("Seq Scan on clientes", registro.consultasLentas().get(0).getPlan());
+    }
+
+    @Test
+    @DisplayName("N+1 - el mismo SELECT repetido en un request se registra por endpoint")
+    void nMasUno_porRequest() throws Exception {
+        DiagnosticoSqlFilter filter = new DiagnosticoSqlFilter(registro, 3);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/clientes/5");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/clientes/{id}");
+
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < 4; i++) {
+                listener.afterQuery(ejecucion(1), List.of(new QueryInfo(SELECT_POR_ID)));
+            }
+            // Lecturas de la secuencia e INSERT no cuentan
+            for (int i = 0; i < 4; i++) {
+                listener.afterQuery(ejecucion(1), List.of(new QueryInfo("select nextval('clientes_seq')")));
+                listener.afterQuery(ejecucion(1), List.of(new QueryInfo("insert into clientes values (?)")));
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        RegistroDiagnosticoSql.SospechaNMasUno sospecha = registro.sospechasNMasUno().get(0);
+        assertEquals(1, registro.sospechasNMasUno().size());
+        assertEquals("GET /api/clientes/{id}", sospecha.getEndpoint());
+        assertEquals(SELECT_POR_ID, sospecha.getSql());
+        assertEquals(4, sospecha.getMaxEjecuciones());
+    }
+
+    @Test
+    @DisplayName("N+1 - fuera de un request no se cuenta nada")
+    void nMasUno_fueraDeRequest() {
+        for (int i = 0; i < 20; i++) {
+            listener.afterQuery(ejecucion(1), List.of(new QueryInfo(SELECT_POR_ID)));
+        }
+
+        assertTrue(ConsultasPorRequest.finalizar().isEmpty());
+        verify(explicador, never()).explicar(anyString(), any());
+    }
+
+    private static ExecutionInfo ejecucion(long ms) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(ms);
+        info.setSuccess(true);
+        return info;
+    }
+}
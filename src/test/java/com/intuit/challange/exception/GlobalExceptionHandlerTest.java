@@ -1,18 +1,27 @@
 package com.intuit.challange.exception;
 
 import com.intuit.challange.dto.ClienteRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.Valid;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -24,12 +33,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class GlobalExceptionHandlerTest {
 
     private MockMvc mockMvc;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         // Configuramos MockMvc de forma independiente (standalone) inyectando el Handler
         mockMvc = MockMvcBuilders.standaloneSetup(new TestController())
-                .setControllerAdvice(new GlobalExceptionHandler())
+                .setControllerAdvice(new GlobalExceptionHandler(meterRegistry))
                 .build();
     }
 
@@ -54,6 +65,24 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value("El email ya existe"));
     }
 
+    @Test
+    @DisplayName("2b. CursorInvalidoException -> Retorna 400 Bad Request")
+    void handleCursorInvalido_DebeRetornar400() throws Exception {
+        mockMvc.perform(get("/test/cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("El cursor 'after' no es válido"));
+    }
+
+    @Test
+    @DisplayName("2c. ImportacionInvalidaException -> Retorna 400 Bad Request")
+    void handleImportacionInvalida_DebeRetornar400() throws Exception {
+        mockMvc.perform(get("/test/importacion"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Falta la columna 'cuit' en el encabezado del CSV"));
+    }
+
     // --- SECCIÓN: INTEGRIDAD DE DATOS (DB) ---
 
     @Test
@@ -74,6 +103,51 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value("Ya existe un cliente con ese email"));
     }
 
+    // --- SECCIÓN: CONCURRENCIA OPTIMISTA ---
+
+    @Test
+    @DisplayName("4b. PrecondicionFallidaException -> Retorna 412 Precondition Failed")
+    void handlePrecondicionFallida_DebeRetornar412() throws Exception {
+        mockMvc.perform(get("/test/precondicion-fallida"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412))
+                .andExpect(jsonPath("$.message").value("El cliente fue modificado por otra operación"));
+    }
+
+    @Test
+    @DisplayName("4c. PrecondicionRequeridaException -> Retorna 428 Precondition Required")
+    void handlePrecondicionRequerida_DebeRetornar428() throws Exception {
+        mockMvc.perform(get("/test/precondicion-requerida"))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.status").value(428));
+    }
+
+    @Test
+    @DisplayName("4d. OptimisticLockingFailureException -> Retorna 409 Conflict")
+    void handleConflictoDeVersion_DebeRetornar409() throws Exception {
+        mockMvc.perform(get("/test/version"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("El cliente fue modificado por otra operación"));
+
+        assertEquals(1, meterRegistry.get(GlobalExceptionHandler.METRICA_ERRORES)
+                .tags("status", "409", "excepcion", "ObjectOptimisticLockingFailureException").counter().count());
+    }
+
+    @Test
+    @DisplayName("4e. LimiteExcedidoException -> Retorna 429 Too Many Requests con Retry-After")
+    void handleLimiteExcedido_DebeRetornar429() throws Exception {
+        mockMvc.perform(get("/test/limite"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.message").value("Se superó el límite de solicitudes para buscarPorNombre; reintentar en 3 s"));
+
+        assertEquals(1, meterRegistry.get(GlobalExceptionHandler.METRICA_ERRORES)
+                .tags("status", "429", "excepcion", "LimiteExcedidoException").counter().count());
+    }
+
     // --- SECCIÓN: VALIDACIONES DE SPRING ---
 
     @Test
@@ -88,6 +162,15 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.validationErrors").exists());
     }
 
+    @Test
+    @DisplayName("5b. ClienteInvalidoException -> Errores del merge patch (400)")
+    void handleClienteInvalido_DebeRetornar400() throws Exception {
+        mockMvc.perform(get("/test/cliente-invalido"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Error de validación en los datos enviados"))
+                .andExpect(jsonPath("$.validationErrors.nombre").value("El nombre es obligatorio"));
+    }
+
     @Test
     @DisplayName("6. MethodArgumentTypeMismatchException -> Valida tipos de parámetros (400)")
     void handleTypeMismatch_DebeRetornar400() throws Exception {
@@ -108,6 +191,23 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value("Ocurrió un error inesperado. Contacte al administrador"));
     }
 
+    // --- SECCIÓN: MÉTRICAS ---
+
+    @Test
+    @DisplayName("8. Resultados 404 / 409 -> Incrementan clientes.errores por status y excepción")
+    void notFoundYConflict_IncrementanContador() throws Exception {
+        mockMvc.perform(get("/test/not-found"));
+        mockMvc.perform(get("/test/db-cuit"));
+        mockMvc.perform(get("/test/db-email"));
+        mockMvc.perform(get("/test/duplicado"));
+
+        assertEquals(1, meterRegistry.get(GlobalExceptionHandler.METRICA_ERRORES)
+                .tags("status", "404", "excepcion", "ClienteNotFoundException").counter().count());
+        assertEquals(2, meterRegistry.get(GlobalExceptionHandler.METRICA_ERRORES)
+                .tags("status", "409", "excepcion", "DataIntegrityViolationException").counter().count());
+        assertNull(meterRegistry.find(GlobalExceptionHandler.METRICA_ERRORES).tag("status", "400").counter());
+    }
+
     /* ========================================================================
         CONTROLADOR DE PRUEBA (INNER CLASS)
         Este controlador existe únicamente para disparar las excepciones que el
@@ -134,6 +234,14 @@ class GlobalExceptionHandlerTest {
         @GetMapping("/test/duplicado")
         public void throwDuplicado() { throw new ArgumentoDuplicadoException("El email ya existe"); }
 
+        @GetMapping("/test/cursor")
+        public void throwCursor() { throw new CursorInvalidoException("El cursor 'after' no es válido"); }
+
+        @GetMapping("/test/importacion")
+        public void throwImportacion() {
+            throw new ImportacionInvalidaException("Falta la columna 'cuit' en el encabezado del CSV");
+        }
+
         @GetMapping("/test/db-cuit")
         public void throwCuitDb() {
             throw new DataIntegrityViolationException("Error", new RuntimeException("cuit unique constraint"));
@@ -144,6 +252,33 @@ class GlobalExceptionHandlerTest {
             throw new DataIntegrityViolationException("Error", new RuntimeException("email unique constraint"));
         }
 
+        @GetMapping("/test/cliente-invalido")
+        public void throwClienteInvalido() {
+            throw new ClienteInvalidoException("Error de validación en los datos enviados",
+                    Map.of("nombre", "El nombre es obligatorio"));
+        }
+
+        @GetMapping("/test/precondicion-fallida")
+        public void throwPrecondicionFallida() {
+            throw new PrecondicionFallidaException("El cliente fue modificado por otra operación");
+        }
+
+        @GetMapping("/test/precondicion-requerida")
+        public void throwPrecondicionRequerida() {
+            throw new PrecondicionRequeridaException("Se requiere el header If-Match con el ETag del cliente");
+        }
+
+        @GetMapping("/test/version")
+        public void throwVersion() {
+            throw new ObjectOptimisticLockingFailureException("Cliente", 1L);
+        }
+
+        @GetMapping("/test/limite")
+        public void throwLimite() {
+            throw new LimiteExcedidoException(
+                    "Se superó el límite de solicitudes para buscarPorNombre; reintentar en 3 s", 3);
+        }
+
         @GetMapping("/test/error")
         public void throwAny() throws Exception { throw new Exception("Error genérico"); }
     }
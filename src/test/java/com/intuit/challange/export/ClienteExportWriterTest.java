@@ -0,0 +1,81 @@
+package com.intuit.challange.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intuit.challange.dto.ClienteResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteExportWriterTest {
+
+    // Igual que la configuración de la API: la indentación no debe filtrarse al NDJSON
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    @DisplayName("NDJSON - un objeto compacto por línea")
+    void ndjson_unObjetoPorLinea() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ClienteExportWriter writer = FormatoExportacion.NDJSON.writer(out, objectMapper)) {
+            writer.escribir(cliente(1L, "Juan"));
+            writer.escribir(cliente(2L, "Ana"));
+        }
+
+        String[] lineas = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lineas.length);
+        assertTrue(lineas[0].startsWith("{\"id\":1,\"nombre\":\"Juan\""));
+        assertTrue(lineas[0].contains("\"fechaNacimiento\":\"15/05/1990\""));
+        assertTrue(lineas[1].startsWith("{\"id\":2,"));
+        assertEquals("", lineas[2]);
+    }
+
+    @Test
+    @DisplayName("CSV - encabezado, fechas formateadas, version y escape de comillas / comas")
+    void csv_encabezadoYEscape() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ClienteResponse cliente = cliente(1L, "Juan");
+        cliente.setRazonSocial("Pérez, \"Hnos\" S.A.");
+
+        try (ClienteExportWriter writer = FormatoExportacion.CSV.writer(out, objectMapper)) {
+            writer.escribir(cliente);
+        }
+
+        String[] lineas = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("id,nombre,apellido,razonSocial,cuit,fechaNacimiento,telefonoCelular,email,fechaCreacion,fechaModificacion,version",
+                lineas[0]);
+        assertEquals("1,Juan,Pérez,\"Pérez, \"\"Hnos\"\" S.A.\",20-12345678-3,15/05/1990,+54 11 2345-6789,"
+                + "juan@test.com,01/02/2026 10:00:00,,3", lineas[1]);
+    }
+
+    @Test
+    @DisplayName("FormatoExportacion - tipo de contenido y nombre de archivo")
+    void formato_metadatos() {
+        assertEquals("application/x-ndjson", FormatoExportacion.NDJSON.getMediaType().toString());
+        assertEquals("clientes.csv", FormatoExportacion.CSV.getNombreArchivo());
+    }
+
+    private ClienteResponse cliente(Long id, String nombre) {
+        return ClienteResponse.builder()
+                .id(id)
+                .nombre(nombre)
+                .apellido("Pérez")
+                .razonSocial("Pérez S.A.")
+                .cuit("20-12345678-3")
+                .fechaNacimiento(LocalDate.of(1990, 5, 15))
+                .telefonoCelular("+54 11 2345-6789")
+                .email("juan@test.com")
+                .fechaCreacion(LocalDateTime.of(2026, 2, 1, 10, 0))
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.intuit.challange.importacion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.exception.ImportacionInvalidaException;
+import com.intuit.challange.export.ClienteExportWriter;
+import com.intuit.challange.export.FormatoExportacion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("CSV - columnas por nombre, comillas, saltos de línea y columnas ignoradas")
+    void csv_leeRegistros() throws IOException {
+        String csv = """
+                \uFEFFid,email,nombre,apellido,razonSocial,cuit,fechaNacimiento,telefonoCelular
+                7,juan@test.com,Juan,Pérez,"Pérez, ""Hnos"" S.A.",20-12345678-3,1990-05-15,+54 11 2345-6789
+
+                8,ana@test.com,Ana,Gómez,"Multi
+                línea",27-12345678-3,1985-01-01,
+                """;
+
+        try (ClienteImportReader reader = reader(FormatoImportacion.CSV, csv)) {
+            FilaImportacion primera = reader.siguiente();
+            assertTrue(primera.legible());
+            assertEquals(2, primera.linea());
+            assertEquals("Juan", primera.request().getNombre());
+            assertEquals("Pérez, \"Hnos\" S.A.", primera.request().getRazonSocial());
+            assertEquals(LocalDate.of(1990, 5, 15), primera.request().getFechaNacimiento());
+            assertEquals("juan@test.com", primera.request().getEmail());
+
+            FilaImportacion segunda = reader.siguiente();
+            assertEquals(4, segunda.linea());
+            assertEquals("Multi\nlínea", segunda.request().getRazonSocial());
+            assertNull(segunda.request().getTelefonoCelular());
+
+            assertNull(reader.siguiente());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV - fecha inválida se informa como fila inválida; dd/MM/yyyy de la exportación se acepta")
+    void csv_fechaInvalida() throws IOException {
+        String csv = """
+                nombre,apellido,razonSocial,cuit,fechaNacimiento,email
+                Juan,Pérez,JP,20-12345678-3,31/02/1990,j@t.com
+                Juan,Pérez,JP,20-12345678-3,1990/05/15,j@t.com
+                Juan,Pérez,JP,20-12345678-3,15/05/1990,j@t.com
+                """;
+
+        try (ClienteImportReader reader = reader(FormatoImportacion.CSV, csv)) {
+            FilaImportacion fila = reader.siguiente();
+            assertFalse(fila.legible());
+            assertTrue(fila.errores().containsKey("fechaNacimiento"));
+            assertFalse(reader.siguiente().legible());
+
+            assertEquals(LocalDate.of(1990, 5, 15), reader.siguiente().request().getFechaNacimiento());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV - encabezado incompleto o archivo vacío -> ImportacionInvalidaException")
+    void csv_encabezadoInvalido() {
+        assertThrows(ImportacionInvalidaException.class,
+                () -> reader(FormatoImportacion.CSV, "nombre,apellido\nJuan,Pérez\n"));
+        assertThrows(ImportacionInvalidaException.class,
+                () -> reader(FormatoImportacion.CSV, ""));
+    }
+
+    @Test
+    @DisplayName("CSV - comillas sin cerrar -> ImportacionInvalidaException")
+    void csv_comillasSinCerrar() throws IOException {
+        String csv = "nombre,apellido,razonSocial,cuit,fechaNacimiento,email\nJuan,\"Pérez,JP,20-12345678-3,1990-05-15,j@t.com\n";
+
+        try (ClienteImportReader reader = reader(FormatoImportacion.CSV, csv)) {
+            assertThrows(ImportacionInvalidaException.class, reader::siguiente);
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON - una fila por línea; las líneas mal formadas no cortan la lectura")
+    void ndjson_leeLineas() throws IOException {
+        String ndjson = """
+                {"nombre":"Juan","cuit":"20-12345678-3","fechaNacimiento":"1990-05-15"}
+
+                {no es json
+                {"nombre":"Ana"}
+                """;
+
+        try (ClienteImportReader reader = reader(FormatoImportacion.NDJSON, ndjson)) {
+            FilaImportacion primera = reader.siguiente();
+            assertEquals(1, primera.linea());
+            assertEquals(LocalDate.of(1990, 5, 15), primera.request().getFechaNacimiento());
+
+            FilaImportacion invalida = reader.siguiente();
+            assertEquals(3, invalida.linea());
+            assertFalse(invalida.legible());
+            assertTrue(invalida.errores().containsKey("json"));
+
+            assertEquals("Ana", reader.siguiente().request().getNombre());
+            assertNull(reader.siguiente());
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON - fecha dd/MM/yyyy se acepta; una fecha inválida deja la línea como inválida")
+    void ndjson_fechas() throws IOException {
+        String ndjson = """
+                {"nombre":"Juan","fechaNacimiento":"15/05/1990"}
+                {"nombre":"Juan","fechaNacimiento":"31/02/1990"}
+                """;
+
+        try (ClienteImportReader reader = reader(FormatoImportacion.NDJSON, ndjson)) {
+            assertEquals(LocalDate.of(1990, 5, 15), reader.siguiente().request().getFechaNacimiento());
+            assertTrue(reader.siguiente().errores().containsKey("json"));
+        }
+    }
+
+    @Test
+    @DisplayName("Exportar -> importar CSV - el archivo exportado se vuelve a leer sin cambios")
+    void csv_exportarEImportar() throws IOException {
+        exportarEImportar(FormatoExportacion.CSV, FormatoImportacion.CSV);
+    }
+
+    @Test
+    @DisplayName("Exportar -> importar NDJSON - el archivo exportado se vuelve a leer sin cambios")
+    void ndjson_exportarEImportar() throws IOException {
+        exportarEImportar(FormatoExportacion.NDJSON, FormatoImportacion.NDJSON);
+    }
+
+    private void exportarEImportar(FormatoExportacion exportacion, FormatoImportacion importacion) throws IOException {
+        ClienteResponse exportado = ClienteResponse.builder()
+                .id(7L)
+                .nombre("Juan")
+                .apellido("Pérez")
+                .razonSocial("Pérez, \"Hnos\" S.A.")
+                .cuit("20-12345678-3")
+                .fechaNacimiento(LocalDate.of(1990, 5, 15))
+                .telefonoCelular("+54 11 2345-6789")
+                .email("juan@test.com")
+                .fechaCreacion(LocalDateTime.of(2026, 2, 1, 10, 0))
+                .version(3L)
+                .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ClienteExportWriter writer = exportacion.writer(out, objectMapper)) {
+            writer.escribir(exportado);
+        }
+
+        try (ClienteImportReader reader = importacion.reader(new ByteArrayInputStream(out.toByteArray()), objectMapper)) {
+            FilaImportacion fila = reader.siguiente();
+            assertTrue(fila.legible(), () -> String.valueOf(fila.errores()));
+            ClienteRequest importado = fila.request();
+            assertAll(
+                    () -> assertEquals(exportado.getNombre(), importado.getNombre()),
+                    () -> assertEquals(exportado.getApellido(), importado.getApellido()),
+                    () -> assertEquals(exportado.getRazonSocial(), importado.getRazonSocial()),
+                    () -> assertEquals(exportado.getCuit(), importado.getCuit()),
+                    () -> assertEquals(exportado.getFechaNacimiento(), importado.getFechaNacimiento()),
+                    () -> assertEquals(exportado.getTelefonoCelular(), importado.getTelefonoCelular()),
+                    () -> assertEquals(exportado.getEmail(), importado.getEmail())
+            );
+            assertNull(reader.siguiente());
+        }
+    }
+
+    private ClienteImportReader reader(FormatoImportacion formato, String contenido) throws IOException {
+        return formato.reader(new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8)), objectMapper);
+    }
+}
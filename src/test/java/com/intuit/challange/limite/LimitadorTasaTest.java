@@ -0,0 +1,157 @@
+package com.intuit.challange.limite;
+
+import com.intuit.challange.exception.LimiteExcedidoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimitadorTasaTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private long ahora;
+    private LimitadorTasa limitador;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.limite.por-segundo", "100")
+                .withProperty("app.limite.rafaga", "100")
+                .withProperty("app.limite.endpoints.buscarPorNombre.por-segundo", "2")
+                .withProperty("app.limite.endpoints.buscarPorNombre.rafaga", "3")
+                .withProperty("app.limite.endpoints.exportar.por-segundo", "0");
+        limitador = new LimitadorTasa(environment, new IdentificadorLlamador("integrador-a, integrador-b"),
+                1000, Duration.ofMinutes(10), () -> ahora);
+    }
+
+    @Test
+    @DisplayName("Ráfaga agotada - 429 con los segundos hasta el próximo token; después se repone")
+    void rafagaAgotada_reponeConElTiempo() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limitador.preHandle(request("10.0.0.1", null), response, handler("buscarPorNombre")));
+        }
+
+        LimiteExcedidoException ex = assertThrows(LimiteExcedidoException.class,
+                () -> limitador.preHandle(request("10.0.0.1", null), response, handler("buscarPorNombre")));
+        assertEquals(1, ex.getReintentarEnSegundos());
+        assertTrue(ex.getMessage().contains("buscarPorNombre"));
+
+        ahora += TimeUnit.MILLISECONDS.toNanos(500);
+        assertTrue(limitador.preHandle(request("10.0.0.1", null), response, handler("buscarPorNombre")));
+        assertThrows(LimiteExcedidoException.class,
+                () -> limitador.preHandle(request("10.0.0.1", null), response, handler("buscarPorNombre")));
+    }
+
+    @Test
+    @DisplayName("Cubetas separadas por llamador (API key conocida o IP) y por endpoint")
+    void cubetasPorLlamadorYEndpoint() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            limitador.preHandle(request("10.0.0.1", null), response, handler("buscarPorNombre"));
+        }
+
+        assertTrue(limitador.preHandle(request("10.0.0.2", null), response, handler("buscarPorNombre")));
+        assertTrue(limitador.preHandle(request("10.0.0.1", "integrador-a"), response, handler("buscarPorNombre")));
+        assertTrue(limitador.preHandle(request("10.0.0.1", null), response, handler("buscarPorId")));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limitador.bindTo(registry);
+        assertEquals(4, registry.get(LimitadorTasa.METRICA_CUBETAS).gauge().value());
+    }
+
+    @Test
+    @DisplayName("API key desconocida - cuenta como la dirección: no evita el límite ni crea cubetas")
+    void apiKeyDesconocida_usaLaDireccion() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            limitador.preHandle(request("10.0.0.1", "inventada-" + i), response, handler("buscarPorNombre"));
+        }
+
+        assertThrows(LimiteExcedidoException.class,
+                () -> limitador.preHandle(request("10.0.0.1", "otra-inventada"), response, handler("buscarPorNombre")));
+        assertTrue(limitador.preHandle(request("10.0.0.1", "integrador-b"), response, handler("buscarPorNombre")));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limitador.bindTo(registry);
+        assertEquals(2, registry.get(LimitadorTasa.METRICA_CUBETAS).gauge().value());
+    }
+
+    @Test
+    @DisplayName("IdentificadorLlamador - solo las claves configuradas identifican; el resto es la dirección")
+    void identificador() {
+        IdentificadorLlamador identificador = new IdentificadorLlamador(" integrador-a ,,integrador-b");
+
+        assertEquals("key:integrador-a", identificador.de(request("10.0.0.1", "integrador-a")));
+        assertEquals("ip:10.0.0.1", identificador.de(request("10.0.0.1", "desconocida")));
+        assertEquals("ip:10.0.0.1", identificador.de(request("10.0.0.1", " ")));
+        assertEquals("ip:10.0.0.1", identificador.de(request("10.0.0.1", null)));
+        assertEquals("ip:10.0.0.1", new IdentificadorLlamador("").de(request("10.0.0.1", "")));
+    }
+
+    @Test
+    @DisplayName("por-segundo en 0 - el endpoint queda sin límite")
+    void sinLimite() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(limitador.preHandle(request("10.0.0.1", null), response, handler("exportar")));
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrencia - de 100 requests simultáneos pasan exactamente los de la ráfaga")
+    void concurrencia_sinTokensDeMas() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger permitidos = new AtomicInteger();
+        HandlerMethod buscar = handler("buscarPorNombre");
+        try {
+            for (int i = 0; i < 100; i++) {
+                pool.execute(() -> {
+                    try {
+                        largada.await();
+                        limitador.preHandle(request("10.0.0.1", null), response, buscar);
+                        permitidos.incrementAndGet();
+                    } catch (LimiteExcedidoException | InterruptedException ignorada) {
+                        // esperado para los que llegan sin token
+                    }
+                });
+            }
+            largada.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(3, permitidos.get());
+    }
+
+    private static MockHttpServletRequest request(String ip, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/clientes/buscar");
+        request.setRemoteAddr(ip);
+        if (apiKey != null) {
+            request.addHeader(IdentificadorLlamador.HEADER_API_KEY, apiKey);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String metodo) throws NoSuchMethodException {
+        return new HandlerMethod(new Controlador(), Controlador.class.getMethod(metodo));
+    }
+
+    static class Controlador {
+        public void buscarPorNombre() { }
+        public void buscarPorId() { }
+        public void exportar() { }
+    }
+}
@@ -0,0 +1,52 @@
+package com.intuit.challange.limite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Límite con Tomcat real, contra la base del .env: los requests llegan desde 127.0.0.1, un proxy
+ * confiable, y el llamador es la dirección que manda en X-Forwarded-For.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "app.limite.habilitado=true",
+                "app.limite.endpoints.buscarPorId.por-segundo=0.01",
+                "app.limite.endpoints.buscarPorId.rafaga=1"
+        })
+class LimiteDetrasDeProxyTest {
+
+    private static final int DEMASIADOS = 429;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("Detrás de un proxy confiable: una cubeta por dirección de X-Forwarded-For")
+    void cubetaPorDireccionReenviada() throws Exception {
+        assertNotEquals(DEMASIADOS, obtener("203.0.113.10"));
+        assertEquals(DEMASIADOS, obtener("203.0.113.10"));
+
+        assertNotEquals(DEMASIADOS, obtener("203.0.113.20"));
+    }
+
+    private int obtener(String cliente) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/clientes/0"))
+                .header("X-Forwarded-For", cliente)
+                .GET()
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
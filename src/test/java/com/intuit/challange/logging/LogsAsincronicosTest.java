@@ -0,0 +1,142 @@
+package com.intuit.challange.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogsAsincronicosTest {
+
+    private static final String LOGGER = "com.intuit.challange.service.MuestreoPrueba";
+
+    private final LoggerContext contexto = new LoggerContext();
+    private final CountDownLatch tomado = new CountDownLatch(1);
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private AsyncAppenderMedido appender;
+
+    @BeforeEach
+    void setUp() {
+        contexto.setMDCAdapter(new LogbackMDCAdapter());
+
+        // Destino que retiene al worker: los eventos se acumulan en la cola
+        AppenderBase<ILoggingEvent> lento = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent evento) {
+                tomado.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        lento.setContext(contexto);
+        lento.start();
+
+        appender = new AsyncAppenderMedido();
+        appender.setContext(contexto);
+        appender.setName("ASYNC_PRUEBA");
+        appender.setQueueSize(10);
+        appender.setDiscardingThreshold(4);
+        appender.setNeverBlock(true);
+        appender.addAppender(lento);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        liberar.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Cola casi llena - se descartan INFO por umbral y, llena, también WARN")
+    void descartes_porUmbralYColaLlena() throws InterruptedException {
+        long umbralAntes = AsyncAppenderMedido.descartados("ASYNC_PRUEBA", AsyncAppenderMedido.MOTIVO_UMBRAL).sum();
+        long llenaAntes = AsyncAppenderMedido.descartados("ASYNC_PRUEBA", AsyncAppenderMedido.MOTIVO_COLA_LLENA).sum();
+
+        // El worker toma el primero y se bloquea; 7 más dejan 3 lugares libres (umbral 4)
+        appender.doAppend(evento(Level.WARN));
+        assertTrue(tomado.await(2, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++) {
+            appender.doAppend(evento(Level.WARN));
+        }
+        appender.doAppend(evento(Level.INFO));
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(evento(Level.WARN));
+        }
+
+        assertEquals(1, AsyncAppenderMedido.descartados("ASYNC_PRUEBA", AsyncAppenderMedido.MOTIVO_UMBRAL).sum() - umbralAntes);
+        assertEquals(2, AsyncAppenderMedido.descartados("ASYNC_PRUEBA", AsyncAppenderMedido.MOTIVO_COLA_LLENA).sum() - llenaAntes);
+        assertEquals(10, appender.getNumberOfElementsInQueue());
+    }
+
+    @Test
+    @DisplayName("Métricas - descartes, cola y muestreo se publican en el registry")
+    void metricas_publicadas() {
+        MuestreoTurboFilter filtro = filtro(0.0);
+        filtro.decide(null, contexto.getLogger(LOGGER), Level.INFO, "Cliente encontrado con ID: {}", null, null);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new LogsMeterBinder().bindTo(registry);
+
+        assertNotNull(registry.find(LogsMeterBinder.METRICA_DESCARTADOS)
+                .tags("appender", "ASYNC_PRUEBA", "motivo", AsyncAppenderMedido.MOTIVO_COLA_LLENA).functionCounter());
+        assertEquals(0, registry.find(LogsMeterBinder.METRICA_COLA).tag("appender", "ASYNC_PRUEBA").gauge().value());
+        assertTrue(registry.find(LogsMeterBinder.METRICA_MUESTREADOS).tag("logger", LOGGER).functionCounter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Muestreo - tasa 0 descarta los mensajes configurados; el resto, WARN y otros loggers pasan")
+    void muestreo_soloMensajesConfigurados() {
+        MuestreoTurboFilter filtro = filtro(0.0);
+        Logger logger = contexto.getLogger(LOGGER);
+        long antes = MuestreoTurboFilter.muestreados(LOGGER).sum();
+
+        assertEquals(FilterReply.DENY, filtro.decide(null, logger, Level.INFO, "Cliente encontrado con ID: {}", null, null));
+        assertEquals(FilterReply.NEUTRAL, filtro.decide(null, logger, Level.INFO, "Cliente creado exitosamente con ID: {}", null, null));
+        assertEquals(FilterReply.NEUTRAL, filtro.decide(null, logger, Level.WARN, "Cliente encontrado con ID: {}", null, null));
+        assertEquals(FilterReply.NEUTRAL, filtro.decide(null, contexto.getLogger("otro"), Level.INFO, "Cliente encontrado", null, null));
+        assertEquals(1, MuestreoTurboFilter.muestreados(LOGGER).sum() - antes);
+    }
+
+    @Test
+    @DisplayName("Muestreo - tasa 1 deja pasar todo")
+    void muestreo_tasaUno() {
+        MuestreoTurboFilter filtro = filtro(1.0);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FilterReply.NEUTRAL,
+                    filtro.decide(null, contexto.getLogger(LOGGER), Level.INFO, "Cliente encontrado con ID: {}", null, null));
+        }
+    }
+
+    private MuestreoTurboFilter filtro(double tasa) {
+        MuestreoTurboFilter filtro = new MuestreoTurboFilter();
+        filtro.setContext(contexto);
+        filtro.setLogger(LOGGER);
+        filtro.addMensaje("Cliente encontrado");
+        filtro.setTasa(tasa);
+        filtro.start();
+        return filtro;
+    }
+
+    private LoggingEvent evento(Level nivel) {
+        Logger logger = contexto.getLogger(LOGGER);
+        return new LoggingEvent(Logger.class.getName(), logger, nivel, "mensaje", null, null);
+    }
+}
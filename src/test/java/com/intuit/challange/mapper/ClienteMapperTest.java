@@ -3,6 +3,7 @@ package com.intuit.challange.mapper;
 import com.intuit.challange.dto.ClienteRequest;
 import com.intuit.challange.dto.ClienteResponse;
 import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.repository.projection.ClienteBusquedaView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ClienteMapperTest {
 
@@ -57,6 +60,41 @@ class ClienteMapperTest {
         );
     }
 
+    @Test
+    @DisplayName("mapViewToResponse - Debe mapear todos los campos de la proyección de búsqueda")
+    void mapViewToResponse_DebeMapearCorrectamente() {
+        // GIVEN
+        LocalDateTime ahora = LocalDateTime.now();
+        ClienteBusquedaView view = mock(ClienteBusquedaView.class);
+        when(view.getId()).thenReturn(2L);
+        when(view.getNombre()).thenReturn("María");
+        when(view.getApellido()).thenReturn("Gómez");
+        when(view.getRazonSocial()).thenReturn("MG Soluciones");
+        when(view.getCuit()).thenReturn("27-23456789-0");
+        when(view.getFechaNacimiento()).thenReturn(LocalDate.of(1990, 9, 21));
+        when(view.getTelefonoCelular()).thenReturn("1165874221");
+        when(view.getEmail()).thenReturn("maria@test.com");
+        when(view.getFechaCreacion()).thenReturn(ahora);
+        when(view.getFechaModificacion()).thenReturn(ahora);
+
+        // WHEN
+        ClienteResponse response = mapper.mapViewToResponse(view);
+
+        // THEN
+        assertAll(
+                () -> assertEquals(2L, response.getId()),
+                () -> assertEquals("María", response.getNombre()),
+                () -> assertEquals("Gómez", response.getApellido()),
+                () -> assertEquals("MG Soluciones", response.getRazonSocial()),
+                () -> assertEquals("27-23456789-0", response.getCuit()),
+                () -> assertEquals(LocalDate.of(1990, 9, 21), response.getFechaNacimiento()),
+                () -> assertEquals("1165874221", response.getTelefonoCelular()),
+                () -> assertEquals("maria@test.com", response.getEmail()),
+                () -> assertEquals(ahora, response.getFechaCreacion()),
+                () -> assertEquals(ahora, response.getFechaModificacion())
+        );
+    }
+
     @Test
     @DisplayName("mapToEntity - Debe mapear los campos de Request a una nueva Entity")
     void mapToEntity_DebeMapearCorrectamente() {
@@ -87,6 +125,36 @@ class ClienteMapperTest {
         );
     }
 
+    @Test
+    @DisplayName("mapToRequest - Debe copiar los campos editables de la Entity")
+    void mapToRequest_DebeMapearCorrectamente() {
+        // GIVEN
+        Cliente cliente = Cliente.builder()
+                .id(10L)
+                .nombre("Juan")
+                .apellido("Perez")
+                .razonSocial("JP SRL")
+                .cuit("20-12345678-9")
+                .fechaNacimiento(LocalDate.of(1990, 5, 15))
+                .telefonoCelular("1122334455")
+                .email("juan@test.com")
+                .build();
+
+        // WHEN
+        ClienteRequest request = mapper.mapToRequest(cliente);
+
+        // THEN
+        assertAll(
+                () -> assertEquals("Juan", request.getNombre()),
+                () -> assertEquals("Perez", request.getApellido()),
+                () -> assertEquals("JP SRL", request.getRazonSocial()),
+                () -> assertEquals("20-12345678-9", request.getCuit()),
+                () -> assertEquals(LocalDate.of(1990, 5, 15), request.getFechaNacimiento()),
+                () -> assertEquals("1122334455", request.getTelefonoCelular()),
+                () -> assertEquals("juan@test.com", request.getEmail())
+        );
+    }
+
     @Test
     @DisplayName("updateEntity - Debe actualizar los campos de una entidad existente")
     void updateEntity_DebeActualizarCampos() {
@@ -0,0 +1,94 @@
+package com.intuit.challange.pagination;
+
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.exception.CursorInvalidoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteCursorTest {
+
+    @Test
+    @DisplayName("encode/decode - Debe conservar propiedad, dirección, valor e id")
+    void encodeDecode_DebeSerSimetrico() {
+        ClienteCursor cursor = new ClienteCursor("nombre", Sort.Direction.DESC, "José | Pérez", 42L);
+
+        ClienteCursor decodificado = ClienteCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decodificado);
+    }
+
+    @Test
+    @DisplayName("decode - Debe restaurar el tipo de las fechas")
+    void decode_DebeParsearFechas() {
+        LocalDate fecha = LocalDate.of(1990, 5, 15);
+        ClienteCursor cursor = new ClienteCursor("fechaNacimiento", Sort.Direction.ASC, fecha, 1L);
+
+        assertEquals(fecha, ClienteCursor.decode(cursor.encode()).valor());
+    }
+
+    @Test
+    @DisplayName("decode - Tokens corruptos o con columnas no permitidas deben fallar")
+    void decode_TokenInvalido_DebeFallar() {
+        String columnaNoPermitida = Base64.getUrlEncoder()
+                .encodeToString("fechaCreacion|ASC|x|1".getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertThrows(CursorInvalidoException.class, () -> ClienteCursor.decode("%%%")),
+                () -> assertThrows(CursorInvalidoException.class, () -> ClienteCursor.decode("aWR8QVND")),
+                () -> assertThrows(CursorInvalidoException.class, () -> ClienteCursor.decode(columnaNoPermitida))
+        );
+    }
+
+    @Test
+    @DisplayName("despuesDe - Debe respetar el orden o descartarlo si no es compatible")
+    void despuesDe_DebeDependerDelOrden() {
+        Cliente ultimo = Cliente.builder().id(9L).nombre("Ana").build();
+
+        assertAll(
+                () -> assertEquals(Optional.of(ClienteCursor.porId(9L)),
+                        ClienteCursor.despuesDe(ultimo, Sort.unsorted())),
+                () -> assertEquals(Optional.of(new ClienteCursor("id", Sort.Direction.DESC, null, 9L)),
+                        ClienteCursor.despuesDe(ultimo, Sort.by(Sort.Direction.DESC, "id"))),
+                () -> assertEquals(Optional.of(new ClienteCursor("nombre", Sort.Direction.ASC, "Ana", 9L)),
+                        ClienteCursor.despuesDe(ultimo, Sort.by("nombre"))),
+                () -> assertTrue(ClienteCursor.despuesDe(ultimo, Sort.by("nombre", "id")).isEmpty()),
+                () -> assertTrue(ClienteCursor.despuesDe(ultimo, Sort.by("fechaCreacion")).isEmpty()),
+                // Sin índice (razon_social, id): se pagina por offset
+                () -> assertTrue(ClienteCursor.despuesDe(ultimo, Sort.by("razonSocial")).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("despuesDe - Desde el DTO debe generar el mismo cursor que desde la entidad")
+    void despuesDe_DesdeResponse() {
+        LocalDate fecha = LocalDate.of(1990, 5, 15);
+        Cliente entidad = Cliente.builder().id(9L).fechaNacimiento(fecha).build();
+        ClienteResponse response = ClienteResponse.builder().id(9L).fechaNacimiento(fecha).build();
+        Sort sort = Sort.by(Sort.Direction.DESC, "fechaNacimiento");
+
+        assertEquals(ClienteCursor.despuesDe(entidad, sort), ClienteCursor.despuesDe(response, sort));
+        assertEquals(fecha, ClienteCursor.despuesDe(response, sort).orElseThrow().valor());
+        assertTrue(ClienteCursor.despuesDe(response, Sort.by("fechaCreacion")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("siguiente - Mismo orden, posicionado en la clave y el id del último DTO")
+    void siguiente_DesdeDto() {
+        ClienteCursor cursor = new ClienteCursor("apellido", Sort.Direction.DESC, "Gómez", 3L);
+        ClienteResponse ultimo = ClienteResponse.builder().id(9L).apellido("Álvarez").build();
+
+        ClienteCursor siguiente = cursor.siguiente(ultimo);
+
+        assertEquals(new ClienteCursor("apellido", Sort.Direction.DESC, "Álvarez", 9L), siguiente);
+        assertEquals(ClienteCursor.porId(9L), ClienteCursor.porId(1L).siguiente(ultimo));
+    }
+}
@@ -0,0 +1,220 @@
+package com.intuit.challange.replica;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceadorReplicasTest {
+
+    @Mock
+    private DataSource primaria;
+    @Mock
+    private DataSource replica1;
+    @Mock
+    private DataSource replica2;
+    @Mock
+    private Connection conexionPrimaria;
+    @Mock
+    private Connection conexion1;
+    @Mock
+    private Connection conexion2;
+
+    private BalanceadorReplicas balanceador;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primaria.getConnection()).thenReturn(conexionPrimaria);
+        lenient().when(replica1.getConnection()).thenReturn(conexion1);
+        lenient().when(replica2.getConnection()).thenReturn(conexion2);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        // Intervalo largo: el chequeo se dispara a mano
+        balanceador = new BalanceadorReplicas(primaria, replicas, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        LecturaPropia.limpiar();
+        balanceador.close();
+    }
+
+    @Test
+    @DisplayName("Lecturas - se reparten en round robin entre las réplicas")
+    void lecturas_roundRobin() throws SQLException {
+        assertEquals(List.of(conexion1, conexion2, conexion1, conexion2), leer(4));
+        verify(primaria, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Réplica que falla - se marca caída y la lectura sigue en la otra hasta el próximo chequeo")
+    void replicaCaida_seSaltea() throws SQLException {
+        when(replica2.getConnection()).thenThrow(new SQLException("sin conexión"));
+
+        assertEquals(List.of(conexion1, conexion1, conexion1), leer(3));
+        assertFalse(balanceador.sana("replica-2"));
+        verify(replica2, times(1)).getConnection();
+
+        doReturn(conexion2).when(replica2).getConnection();
+        when(conexion2.isValid(anyInt())).thenReturn(true);
+        when(conexion1.isValid(anyInt())).thenReturn(true);
+        balanceador.chequear();
+
+        assertTrue(balanceador.sana("replica-2"));
+        assertTrue(leer(2).contains(conexion2));
+    }
+
+    @Test
+    @DisplayName("Sin réplicas sanas - la lectura sale de la primaria")
+    void sinReplicasSanas_primaria() throws SQLException {
+        when(conexion1.isValid(anyInt())).thenReturn(false);
+        when(replica2.getConnection()).thenThrow(new SQLException("sin conexión"));
+
+        balanceador.chequear();
+
+        assertEquals(List.of(conexionPrimaria), leer(1));
+    }
+
+    @Test
+    @DisplayName("Lectura propia activa - la lectura sale de la primaria")
+    void lecturaPropia_primaria() throws SQLException {
+        LecturaPropia.activar();
+
+        assertEquals(List.of(conexionPrimaria), leer(1));
+        verifyNoInteractions(replica1, replica2);
+    }
+
+    @Test
+    @DisplayName("enPrimaria - la lectura puntual sale de la primaria y al terminar se vuelve a las réplicas")
+    void enPrimaria_lecturaPuntual() throws SQLException {
+        Connection conexion = LecturaPropia.enPrimaria(() -> {
+            try {
+                return balanceador.conexionLectura();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertSame(conexionPrimaria, conexion);
+        assertFalse(LecturaPropia.activa());
+        assertEquals(List.of(conexion1), leer(1));
+    }
+
+    @Test
+    @DisplayName("LazyConnectionDataSourceProxy - solo las conexiones de solo lectura van a las réplicas")
+    void proxy_rutaPorReadOnly() throws SQLException {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaria);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.setReadOnlyDataSource(balanceador.lectura());
+
+        Connection lectura = dataSource.getConnection();
+        lectura.setReadOnly(true);
+        lectura.createStatement();
+
+        Connection escritura = dataSource.getConnection();
+        escritura.createStatement();
+
+        verify(conexion1).createStatement();
+        verify(conexionPrimaria).createStatement();
+    }
+
+    @Test
+    @DisplayName("Filtro - después de una escritura, las lecturas con su cookie van a la primaria")
+    void filtro_ventanaDeLecturaPropia() throws Exception {
+        AtomicLong ahora = new AtomicLong(1_000_000L);
+        LecturaPropiaFilter filter = new LecturaPropiaFilter(Duration.ofSeconds(5), ahora::get);
+        List<Boolean> primariaEnCadena = new ArrayList<>();
+
+        filter.doFilter(request("GET"), new MockHttpServletResponse(),
+                (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+
+        MockHttpServletResponse escritura = new MockHttpServletResponse();
+        filter.doFilter(request("PATCH"), escritura, (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+        Cookie cookie = escritura.getCookie(LecturaPropiaFilter.COOKIE);
+        assertNotNull(cookie);
+        assertEquals(5, cookie.getMaxAge());
+
+        // Con la cookie va a la primaria; sin ella (otro llamador, misma dirección) a las réplicas
+        filter.doFilter(conCookie(request("GET"), cookie.getValue()), new MockHttpServletResponse(),
+                (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+        filter.doFilter(request("GET"), new MockHttpServletResponse(),
+                (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+
+        // Vencida, o con un valor que no pudo salir de este servidor, vuelve a las réplicas
+        ahora.addAndGet(5_000L);
+        filter.doFilter(conCookie(request("GET"), cookie.getValue()), new MockHttpServletResponse(),
+                (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+        filter.doFilter(conCookie(request("GET"), Long.toString(Long.MAX_VALUE)), new MockHttpServletResponse(),
+                (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+        filter.doFilter(conCookie(request("GET"), "x"), new MockHttpServletResponse(),
+                (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+
+        assertEquals(List.of(false, true, true, false, false, false, false), primariaEnCadena);
+        assertFalse(LecturaPropia.activa());
+    }
+
+    @Test
+    @DisplayName("Filtro con la ventana en 0 - solo las escrituras leen de la primaria, sin cookie")
+    void filtro_sinVentana() throws Exception {
+        LecturaPropiaFilter filter = new LecturaPropiaFilter(Duration.ZERO, () -> 0L);
+        MockHttpServletResponse escritura = new MockHttpServletResponse();
+        List<Boolean> primariaEnCadena = new ArrayList<>();
+
+        filter.doFilter(request("POST"), escritura, (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+        filter.doFilter(conCookie(request("GET"), "1"), new MockHttpServletResponse(),
+                (req, res) -> primariaEnCadena.add(LecturaPropia.activa()));
+
+        assertEquals(List.of(true, false), primariaEnCadena);
+        assertNull(escritura.getCookie(LecturaPropiaFilter.COOKIE));
+    }
+
+    @Test
+    @DisplayName("DataSource de lectura - usuario y clave propios no están soportados")
+    void lectura_sinCredencialesPropias() {
+        assertThrows(SQLFeatureNotSupportedException.class, () -> balanceador.lectura().getConnection("u", "p"));
+    }
+
+    private List<Connection> leer(int veces) throws SQLException {
+        List<Connection> conexiones = new ArrayList<>();
+        for (int i = 0; i < veces; i++) {
+            conexiones.add(balanceador.lectura().getConnection());
+        }
+        return conexiones;
+    }
+
+    private static MockHttpServletRequest request(String metodo) {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, "/api/clientes");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    private static MockHttpServletRequest conCookie(MockHttpServletRequest request, String valor) {
+        request.setCookies(new Cookie(LecturaPropiaFilter.COOKIE, valor));
+        return request;
+    }
+}
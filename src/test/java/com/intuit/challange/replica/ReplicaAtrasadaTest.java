@@ -0,0 +1,126 @@
+package com.intuit.challange.replica;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Escritura seguida de lecturas con una réplica atrasada, contra la base del .env.
+ * La "réplica" es la misma base con el schema replica_atrasada primero en el search_path:
+ * ahí la tabla clientes queda con la fila anterior a la escritura. Todos los requests salen de la
+ * misma dirección, como detrás de un gateway: la ventana de lectura propia la da la cookie.
+ */
+@SpringBootTest(properties =
+        "app.datasource.replicas.urls=jdbc:postgresql://${DB_HOST}:${DB_PORT}/${DB_NAME}?currentSchema=replica_atrasada%2Cpublic")
+@AutoConfigureMockMvc
+class ReplicaAtrasadaTest {
+
+    private static final String COLUMNAS = """
+            id, nombre, apellido, razon_social, cuit, fecha_nacimiento,
+            telefono_celular, email, fecha_creacion, fecha_modificacion, version""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String sufijo;
+    private long id;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS replica_atrasada");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_atrasada.clientes (LIKE public.clientes INCLUDING ALL)");
+
+        sufijo = String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000));
+        String creado = mockMvc.perform(post("/api/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nombre":"Replica%s","apellido":"Atrasada","razonSocial":"Replica SA",
+                                 "cuit":"30-%s-7","fechaNacimiento":"1990-01-01",
+                                 "telefonoCelular":"1122334455","email":"antes%s@test.com"}
+                                """.formatted(sufijo, sufijo, sufijo)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        id = Long.parseLong(creado.replaceAll("(?s).*\"id\"\\s*:\\s*(\\d+).*", "$1"));
+
+        // La réplica se queda con la fila recién creada: no ve las escrituras siguientes
+        jdbcTemplate.update("INSERT INTO replica_atrasada.clientes (" + COLUMNAS + ") SELECT " + COLUMNAS
+                + " FROM public.clientes WHERE id = ?", id);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM public.clientes WHERE id = ?", id);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS replica_atrasada CASCADE");
+    }
+
+    @Test
+    @DisplayName("Escritura -> réplica atrasada: quien escribió lee de la primaria, los demás de la réplica")
+    void escrituraYLecturaConReplicaAtrasada() throws Exception {
+        String etagAnterior = "\"" + id + "-0\"";
+        String etagNuevo = "\"" + id + "-1\"";
+        String emailAnterior = "antes" + sufijo + "@test.com";
+        String emailNuevo = "despues" + sufijo + "@test.com";
+
+        mockMvc.perform(get("/api/clientes/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etagAnterior));
+
+        Cookie lecturaPropia = mockMvc.perform(patch("/api/clientes/" + id + "/email")
+                        .header(HttpHeaders.IF_MATCH, etagAnterior)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nuevoEmail\":\"" + emailNuevo + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etagNuevo))
+                .andReturn().getResponse().getCookie(LecturaPropiaFilter.COOKIE);
+        assertNotNull(lecturaPropia);
+
+        // Otro llamador desde la misma dirección sigue en la réplica: todavía ve el email anterior
+        mockMvc.perform(get("/api/clientes/buscar").param("nombre", "Replica" + sufijo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].email").value(emailAnterior));
+
+        // Con la cookie de la escritura, la misma búsqueda va a la primaria
+        mockMvc.perform(get("/api/clientes/buscar").param("nombre", "Replica" + sufijo).cookie(lecturaPropia))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].email").value(emailNuevo));
+
+        // La escritura guardó la versión nueva en la caché: el ETag anterior ya no coincide
+        mockMvc.perform(get("/api/clientes/" + id).header(HttpHeaders.IF_NONE_MATCH, etagAnterior))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etagNuevo))
+                .andExpect(jsonPath("$.email").value(emailNuevo));
+        mockMvc.perform(get("/api/clientes/" + id).header(HttpHeaders.IF_NONE_MATCH, etagNuevo))
+                .andExpect(status().isNotModified());
+
+        // If-Match se verifica en la primaria: con el ETag nuevo se aplica
+        mockMvc.perform(patch("/api/clientes/" + id + "/email")
+                        .header(HttpHeaders.IF_MATCH, etagNuevo)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nuevoEmail\":\"otra" + sufijo + "@test.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, containsString("-2")));
+    }
+}
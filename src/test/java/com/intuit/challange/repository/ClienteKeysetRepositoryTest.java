@@ -0,0 +1,101 @@
+package com.intuit.challange.repository;
+
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.pagination.ClienteCursor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consultas de ClienteKeysetRepository contra la base del .env (la comparación por fila
+ * es de PostgreSQL), igual que ChallangeApplicationTests. Cada test se revierte.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ClienteKeysetRepository.class)
+class ClienteKeysetRepositoryTest {
+
+    // Ordena después de cualquier apellido de los datos de ejemplo
+    private static final String APELLIDO = "Zzz-keyset-";
+
+    @Autowired
+    private ClienteKeysetRepository keysetRepository;
+
+    @Autowired
+    private ClienteRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Cliente a1;
+    private Cliente b;
+    private Cliente a2;
+
+    @BeforeEach
+    void setUp() {
+        a1 = repository.save(cliente(APELLIDO + "a"));
+        b = repository.save(cliente(APELLIDO + "b"));
+        a2 = repository.save(cliente(APELLIDO + "a"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findDesde - (apellido, id) posterior al cursor, con el id como desempate")
+    void findDesde_porApellido() {
+        ClienteCursor cursor = new ClienteCursor("apellido", Sort.Direction.ASC, APELLIDO + "a", a1.getId());
+
+        List<ClienteResponse> pagina = keysetRepository.findDesde(cursor, 2);
+
+        assertEquals(List.of(a2.getId(), b.getId()), pagina.stream().map(ClienteResponse::getId).toList());
+        assertEquals(APELLIDO + "b", pagina.get(1).getApellido());
+        assertEquals(0L, pagina.get(1).getVersion());
+        // Filas armadas como DTO: nada queda en el contexto de persistencia
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @DisplayName("findDesde - por id descendente")
+    void findDesde_porIdDescendente() {
+        ClienteCursor cursor = new ClienteCursor(ClienteCursor.ID, Sort.Direction.DESC, null, a2.getId());
+
+        List<ClienteResponse> pagina = keysetRepository.findDesde(cursor, 2);
+
+        assertEquals(List.of(b.getId(), a1.getId()), pagina.stream().map(ClienteResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("findDesde - propiedad fuera de las permitidas se rechaza")
+    void findDesde_propiedadDesconocida() {
+        ClienteCursor cursor = new ClienteCursor("fechaCreacion; DROP TABLE clientes", Sort.Direction.ASC, "x", 1L);
+
+        assertThrows(IllegalArgumentException.class, () -> keysetRepository.findDesde(cursor, 2));
+    }
+
+    private static Cliente cliente(String apellido) {
+        String sufijo = String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000));
+        return Cliente.builder()
+                .nombre("Keyset")
+                .apellido(apellido)
+                .razonSocial("Keyset SA")
+                .cuit("30-" + sufijo + "-1")
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .telefonoCelular("1122334455")
+                .email("keyset" + sufijo + "@test.com")
+                .build();
+    }
+}
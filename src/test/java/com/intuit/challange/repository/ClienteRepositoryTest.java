@@ -0,0 +1,138 @@
+package com.intuit.challange.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.exception.ClienteNotFoundException;
+import com.intuit.challange.exception.PrecondicionFallidaException;
+import com.intuit.challange.mapper.ClienteMapper;
+import com.intuit.challange.repository.projection.ClienteView;
+import com.intuit.challange.service.ClienteServiceImpl;
+import com.intuit.challange.service.ClienteUnicidadFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sentencias nativas de ClienteRepository (UPDATE ... RETURNING, DELETE por id) contra la base
+ * del .env, igual que ChallangeApplicationTests, y ClienteServiceImpl real encima para los
+ * casos sin filas (ClienteNotFoundException es el 404). Cada test se revierte.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ClienteServiceImpl.class, ClienteMapper.class, ClienteKeysetRepository.class})
+class ClienteRepositoryTest {
+
+    private static final long INEXISTENTE = Long.MAX_VALUE;
+
+    @Autowired
+    private ClienteRepository repository;
+
+    @Autowired
+    private ClienteServiceImpl service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ClienteUnicidadFilter unicidadFilter;
+
+    @MockitoBean
+    private ClienteImportRepository importRepository;
+
+    @MockitoBean
+    private Validator validator;
+
+    @MockitoBean
+    private ObjectMapper objectMapper;
+
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        cliente = repository.save(cliente());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("actualizarEmail - RETURNING devuelve la fila nueva con la versión incrementada")
+    void actualizarEmail_devuelveFila() {
+        LocalDateTime ahora = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        String email = "nuevo-" + cliente.getEmail();
+
+        ClienteView fila = repository.actualizarEmail(cliente.getId(), email, null, ahora).orElseThrow();
+
+        assertAll(
+                () -> assertEquals(cliente.getId(), fila.getId()),
+                () -> assertEquals(email, fila.getEmail()),
+                () -> assertEquals(cliente.getCuit(), fila.getCuit()),
+                () -> assertEquals(cliente.getRazonSocial(), fila.getRazonSocial()),
+                () -> assertEquals(cliente.getFechaNacimiento(), fila.getFechaNacimiento()),
+                () -> assertEquals(ahora, fila.getFechaModificacion()),
+                () -> assertEquals(cliente.getVersion() + 1, fila.getVersion())
+        );
+        assertEquals(Optional.of(cliente.getVersion() + 1), repository.findVersionById(cliente.getId()));
+    }
+
+    @Test
+    @DisplayName("actualizarEmail - con la versión esperada actualiza; con una vieja o sin cliente no hay fila")
+    void actualizarEmail_conVersion() {
+        long version = cliente.getVersion();
+
+        assertTrue(repository.actualizarEmail(cliente.getId(), "a-" + cliente.getEmail(), version, LocalDateTime.now()).isPresent());
+        assertTrue(repository.actualizarEmail(cliente.getId(), "b-" + cliente.getEmail(), version, LocalDateTime.now()).isEmpty());
+        assertTrue(repository.actualizarEmail(INEXISTENTE, "c-" + cliente.getEmail(), null, LocalDateTime.now()).isEmpty());
+        assertEquals(Optional.of(version + 1), repository.findVersionById(cliente.getId()));
+    }
+
+    @Test
+    @DisplayName("Servicio actualizarEmail - sin fila: 404 si no existe, 412 si cambió la versión")
+    void servicio_actualizarEmailSinFila() {
+        ClienteResponse actualizado = service.actualizarEmail(cliente.getId(), "d-" + cliente.getEmail(), cliente.getVersion());
+        assertEquals(cliente.getVersion() + 1, actualizado.getVersion());
+
+        assertThrows(ClienteNotFoundException.class,
+                () -> service.actualizarEmail(INEXISTENTE, "e-" + cliente.getEmail(), null));
+        assertThrows(PrecondicionFallidaException.class,
+                () -> service.actualizarEmail(cliente.getId(), "f-" + cliente.getEmail(), cliente.getVersion()));
+    }
+
+    @Test
+    @DisplayName("eliminarPorId - una fila la primera vez, ninguna después; el servicio responde 404")
+    void eliminarPorId() {
+        assertEquals(1, repository.eliminarPorId(cliente.getId()));
+        assertFalse(repository.existsById(cliente.getId()));
+        assertEquals(0, repository.eliminarPorId(cliente.getId()));
+
+        assertThrows(ClienteNotFoundException.class, () -> service.eliminar(cliente.getId()));
+    }
+
+    private static Cliente cliente() {
+        String sufijo = String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000));
+        return Cliente.builder()
+                .nombre("Nativa")
+                .apellido("Prueba")
+                .razonSocial("Nativa SA")
+                .cuit("33-" + sufijo + "-9")
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .telefonoCelular("1122334455")
+                .email("nativa" + sufijo + "@test.com")
+                .build();
+    }
+}
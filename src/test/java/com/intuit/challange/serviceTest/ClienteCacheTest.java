@@ -0,0 +1,190 @@
+package com.intuit.challange.serviceTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.challange.cache.ClienteJsonCache;
+import com.intuit.challange.config.CacheConfig;
+import com.intuit.challange.dto.ClienteRequest;
+import com.intuit.challange.dto.ClienteResponse;
+import com.intuit.challange.entity.Cliente;
+import com.intuit.challange.mapper.ClienteMapper;
+import com.intuit.challange.repository.ClienteImportRepository;
+import com.intuit.challange.repository.ClienteKeysetRepository;
+import com.intuit.challange.repository.ClienteRepository;
+import com.intuit.challange.repository.projection.ClienteView;
+import com.intuit.challange.service.ClienteServiceImpl;
+import com.intuit.challange.service.ClienteUnicidadFilter;
+import com.intuit.challange.service.abstraction.ClienteService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica la caché de lectura de buscarPorId y su invalidación
+ * en las escrituras, a través del proxy de Spring.
+ */
+@SpringJUnitConfig(ClienteCacheTest.Config.class)
+class ClienteCacheTest {
+
+    @Configuration
+    @Import({CacheConfig.class, ClienteServiceImpl.class, ClienteMapper.class})
+    static class Config {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        ClienteJsonCache clienteJsonCache(ObjectMapper objectMapper) {
+            return new ClienteJsonCache(objectMapper, 1 << 20, Duration.ofMinutes(1));
+        }
+    }
+
+    @MockitoBean
+    private ClienteRepository repository;
+
+    @MockitoBean
+    private ClienteUnicidadFilter unicidadFilter;
+
+    @MockitoBean
+    private Validator validator;
+
+    @MockitoBean
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ClienteImportRepository importRepository;
+
+    @MockitoBean
+    private ClienteKeysetRepository keysetRepository;
+
+    @Autowired
+    private ClienteService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ClienteJsonCache jsonCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.CLIENTES).clear();
+        cacheManager.getCache(CacheConfig.CLIENTES_JSON).clear();
+
+        Cliente cliente = Cliente.builder().id(1L).nombre("Juan").cuit("20-30123456-7").email("juan@test.com").build();
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(repository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("buscarPorId - lecturas repetidas se sirven desde la caché")
+    void buscarPorId_segundaLecturaNoVaALaBase() {
+        ClienteResponse primera = service.buscarPorId(1L);
+        ClienteResponse segunda = service.buscarPorId(1L);
+
+        assertSame(primera, segunda);
+        verify(repository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("actualizar / actualizarEmail guardan la versión nueva; eliminar deja una baja")
+    void escrituras_actualizanEntrada() {
+        ClienteRequest request = ClienteRequest.builder()
+                .nombre("Juan Carlos").cuit("20-30123456-7").email("juan@test.com").build();
+
+        service.buscarPorId(1L);
+        service.actualizar(1L, request, null);
+        assertEquals("Juan Carlos", service.buscarPorId(1L).getNombre());
+
+        ClienteView fila = vista(1L, "nuevo@test.com");
+        when(repository.actualizarEmail(eq(1L), eq("nuevo@test.com"), isNull(), any())).thenReturn(Optional.of(fila));
+        service.actualizarEmail(1L, "nuevo@test.com", null);
+        assertEquals("nuevo@test.com", service.buscarPorId(1L).getEmail());
+
+        // actualizar lee la entidad; las lecturas después de cada escritura salen de la caché
+        verify(repository, times(2)).findById(1L);
+
+        when(repository.eliminarPorId(1L)).thenReturn(1);
+        service.eliminar(1L);
+        service.buscarPorId(1L);
+        service.buscarPorId(1L);
+
+        // Después de la baja ninguna lectura vuelve a guardar al cliente
+        verify(repository, times(4)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Lectura atrasada - lo que leyó antes de la escritura no pisa la versión nueva")
+    void lecturaAtrasada_noPisaLaEscritura() throws Exception {
+        CountDownLatch leyendo = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Cliente anterior = Cliente.builder().id(1L).nombre("Juan").email("juan@test.com").version(0L).build();
+        when(repository.findById(1L)).thenAnswer(inv -> {
+            leyendo.countDown();
+            assertTrue(liberar.await(5, TimeUnit.SECONDS));
+            return Optional.of(anterior);
+        });
+        ClienteView fila = vista(1L, "nuevo@test.com");
+        when(repository.actualizarEmail(eq(1L), eq("nuevo@test.com"), isNull(), any())).thenReturn(Optional.of(fila));
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<ClienteResponse> lectura = pool.submit(() -> service.buscarPorId(1L));
+            assertTrue(leyendo.await(5, TimeUnit.SECONDS));
+
+            service.actualizarEmail(1L, "nuevo@test.com", null);
+            liberar.countDown();
+
+            assertEquals("juan@test.com", lectura.get(5, TimeUnit.SECONDS).getEmail());
+            ClienteResponse guardado = service.buscarPorId(1L);
+            assertEquals("nuevo@test.com", guardado.getEmail());
+            assertEquals(1L, guardado.getVersion());
+        } finally {
+            liberar.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("JSON serializado - se reutiliza hasta que una escritura lo invalida")
+    void json_invalidadoPorEscritura() {
+        ClienteRequest request = ClienteRequest.builder()
+                .nombre("Juan Carlos").cuit("20-30123456-7").email("juan@test.com").build();
+
+        assertSame(jsonCache.obtener(1L, service::buscarPorId), jsonCache.obtener(1L, service::buscarPorId));
+
+        service.actualizar(1L, request, null);
+
+        String json = StandardCharsets.UTF_8.decode(jsonCache.obtener(1L, service::buscarPorId).getBytes()).toString();
+        assertTrue(json.contains("Juan Carlos"));
+    }
+
+    private static ClienteView vista(Long id, String email) {
+        ClienteView fila = mock(ClienteView.class);
+        when(fila.getId()).thenReturn(id);
+        when(fila.getEmail()).thenReturn(email);
+        when(fila.getVersion()).thenReturn(1L);
+        return fila;
+    }
+}
@@ -1,29 +1,65 @@
 package com.intuit.challange.serviceTest;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.challange.dto.ClienteImportResponse;
+import com.intuit.challange.dto.ClienteLoteResponse;
 import com.intuit.challange.dto.ClienteRequest;
 import com.intuit.challange.dto.ClienteResponse;
 import com.intuit.challange.dto.PagedResponse;
 import com.intuit.challange.entity.Cliente;
 import com.intuit.challange.exception.ArgumentoDuplicadoException;
+import com.intuit.challange.exception.ClienteInvalidoException;
 import com.intuit.challange.exception.ClienteNotFoundException;
+import com.intuit.challange.exception.CursorInvalidoException;
+import com.intuit.challange.exception.PrecondicionFallidaException;
+import com.intuit.challange.export.ClienteExportWriter;
+import com.intuit.challange.importacion.ClienteImportReader;
+import com.intuit.challange.importacion.FilaImportacion;
 import com.intuit.challange.mapper.ClienteMapper;
+import com.intuit.challange.pagination.ClienteCursor;
+import com.intuit.challange.repository.ClienteImportRepository;
+import com.intuit.challange.repository.ClienteKeysetRepository;
 import com.intuit.challange.repository.ClienteRepository;
+import com.intuit.challange.repository.projection.ClienteBusquedaView;
+import com.intuit.challange.repository.projection.ClienteClaveView;
+import com.intuit.challange.repository.projection.ClienteView;
 import com.intuit.challange.service.ClienteServiceImpl;
+import com.intuit.challange.service.ClienteUnicidadFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.sql.SQLException;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith ( MockitoExtension.class)
@@ -35,9 +71,35 @@ class ClienteServiceTest {
     @Mock
     private ClienteMapper clienteMapper;
 
+    @Mock
+    private ClienteUnicidadFilter unicidadFilter;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ClienteImportRepository importRepository;
+
+    @Mock
+    private ClienteKeysetRepository keysetRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private ClienteServiceImpl service;
 
+    @BeforeEach
+    void setUp() {
+        // Por defecto el filtro no descarta nada: la validación depende del repositorio
+        lenient().when(unicidadFilter.puedeExistirCuit(any())).thenReturn(true);
+        lenient().when(unicidadFilter.puedeExistirEmail(any())).thenReturn(true);
+        lenient().when(validator.validate(any())).thenReturn(Set.of());
+    }
+
     // =====================================================
     // CREATE
     // =====================================================
@@ -97,6 +159,250 @@ class ClienteServiceTest {
                 () -> service.crear(request));
     }
 
+    @Test
+    @DisplayName("crear - si el filtro descarta CUIT y email no consulta exists*")
+    void crear_filtroDescarta_noConsultaBase() {
+        ClienteRequest request = crearRequest();
+        Cliente entity = new Cliente();
+        entity.setCuit(request.getCuit());
+        entity.setEmail(request.getEmail());
+
+        when(unicidadFilter.puedeExistirCuit(request.getCuit())).thenReturn(false);
+        when(unicidadFilter.puedeExistirEmail(request.getEmail())).thenReturn(false);
+        when(clienteMapper.mapToEntity(request)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(entity);
+        when(clienteMapper.mapToResponse(entity)).thenReturn(new ClienteResponse());
+
+        service.crear(request);
+
+        verify(repository, never()).existsByCuit(any());
+        verify(repository, never()).existsByEmail(any());
+        verify(unicidadFilter).registrar(request.getCuit(), request.getEmail());
+    }
+
+    @Test
+    @DisplayName("crear (alta optimista) - inserta directo sin consultar exists*")
+    void crear_altaOptimista_unSoloInsert() {
+        ReflectionTestUtils.setField(service, "altaOptimista", true);
+        ClienteRequest request = crearRequest();
+        Cliente entity = new Cliente();
+
+        when(clienteMapper.mapToEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenReturn(entity);
+        when(clienteMapper.mapToResponse(entity)).thenReturn(new ClienteResponse());
+
+        assertNotNull(service.crear(request));
+
+        verify(repository, never()).existsByCuit(any());
+        verify(repository, never()).existsByEmail(any());
+        verify(unicidadFilter, never()).puedeExistirCuit(any());
+    }
+
+    @Test
+    @DisplayName("crear (alta optimista) - violación de uk_clientes_cuit se traduce a CUIT duplicado")
+    void crear_altaOptimista_cuitDuplicado() {
+        ReflectionTestUtils.setField(service, "altaOptimista", true);
+        ClienteRequest request = crearRequest();
+        Cliente entity = new Cliente();
+
+        when(clienteMapper.mapToEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(violacion(Cliente.UK_CUIT));
+
+        ArgumentoDuplicadoException ex = assertThrows(ArgumentoDuplicadoException.class,
+                () -> service.crear(request));
+        assertEquals("Ya existe un cliente con ese CUIT", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("crear (alta optimista) - violación de uk_clientes_email se traduce a email duplicado")
+    void crear_altaOptimista_emailDuplicado() {
+        ReflectionTestUtils.setField(service, "altaOptimista", true);
+        ClienteRequest request = crearRequest();
+        Cliente entity = new Cliente();
+
+        when(clienteMapper.mapToEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(violacion(Cliente.UK_EMAIL));
+
+        ArgumentoDuplicadoException ex = assertThrows(ArgumentoDuplicadoException.class,
+                () -> service.crear(request));
+        assertEquals("Ya existe un cliente con ese email", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("crear (alta optimista) - sin nombre de restricción no se traduce aunque el mensaje nombre la columna")
+    void crear_altaOptimista_sinNombreSePropaga() {
+        ReflectionTestUtils.setField(service, "altaOptimista", true);
+        ClienteRequest request = crearRequest();
+        Cliente entity = new Cliente();
+        DataIntegrityViolationException violacion = new DataIntegrityViolationException("duplicado",
+                new SQLException("ERROR: duplicate key value. Detail: Key (email)=(juan@test.com) already exists.", "23505"));
+
+        when(clienteMapper.mapToEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(violacion);
+
+        assertSame(violacion, assertThrows(DataIntegrityViolationException.class,
+                () -> service.crear(request)));
+    }
+
+    @Test
+    @DisplayName("crear (alta optimista) - NOT NULL en email (la restricción es la columna) no es un duplicado")
+    void crear_altaOptimista_notNullSePropaga() {
+        ReflectionTestUtils.setField(service, "altaOptimista", true);
+        ClienteRequest request = crearRequest();
+        Cliente entity = new Cliente();
+        DataIntegrityViolationException violacion = new DataIntegrityViolationException("violación de restricción",
+                new ConstraintViolationException("violación de restricción",
+                        new SQLException("null value in column \"email\"", "23502"), "email"));
+
+        when(clienteMapper.mapToEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(violacion);
+
+        assertSame(violacion, assertThrows(DataIntegrityViolationException.class,
+                () -> service.crear(request)));
+    }
+
+    @Test
+    @DisplayName("crear (alta optimista) - otras violaciones de integridad se propagan")
+    void crear_altaOptimista_otraViolacionSePropaga() {
+        ReflectionTestUtils.setField(service, "altaOptimista", true);
+        ClienteRequest request = crearRequest();
+        Cliente entity = new Cliente();
+        DataIntegrityViolationException violacion = violacion("clientes_nombre_not_null");
+
+        when(clienteMapper.mapToEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(violacion);
+
+        assertSame(violacion, assertThrows(DataIntegrityViolationException.class,
+                () -> service.crear(request)));
+    }
+
+    // =====================================================
+    // CREAR LOTE
+    // =====================================================
+
+    @Test
+    @DisplayName("crearLote - guarda los válidos con una sola consulta de unicidad")
+    void crearLote_ok() {
+        ClienteRequest primero = crearRequest();
+        ClienteRequest segundo = crearRequest("20-11111111-1", "otro@test.com");
+        Cliente entity1 = Cliente.builder().id(51L).cuit(primero.getCuit()).email(primero.getEmail()).build();
+        Cliente entity2 = Cliente.builder().id(52L).cuit(segundo.getCuit()).email(segundo.getEmail()).build();
+
+        when(repository.findClavesExistentes(any(), any())).thenReturn(List.of());
+        when(clienteMapper.mapToEntity(primero)).thenReturn(entity1);
+        when(clienteMapper.mapToEntity(segundo)).thenReturn(entity2);
+
+        ClienteLoteResponse resultado = service.crearLote(List.of(primero, segundo));
+
+        assertEquals(2, resultado.getTotal());
+        assertEquals(2, resultado.getCreados());
+        assertEquals(0, resultado.getRechazados());
+        assertEquals(51L, resultado.getResultados().get(0).getId());
+        assertEquals(52L, resultado.getResultados().get(1).getId());
+        verify(repository, times(1)).findClavesExistentes(any(), any());
+        verify(repository).saveAll(List.of(entity1, entity2));
+        verify(repository, never()).existsByCuit(any());
+    }
+
+    @Test
+    @DisplayName("actualizar - If-Match con la versión actual, debe actualizar")
+    void actualizar_versionCoincide() {
+
+        ClienteRequest request = crearRequest();
+        Cliente cliente = new Cliente();
+        cliente.setCuit(request.getCuit());
+        cliente.setEmail(request.getEmail());
+        cliente.setVersion(4L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(repository.saveAndFlush(cliente)).thenReturn(cliente);
+        when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
+
+        assertNotNull(service.actualizar(1L, request, 4L));
+    }
+
+    @Test
+    @DisplayName("actualizar - If-Match con una versión vieja, no debe modificar nada")
+    void actualizar_versionVieja() {
+
+        ClienteRequest request = crearRequest();
+        Cliente cliente = new Cliente();
+        cliente.setVersion(5L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+
+        assertThrows(PrecondicionFallidaException.class,
+                () -> service.actualizar(1L, request, 4L));
+        verify(clienteMapper, never()).updateEntity(any(), any());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("crearLote - informa por ítem duplicados en base, repetidos en el lote e inválidos")
+    void crearLote_rechazosPorItem() {
+        ClienteRequest valido = crearRequest("20-11111111-1", "nuevo@test.com");
+        ClienteRequest cuitExistente = crearRequest();
+        ClienteRequest emailExistente = crearRequest("20-22222222-2", "existe@test.com");
+        ClienteRequest repetido = crearRequest("20-11111111-1", "otro@test.com");
+        ClienteRequest invalido = crearRequest("123", "no-es-email");
+        Cliente entity = Cliente.builder().id(1L).cuit(valido.getCuit()).email(valido.getEmail()).build();
+
+        ClienteClaveView clave1 = clave(cuitExistente.getCuit(), "otro-mail@test.com");
+        ClienteClaveView clave2 = clave("27-99999999-9", "existe@test.com");
+        Validator real = Validation.buildDefaultValidatorFactory().getValidator();
+        doReturn(real.validate(invalido)).when(validator).validate(invalido);
+        when(repository.findClavesExistentes(any(), any())).thenReturn(List.of(clave1, clave2));
+        when(clienteMapper.mapToEntity(valido)).thenReturn(entity);
+
+        ClienteLoteResponse resultado = service.crearLote(
+                List.of(valido, cuitExistente, emailExistente, repetido, invalido));
+
+        List<ClienteLoteResponse.Resultado> r = resultado.getResultados();
+        assertEquals(1, resultado.getCreados());
+        assertEquals(4, resultado.getRechazados());
+        assertEquals(ClienteLoteResponse.Estado.CREADO, r.get(0).getEstado());
+        assertEquals("Ya existe un cliente con ese CUIT", r.get(1).getMensaje());
+        assertEquals("Ya existe un cliente con ese email", r.get(2).getMensaje());
+        assertEquals("CUIT repetido dentro del lote", r.get(3).getMensaje());
+        assertEquals(ClienteLoteResponse.Estado.RECHAZADO, r.get(4).getEstado());
+        assertTrue(r.get(4).getValidationErrors().containsKey("cuit"));
+        assertTrue(r.get(4).getValidationErrors().containsKey("email"));
+        verify(repository).saveAll(List.of(entity));
+    }
+
+    @Test
+    @DisplayName("crearLote - un ítem rechazado por email repetido no reserva su CUIT")
+    void crearLote_rechazadoNoReservaValores() {
+        ClienteRequest primero = crearRequest("20-11111111-1", "uno@test.com");
+        ClienteRequest emailRepetido = crearRequest("20-22222222-2", "uno@test.com");
+        ClienteRequest mismoCuit = crearRequest("20-22222222-2", "dos@test.com");
+        Cliente entity1 = Cliente.builder().id(1L).cuit(primero.getCuit()).email(primero.getEmail()).build();
+        Cliente entity3 = Cliente.builder().id(3L).cuit(mismoCuit.getCuit()).email(mismoCuit.getEmail()).build();
+
+        when(repository.findClavesExistentes(any(), any())).thenReturn(List.of());
+        when(clienteMapper.mapToEntity(primero)).thenReturn(entity1);
+        when(clienteMapper.mapToEntity(mismoCuit)).thenReturn(entity3);
+
+        ClienteLoteResponse resultado = service.crearLote(List.of(primero, emailRepetido, mismoCuit));
+
+        List<ClienteLoteResponse.Resultado> r = resultado.getResultados();
+        assertEquals(2, resultado.getCreados());
+        assertEquals("Email repetido dentro del lote", r.get(1).getMensaje());
+        assertEquals(ClienteLoteResponse.Estado.CREADO, r.get(2).getEstado());
+        verify(repository).saveAll(List.of(entity1, entity3));
+    }
+
+    @Test
+    @DisplayName("crearLote - sin candidatos válidos no consulta la base")
+    void crearLote_sinValidos_noConsultaUnicidad() {
+        ClienteLoteResponse resultado = service.crearLote(Arrays.asList((ClienteRequest) null));
+
+        assertEquals(1, resultado.getRechazados());
+        assertEquals("El cliente es obligatorio",
+                resultado.getResultados().get(0).getValidationErrors().get("cliente"));
+        verify(repository, never()).findClavesExistentes(any(), any());
+    }
+
     // =====================================================
     // BUSCAR POR ID
     // =====================================================
@@ -126,6 +432,25 @@ class ClienteServiceTest {
                 () -> service.buscarPorId(1L));
     }
 
+    @Test
+    @DisplayName("version - sale de la columna version, sin cargar la entidad")
+    void version_ok() {
+
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        assertEquals(3L, service.version(1L));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("version - debe lanzar excepción si no existe")
+    void version_notFound() {
+
+        when(repository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ClienteNotFoundException.class, () -> service.version(1L));
+    }
+
     // =====================================================
     // ACTUALIZAR
     // =====================================================
@@ -140,10 +465,10 @@ class ClienteServiceTest {
         cliente.setEmail(request.getEmail());
 
         when(repository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(repository.save(cliente)).thenReturn(cliente);
+        when(repository.saveAndFlush(cliente)).thenReturn(cliente);
         when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
 
-        ClienteResponse resultado = service.actualizar(1L, request);
+        ClienteResponse resultado = service.actualizar(1L, request, null);
 
         assertNotNull(resultado);
         verify(clienteMapper).updateEntity(cliente, request);
@@ -162,7 +487,7 @@ class ClienteServiceTest {
         when(repository.existsByCuit(request.getCuit())).thenReturn(true);
 
         assertThrows(ArgumentoDuplicadoException.class,
-                () -> service.actualizar(1L, request));
+                () -> service.actualizar(1L, request, null));
     }
 
     @Test
@@ -178,7 +503,7 @@ class ClienteServiceTest {
         when(repository.existsByEmail(request.getEmail())).thenReturn(true);
 
         assertThrows(ArgumentoDuplicadoException.class,
-                () -> service.actualizar(1L, request));
+                () -> service.actualizar(1L, request, null));
     }
 
     @Test
@@ -192,10 +517,10 @@ class ClienteServiceTest {
         cliente.setEmail(request.getEmail()); // mismo email
 
         when(repository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(repository.save(cliente)).thenReturn(cliente);
+        when(repository.saveAndFlush(cliente)).thenReturn(cliente);
         when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
 
-        service.actualizar(1L, request);
+        service.actualizar(1L, request, null);
 
         //Esto es CLAVE para branch coverage
         verify(repository, never()).existsByEmail(any());
@@ -215,10 +540,10 @@ class ClienteServiceTest {
 
         when(repository.findById(1L)).thenReturn(Optional.of(cliente));
         when(repository.existsByCuit(request.getCuit())).thenReturn(false);
-        when(repository.save(cliente)).thenReturn(cliente);
+        when(repository.saveAndFlush(cliente)).thenReturn(cliente);
         when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
 
-        ClienteResponse resultado = service.actualizar(1L, request);
+        ClienteResponse resultado = service.actualizar(1L, request, null);
 
         assertNotNull(resultado);
     }
@@ -234,10 +559,10 @@ class ClienteServiceTest {
         cliente.setEmail(request.getEmail());
 
         when(repository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(repository.save(cliente)).thenReturn(cliente);
+        when(repository.saveAndFlush(cliente)).thenReturn(cliente);
         when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
 
-        service.actualizar(1L, request);
+        service.actualizar(1L, request, null);
 
         verify(repository, never()).existsByCuit(any());
     }
@@ -248,50 +573,68 @@ class ClienteServiceTest {
     // =====================================================
 
     @Test
-    @DisplayName("actualizarEmail - debe actualizar correctamente")
+    @DisplayName("actualizarEmail - un solo UPDATE, sin leer la entidad ni consultar la unicidad")
     void actualizarEmail_ok() {
 
-        Cliente cliente = new Cliente();
-        cliente.setEmail("viejo@mail.com");
+        ClienteView fila = fila(1L);
+        ClienteResponse response = new ClienteResponse();
 
-        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(repository.existsByEmail("nuevo@mail.com")).thenReturn(false);
-        when(repository.save(cliente)).thenReturn(cliente);
-        when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
+        when(repository.actualizarEmail(eq(1L), eq("nuevo@mail.com"), isNull(), any())).thenReturn(Optional.of(fila));
+        when(clienteMapper.mapViewToResponse(fila)).thenReturn(response);
 
-        ClienteResponse resultado = service.actualizarEmail(1L, "nuevo@mail.com");
+        ClienteResponse resultado = service.actualizarEmail(1L, "nuevo@mail.com", null);
 
-        assertNotNull(resultado);
+        assertSame(response, resultado);
+        verify(unicidadFilter).registrarEmail("nuevo@mail.com");
+        verify(repository, never()).findById(any());
+        verify(repository, never()).existsByEmail(any());
     }
 
     @Test
-    @DisplayName("actualizarEmail - debe lanzar excepción si email ya existe")
+    @DisplayName("actualizarEmail - violación de uk_clientes_email se traduce a email duplicado")
     void actualizarEmail_duplicado() {
 
-        Cliente cliente = new Cliente();
-        cliente.setEmail("viejo@mail.com");
+        when(repository.actualizarEmail(eq(1L), eq("duplicado@mail.com"), isNull(), any()))
+                .thenThrow(violacion(Cliente.UK_EMAIL));
 
-        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(repository.existsByEmail("duplicado@mail.com")).thenReturn(true);
+        ArgumentoDuplicadoException ex = assertThrows(ArgumentoDuplicadoException.class,
+                () -> service.actualizarEmail(1L, "duplicado@mail.com", null));
+        assertEquals("El email ya pertenece a otro cliente", ex.getMessage());
+        verify(unicidadFilter, never()).registrarEmail(any());
+    }
 
-        assertThrows(ArgumentoDuplicadoException.class,
-                () -> service.actualizarEmail(1L, "duplicado@mail.com"));
+    @Test
+    @DisplayName("actualizarEmail - sin fila actualizada ni If-Match, no existe (sin consulta extra)")
+    void actualizarEmail_notFound() {
+
+        when(repository.actualizarEmail(eq(1L), eq("nuevo@mail.com"), isNull(), any())).thenReturn(Optional.empty());
+
+        assertThrows(ClienteNotFoundException.class,
+                () -> service.actualizarEmail(1L, "nuevo@mail.com", null));
+        verify(repository, never()).existsById(any());
     }
 
     @Test
-    @DisplayName("actualizarEmail - mismo email no debe validar duplicado")
-    void actualizarEmail_mismoEmail() {
+    @DisplayName("actualizarEmail - If-Match con una versión vieja, no debe modificar nada")
+    void actualizarEmail_versionVieja() {
 
-        Cliente cliente = new Cliente();
-        cliente.setEmail("test@mail.com");
+        when(repository.actualizarEmail(eq(1L), eq("nuevo@mail.com"), eq(1L), any())).thenReturn(Optional.empty());
+        when(repository.existsById(1L)).thenReturn(true);
 
-        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(repository.save(cliente)).thenReturn(cliente);
-        when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
+        assertThrows(PrecondicionFallidaException.class,
+                () -> service.actualizarEmail(1L, "nuevo@mail.com", 1L));
+        verify(unicidadFilter, never()).registrarEmail(any());
+    }
 
-        service.actualizarEmail(1L, "test@mail.com");
+    @Test
+    @DisplayName("actualizarEmail - If-Match de un cliente inexistente, debe lanzar 404")
+    void actualizarEmail_versionClienteInexistente() {
 
-        verify(repository, never()).existsByEmail(any());
+        when(repository.actualizarEmail(eq(1L), eq("nuevo@mail.com"), eq(1L), any())).thenReturn(Optional.empty());
+        when(repository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ClienteNotFoundException.class,
+                () -> service.actualizarEmail(1L, "nuevo@mail.com", 1L));
     }
 
     @Test
@@ -307,47 +650,140 @@ class ClienteServiceTest {
 
         when(repository.findById(1L)).thenReturn(Optional.of(cliente));
         when(repository.existsByEmail(request.getEmail())).thenReturn(false);
-        when(repository.save(cliente)).thenReturn(cliente);
+        when(repository.saveAndFlush(cliente)).thenReturn(cliente);
         when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
 
-        ClienteResponse resultado = service.actualizar(1L, request);
+        ClienteResponse resultado = service.actualizar(1L, request, null);
 
         assertNotNull(resultado);
     }
 
 
+    // =====================================================
+    // ACTUALIZAR PARCIAL (JSON MERGE PATCH)
+    // =====================================================
+
+    @Test
+    @DisplayName("actualizarParcial - combina solo las propiedades del patch y no consulta la unicidad")
+    void actualizarParcial_ok() throws Exception {
+
+        Cliente cliente = clienteConVersion(2L);
+        Cliente guardado = clienteConVersion(3L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteMapper.mapToRequest(cliente)).thenReturn(crearRequest());
+        when(repository.saveAndFlush(cliente)).thenReturn(guardado);
+        when(clienteMapper.mapToResponse(guardado)).thenReturn(new ClienteResponse());
+
+        service.actualizarParcial(1L, patch("{\"telefonoCelular\":\"1199887766\"}"), 2L);
+
+        verify(clienteMapper).updateEntity(eq(cliente), argThat(combinado ->
+                "1199887766".equals(combinado.getTelefonoCelular()) && "Juan".equals(combinado.getNombre())));
+        verify(repository, never()).existsByCuit(any());
+        verify(repository, never()).existsByEmail(any());
+        verify(unicidadFilter).registrar(guardado.getCuit(), guardado.getEmail());
+    }
+
+    @Test
+    @DisplayName("actualizarParcial - sin cambios la versión no avanza y no se registra nada")
+    void actualizarParcial_sinCambios() throws Exception {
+
+        Cliente cliente = clienteConVersion(2L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteMapper.mapToRequest(cliente)).thenReturn(crearRequest());
+        when(repository.saveAndFlush(cliente)).thenReturn(cliente);
+        when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
+
+        assertNotNull(service.actualizarParcial(1L, patch("{\"nombre\":\"Juan\"}"), null));
+        verify(unicidadFilter, never()).registrar(any(), any());
+    }
+
+    @Test
+    @DisplayName("actualizarParcial - si cambia el CUIT valida solo el CUIT")
+    void actualizarParcial_cuitDuplicado() throws Exception {
+
+        Cliente cliente = clienteConVersion(0L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteMapper.mapToRequest(cliente)).thenReturn(crearRequest());
+        when(repository.existsByCuit("27-99999999-1")).thenReturn(true);
+
+        assertThrows(ArgumentoDuplicadoException.class,
+                () -> service.actualizarParcial(1L, patch("{\"cuit\":\"27-99999999-1\"}"), null));
+        verify(repository, never()).existsByEmail(any());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("actualizarParcial - null en un campo obligatorio devuelve los errores de validación")
+    void actualizarParcial_nullEnObligatorio() throws Exception {
+
+        Cliente cliente = clienteConVersion(0L);
+        Validator real = Validation.buildDefaultValidatorFactory().getValidator();
+
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteMapper.mapToRequest(cliente)).thenReturn(crearRequest());
+        when(validator.validate(any(ClienteRequest.class))).thenAnswer(inv -> real.validate(inv.getArgument(0)));
+
+        ClienteInvalidoException ex = assertThrows(ClienteInvalidoException.class,
+                () -> service.actualizarParcial(1L, patch("{\"nombre\":null}"), null));
+        assertEquals(Set.of("nombre"), ex.getErrores().keySet());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("actualizarParcial - un patch que no es objeto o con tipos inválidos se rechaza")
+    void actualizarParcial_patchInvalido() throws Exception {
+
+        Cliente cliente = clienteConVersion(0L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(clienteMapper.mapToRequest(cliente)).thenReturn(crearRequest());
+
+        assertThrows(ClienteInvalidoException.class,
+                () -> service.actualizarParcial(1L, patch("[1]"), null));
+        assertThrows(ClienteInvalidoException.class,
+                () -> service.actualizarParcial(1L, patch("{\"fechaNacimiento\":\"abc\"}"), null));
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    private Cliente clienteConVersion(long version) {
+        ClienteRequest request = crearRequest();
+        return Cliente.builder().id(1L).cuit(request.getCuit()).email(request.getEmail()).version(version).build();
+    }
+
+    private JsonNode patch(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+
     // =====================================================
     // ELIMINAR
     // =====================================================
 
     @Test
-    @DisplayName("eliminar - debe borrar si existe")
+    @DisplayName("eliminar - un solo DELETE por id")
     void eliminar_success() {
         // GIVEN
-        Cliente cliente = new Cliente();
-        cliente.setId(1L);
-        when(repository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(repository.eliminarPorId(1L)).thenReturn(1);
 
         // WHEN
         service.eliminar(1L);
 
         // THEN
-        verify(repository, times(1)).delete(cliente);
+        verify(repository, times(1)).eliminarPorId(1L);
+        verify(repository, never()).findById(any());
     }
 
     @Test
     @DisplayName("eliminar - debe lanzar excepción si no existe")
     void eliminar_notFound() {
-        // GIVEN: El repositorio ahora usa findById, por lo que mockeamos un Optional vacío
-        when(repository.findById(1L)).thenReturn(Optional.empty());
+        // GIVEN: el DELETE no afecta filas
+        when(repository.eliminarPorId(1L)).thenReturn(0);
 
         // WHEN & THEN
         assertThrows(ClienteNotFoundException.class,
                 () -> service.eliminar(1L));
-
-        // Verificación extra (Nivel Senior):
-        // Aseguramos que NUNCA se intentó borrar si no se encontró el cliente
-        verify(repository, never()).delete(any());
     }
 
     // =====================================================
@@ -359,14 +795,15 @@ class ClienteServiceTest {
     void listar_ok() {
 
         Pageable pageable = PageRequest.of(0, 10);
-        Cliente cliente = new Cliente();
-        Page<Cliente> page = new PageImpl<>(List.of(cliente), pageable, 1);
+        Page<ClienteResponse> page = new PageImpl<>(List.of(new ClienteResponse()), pageable, 1);
 
-        when(repository.findAll(pageable)).thenReturn(page);
-        when(clienteMapper.mapToResponse(cliente)).thenReturn(new ClienteResponse());
+        when(repository.findPagina(pageable)).thenReturn(page);
 
         PagedResponse <ClienteResponse> resultado = service.listar(pageable);
 
+        // La consulta ya devuelve el DTO: no se cargan entidades ni se mapean
+        verifyNoInteractions(clienteMapper);
+
         assertEquals(1, resultado.getContent().size());
         assertEquals(1, resultado.getPage().getTotalElements());
         assertEquals(1, resultado.getPage().getTotalPages());
@@ -378,9 +815,9 @@ class ClienteServiceTest {
     void listar_paginaInexistente() {
 
         Pageable pageable = PageRequest.of(99, 10);
-        Page<Cliente> page = new PageImpl<>(List.of(), pageable, 1);
+        Page<ClienteResponse> page = new PageImpl<>(List.of(), pageable, 1);
 
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findPagina(pageable)).thenReturn(page);
 
         PagedResponse<ClienteResponse> resultado = service.listar(pageable);
 
@@ -394,14 +831,13 @@ class ClienteServiceTest {
         Pageable pageable = PageRequest.of(5, 10);
 
         // totalPages = 1 → pageNumber >= totalPages
-        Page<Cliente> page = new PageImpl<>(
-                List.of(new Cliente()),
+        Page<ClienteResponse> page = new PageImpl<>(
+                List.of(new ClienteResponse()),
                 pageable,
                 1
         );
 
-        when(repository.findAll(pageable)).thenReturn(page);
-        when(clienteMapper.mapToResponse(any())).thenReturn(new ClienteResponse());
+        when(repository.findPagina(pageable)).thenReturn(page);
 
         PagedResponse<ClienteResponse> resultado = service.listar(pageable);
 
@@ -414,13 +850,13 @@ class ClienteServiceTest {
 
         Pageable pageable = PageRequest.of(5, 10);
 
-        Page<Cliente> page = new PageImpl<>(
+        Page<ClienteResponse> page = new PageImpl<>(
                 List.of(),
                 pageable,
                 0
         );
 
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findPagina(pageable)).thenReturn(page);
 
         PagedResponse<ClienteResponse> resultado = service.listar(pageable);
 
@@ -428,6 +864,92 @@ class ClienteServiceTest {
     }
 
 
+    @Test
+    @DisplayName("listar - debe devolver nextCursor cuando hay página siguiente")
+    void listar_conPaginaSiguiente_devuelveCursor() {
+
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("id"));
+        ClienteResponse cliente = ClienteResponse.builder().id(7L).build();
+        Page<ClienteResponse> page = new PageImpl<>(List.of(cliente), pageable, 3);
+
+        when(repository.findPagina(pageable)).thenReturn(page);
+
+        PagedResponse<ClienteResponse> resultado = service.listar(pageable);
+
+        assertEquals(ClienteCursor.porId(7L).encode(), resultado.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("listar - orden por varias columnas no genera cursor")
+    void listar_ordenCompuesto_sinCursor() {
+
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("nombre", "apellido"));
+        Page<ClienteResponse> page = new PageImpl<>(List.of(new ClienteResponse()), pageable, 3);
+
+        when(repository.findPagina(pageable)).thenReturn(page);
+
+        PagedResponse<ClienteResponse> resultado = service.listar(pageable);
+
+        assertNull(resultado.getNextCursor());
+    }
+
+    // =====================================================
+    // LISTAR POR CURSOR (KEYSET)
+    // =====================================================
+
+    @Test
+    @DisplayName("listarDesdeCursor - debe continuar desde el cursor y devolver el siguiente")
+    void listarDesdeCursor_ok() {
+
+        Pageable pageable = PageRequest.of(0, 2);
+        ClienteCursor cursor = new ClienteCursor("nombre", Sort.Direction.ASC, "Juan", 4L);
+
+        ClienteResponse c1 = ClienteResponse.builder().id(5L).nombre("Juan").build();
+        ClienteResponse c2 = ClienteResponse.builder().id(2L).nombre("Lucía").build();
+        ClienteResponse c3 = ClienteResponse.builder().id(8L).nombre("Marta").build();
+
+        // Pide uno de más para saber si hay página siguiente; las filas ya son DTO
+        when(keysetRepository.findDesde(cursor, 3)).thenReturn(new ArrayList<>(List.of(c1, c2, c3)));
+
+        PagedResponse<ClienteResponse> resultado = service.listarDesdeCursor(cursor.encode(), pageable);
+
+        assertEquals(List.of(c1, c2), resultado.getContent());
+        assertNull(resultado.getPage());
+        verifyNoInteractions(clienteMapper);
+
+        ClienteCursor siguiente = ClienteCursor.decode(resultado.getNextCursor());
+        assertEquals("Lucía", siguiente.valor());
+        assertEquals(2L, siguiente.id());
+    }
+
+    @Test
+    @DisplayName("listarDesdeCursor - última página no devuelve cursor")
+    void listarDesdeCursor_ultimaPagina() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        ClienteResponse unico = ClienteResponse.builder().id(11L).build();
+
+        when(keysetRepository.findDesde(ClienteCursor.porId(10L), 11)).thenReturn(List.of(unico));
+
+        PagedResponse<ClienteResponse> resultado =
+                service.listarDesdeCursor(ClienteCursor.porId(10L).encode(), pageable);
+
+        assertEquals(List.of(unico), resultado.getContent());
+        assertNull(resultado.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("listarDesdeCursor - cursor corrupto debe lanzar excepción")
+    void listarDesdeCursor_cursorInvalido() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(CursorInvalidoException.class,
+                () -> service.listarDesdeCursor("no-es-un-cursor", pageable));
+
+        verifyNoInteractions(keysetRepository);
+    }
+
     // =====================================================
     // BUSCAR POR NOMBRE (PROCEDURE)
     // =====================================================
@@ -436,15 +958,12 @@ class ClienteServiceTest {
     void buscarPorNombre_ok() {
 
         Pageable pageable = PageRequest.of(0, 10);
-        Cliente cliente = new Cliente();
+        ClienteBusquedaView fila = vista(1L, 1L);
 
         when(repository.searchByNombreProcedure("Juan", 10, 0))
-                .thenReturn(List.of(cliente));
+                .thenReturn(List.of(fila));
 
-        when(repository.countByNombre("Juan"))
-                .thenReturn(1L);
-
-        when(clienteMapper.mapToResponse(cliente))
+        when(clienteMapper.mapViewToResponse(fila))
                 .thenReturn(new ClienteResponse());
 
         PagedResponse<ClienteResponse> resultado =
@@ -454,6 +973,9 @@ class ClienteServiceTest {
         assertEquals(1, resultado.getPage().getTotalElements());
         assertEquals(1, resultado.getPage().getTotalPages());
         assertEquals(0, resultado.getPage().getNumber());
+
+        // El total viene en la misma consulta: no hay segundo round trip
+        verify(repository, never()).countByNombre(any());
     }
 
     @Test
@@ -472,6 +994,7 @@ class ClienteServiceTest {
                 service.buscarPorNombre("Juan", pageable);
 
         assertNotNull(resultado);
+        assertEquals(1, resultado.getPage().getTotalElements());
     }
 
     @Test
@@ -479,14 +1002,12 @@ class ClienteServiceTest {
     void buscarPorNombre_cubreIfVerdadero() {
 
         Pageable pageable = PageRequest.of(5, 10);
+        ClienteBusquedaView fila = vista(1L, 1L);
 
         when(repository.searchByNombreProcedure("Juan", 10, 50))
-                .thenReturn(List.of(new Cliente()));
+                .thenReturn(List.of(fila));
 
-        when(repository.countByNombre("Juan"))
-                .thenReturn(1L); // totalPages = 1
-
-        when(clienteMapper.mapToResponse(any()))
+        when(clienteMapper.mapViewToResponse(any()))
                 .thenReturn(new ClienteResponse());
 
         PagedResponse<ClienteResponse> resultado =
@@ -520,14 +1041,12 @@ class ClienteServiceTest {
         when(repository.searchByNombreProcedure("Pedro", 10, 0))
                 .thenReturn(List.of());
 
-        when(repository.countByNombre("Pedro"))
-                .thenReturn(0L);
-
         PagedResponse<ClienteResponse> resultado =
                 service.buscarPorNombre("Pedro", pageable);
 
         assertTrue(resultado.getContent().isEmpty());
         assertEquals(0, resultado.getPage().getTotalElements());
+        verify(repository, never()).countByNombre(any());
     }
 
     @Test
@@ -550,10 +1069,226 @@ class ClienteServiceTest {
 
 
 
+    @Test
+    @DisplayName("buscarPorNombre - debe devolver nextCursor cuando quedan resultados")
+    void buscarPorNombre_conPaginaSiguiente_devuelveCursor() {
+
+        Pageable pageable = PageRequest.of(0, 1);
+        ClienteBusquedaView fila = vista(3L, 2L);
+
+        when(repository.searchByNombreProcedure("Juan", 1, 0))
+                .thenReturn(List.of(fila));
+        when(clienteMapper.mapViewToResponse(fila))
+                .thenReturn(new ClienteResponse());
+
+        PagedResponse<ClienteResponse> resultado =
+                service.buscarPorNombre("Juan", pageable);
+
+        assertEquals(ClienteCursor.porId(3L).encode(), resultado.getNextCursor());
+    }
+
+    // =====================================================
+    // BUSCAR POR NOMBRE POR CURSOR (KEYSET)
+    // =====================================================
+
+    @Test
+    @DisplayName("buscarPorNombreDesdeCursor - debe pedir un elemento extra y devolver cursor")
+    void buscarPorNombreDesdeCursor_conMasResultados() {
+
+        Pageable pageable = PageRequest.of(0, 2);
+        List<ClienteView> filas = List.of(fila(11L), fila(12L), fila(13L));
+
+        when(repository.searchByNombreDesdeProcedure("Juan", 10L, 3)).thenReturn(filas);
+        when(clienteMapper.mapViewToResponse(any())).thenReturn(new ClienteResponse());
+
+        PagedResponse<ClienteResponse> resultado =
+                service.buscarPorNombreDesdeCursor(" Juan ", ClienteCursor.porId(10L).encode(), pageable);
+
+        assertEquals(2, resultado.getContent().size());
+        assertEquals(ClienteCursor.porId(12L).encode(), resultado.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("buscarPorNombreDesdeCursor - última página no devuelve cursor")
+    void buscarPorNombreDesdeCursor_ultimaPagina() {
+
+        Pageable pageable = PageRequest.of(0, 2);
+
+        List<ClienteView> filas = List.of(fila(11L));
+
+        when(repository.searchByNombreDesdeProcedure("Juan", 10L, 3)).thenReturn(filas);
+        when(clienteMapper.mapViewToResponse(any())).thenReturn(new ClienteResponse());
+
+        PagedResponse<ClienteResponse> resultado =
+                service.buscarPorNombreDesdeCursor("Juan", ClienteCursor.porId(10L).encode(), pageable);
+
+        assertEquals(1, resultado.getContent().size());
+        assertNull(resultado.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("buscarPorNombreDesdeCursor - cursor de otro orden debe lanzar excepción")
+    void buscarPorNombreDesdeCursor_cursorDeOtroOrden() {
+
+        Pageable pageable = PageRequest.of(0, 2);
+        String cursor = new ClienteCursor("nombre", Sort.Direction.ASC, "Juan", 1L).encode();
+
+        assertThrows(CursorInvalidoException.class,
+                () -> service.buscarPorNombreDesdeCursor("Juan", cursor, pageable));
+    }
+
+    @Test
+    @DisplayName("buscarPorNombreDesdeCursor - nombre vacío devuelve página vacía")
+    void buscarPorNombreDesdeCursor_nombreVacio() {
+
+        PagedResponse<ClienteResponse> resultado =
+                service.buscarPorNombreDesdeCursor(" ", "cualquiera", PageRequest.of(0, 2));
+
+        assertTrue(resultado.getContent().isEmpty());
+        verify(repository, never()).searchByNombreDesdeProcedure(any(), anyLong(), anyInt());
+    }
+
     // =====================================================
     // HELPER
     // =====================================================
 
+    private ClienteBusquedaView vista(Long id, Long total) {
+        ClienteBusquedaView fila = mock(ClienteBusquedaView.class);
+        lenient().when(fila.getId()).thenReturn(id);
+        lenient().when(fila.getTotalCount()).thenReturn(total);
+        return fila;
+    }
+
+    private ClienteView fila(Long id) {
+        ClienteView fila = mock(ClienteView.class);
+        lenient().when(fila.getId()).thenReturn(id);
+        return fila;
+    }
+
+    // =====================================================
+    // EXPORTAR
+    // =====================================================
+
+    @Test
+    @DisplayName("exportar - escribe cada cliente y lo desasocia del contexto")
+    void exportar_escribeYDesasocia() throws IOException {
+        Cliente c1 = Cliente.builder().id(1L).build();
+        Cliente c2 = Cliente.builder().id(2L).build();
+        ClienteResponse r1 = ClienteResponse.builder().id(1L).build();
+        ClienteResponse r2 = ClienteResponse.builder().id(2L).build();
+        ClienteExportWriter writer = mock(ClienteExportWriter.class);
+
+        when(repository.streamTodos()).thenReturn(Stream.of(c1, c2));
+        when(clienteMapper.mapToResponse(c1)).thenReturn(r1);
+        when(clienteMapper.mapToResponse(c2)).thenReturn(r2);
+
+        long total = service.exportar(writer);
+
+        assertEquals(2, total);
+        var orden = inOrder(writer, entityManager);
+        orden.verify(writer).escribir(r1);
+        orden.verify(entityManager).detach(c1);
+        orden.verify(writer).escribir(r2);
+        orden.verify(entityManager).detach(c2);
+    }
+
+    @Test
+    @DisplayName("exportar - cierra el stream de la base si falla la escritura")
+    void exportar_errorDeEscritura_cierraStream() throws IOException {
+        Cliente c1 = Cliente.builder().id(1L).build();
+        ClienteExportWriter writer = mock(ClienteExportWriter.class);
+        boolean[] cerrado = {false};
+
+        when(repository.streamTodos()).thenReturn(Stream.of(c1).onClose(() -> cerrado[0] = true));
+        doThrow(new IOException("cliente desconectado")).when(writer).escribir(any());
+
+        assertThrows(IOException.class, () -> service.exportar(writer));
+        assertTrue(cerrado[0]);
+    }
+
+    // =====================================================
+    // IMPORTAR
+    // =====================================================
+
+    @Test
+    @DisplayName("importar - solo envía al COPY las filas válidas e informa rechazos y conflictos")
+    @SuppressWarnings("unchecked")
+    void importar_validaMientrasLeeEInformaConflictos() throws IOException {
+        ClienteRequest valido = crearRequest();
+        ClienteRequest sinTelefono = crearRequest("20-11111111-1", "otro@test.com");
+        sinTelefono.setTelefonoCelular(null);
+        ClienteImportReader reader = mock(ClienteImportReader.class);
+        when(reader.siguiente()).thenReturn(
+                FilaImportacion.valida(2, valido),
+                FilaImportacion.invalida(3, "json", "La línea no es un cliente JSON válido"),
+                FilaImportacion.valida(4, sinTelefono),
+                null);
+
+        List<FilaImportacion> enviadas = new ArrayList<>();
+        doAnswer(inv -> {
+            Iterator<FilaImportacion> filas = inv.getArgument(0);
+            filas.forEachRemaining(enviadas::add);
+            Consumer<ClienteImportRepository.Resultado> resultados = inv.getArgument(1);
+            resultados.accept(new ClienteImportRepository.Resultado(null, valido.getCuit(), valido.getEmail(), null));
+            resultados.accept(new ClienteImportRepository.Resultado(9L, "20-99999999-9", "x@test.com", "CUIT_EXISTENTE"));
+            return null;
+        }).when(importRepository).importar(any(), any());
+
+        ClienteImportResponse resultado = service.importar(reader);
+
+        assertEquals(1, enviadas.size());
+        assertEquals(2, enviadas.get(0).linea());
+        assertEquals(3, resultado.getTotal());
+        assertEquals(1, resultado.getImportados());
+        assertEquals(3, resultado.getRechazados());
+        assertFalse(resultado.isRechazosTruncados());
+
+        List<ClienteImportResponse.Rechazo> rechazos = resultado.getRechazos();
+        assertEquals(List.of(3L, 4L, 9L), rechazos.stream().map(ClienteImportResponse.Rechazo::getLinea).toList());
+        assertEquals("El teléfono es obligatorio", rechazos.get(1).getValidationErrors().get("telefonoCelular"));
+        assertEquals("Ya existe un cliente con ese CUIT", rechazos.get(2).getMensaje());
+        verify(unicidadFilter).registrar(valido.getCuit(), valido.getEmail());
+    }
+
+    @Test
+    @DisplayName("importar - detalla como máximo 1000 rechazos")
+    void importar_truncaDetalleDeRechazos() {
+        doAnswer(inv -> {
+            Consumer<ClienteImportRepository.Resultado> resultados = inv.getArgument(1);
+            for (long i = 1; i <= 1500; i++) {
+                resultados.accept(new ClienteImportRepository.Resultado(i, "c" + i, "e" + i, "EMAIL_REPETIDO"));
+            }
+            return null;
+        }).when(importRepository).importar(any(), any());
+
+        ClienteImportResponse resultado = service.importar(mock(ClienteImportReader.class));
+
+        assertEquals(1500, resultado.getRechazados());
+        assertEquals(1000, resultado.getRechazos().size());
+        assertTrue(resultado.isRechazosTruncados());
+        assertEquals("Email repetido dentro del archivo", resultado.getRechazos().get(0).getMensaje());
+    }
+
+    private DataIntegrityViolationException violacion(String restriccion) {
+        return new DataIntegrityViolationException("violación de restricción",
+                new ConstraintViolationException(
+                        "violación de restricción", new SQLException("duplicado", "23505"), restriccion));
+    }
+
+    private ClienteRequest crearRequest(String cuit, String email) {
+        ClienteRequest request = crearRequest();
+        request.setCuit(cuit);
+        request.setEmail(email);
+        return request;
+    }
+
+    private ClienteClaveView clave(String cuit, String email) {
+        ClienteClaveView view = mock(ClienteClaveView.class);
+        when(view.getCuit()).thenReturn(cuit);
+        when(view.getEmail()).thenReturn(email);
+        return view;
+    }
+
     private ClienteRequest crearRequest() {
         return ClienteRequest.builder()
                 .nombre("Juan")
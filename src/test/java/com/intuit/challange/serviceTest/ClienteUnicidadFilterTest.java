@@ -0,0 +1,79 @@
+package com.intuit.challange.serviceTest;
+
+import com.intuit.challange.repository.ClienteRepository;
+import com.intuit.challange.repository.projection.ClienteClaveView;
+import com.intuit.challange.service.ClienteUnicidadFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClienteUnicidadFilterTest {
+
+    @Mock
+    private ClienteRepository repository;
+
+    @Test
+    @DisplayName("antes de la carga inicial todo 'puede existir'")
+    void sinCargar_noDescartaNada() {
+        ClienteUnicidadFilter filter = new ClienteUnicidadFilter(repository, true, 1000, 0.01);
+
+        assertTrue(filter.puedeExistirCuit("20-30123456-7"));
+        assertTrue(filter.puedeExistirEmail("juan@test.com"));
+    }
+
+    @Test
+    @DisplayName("cargado: los valores existentes 'pueden existir' y los nuevos se descartan")
+    void cargado_descartaValoresNuevos() {
+        ClienteClaveView existente = clave("20-30123456-7", "juan@test.com");
+        when(repository.streamClaves()).thenReturn(Stream.of(existente));
+        ClienteUnicidadFilter filter = new ClienteUnicidadFilter(repository, true, 1000, 0.01);
+
+        filter.cargar();
+
+        assertTrue(filter.puedeExistirCuit("20-30123456-7"));
+        assertTrue(filter.puedeExistirEmail("juan@test.com"));
+        assertFalse(filter.puedeExistirCuit("27-99999999-1"));
+        assertFalse(filter.puedeExistirEmail("nuevo@test.com"));
+    }
+
+    @Test
+    @DisplayName("registrar / registrarEmail - las altas posteriores a la carga se reflejan")
+    void registrar_actualizaFiltro() {
+        when(repository.streamClaves()).thenReturn(Stream.empty());
+        ClienteUnicidadFilter filter = new ClienteUnicidadFilter(repository, true, 1000, 0.01);
+        filter.cargar();
+
+        filter.registrar("20-11111111-1", "a@test.com");
+        filter.registrarEmail("b@test.com");
+
+        assertTrue(filter.puedeExistirCuit("20-11111111-1"));
+        assertTrue(filter.puedeExistirEmail("a@test.com"));
+        assertTrue(filter.puedeExistirEmail("b@test.com"));
+    }
+
+    @Test
+    @DisplayName("deshabilitado: no lee la base y nunca descarta")
+    void deshabilitado_noCarga() {
+        ClienteUnicidadFilter filter = new ClienteUnicidadFilter(repository, false, 1000, 0.01);
+
+        filter.cargar();
+
+        verifyNoInteractions(repository);
+        assertTrue(filter.puedeExistirCuit("27-99999999-1"));
+    }
+
+    private ClienteClaveView clave(String cuit, String email) {
+        ClienteClaveView view = mock(ClienteClaveView.class);
+        when(view.getCuit()).thenReturn(cuit);
+        when(view.getEmail()).thenReturn(email);
+        return view;
+    }
+}